@@ -0,0 +1,199 @@
+package seedu.address.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.athlete.Athlete;
+import seedu.address.model.athlete.AthleteList;
+import seedu.address.model.athlete.ReadOnlyAthleteList;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractList;
+import seedu.address.model.contract.ReadOnlyContractList;
+import seedu.address.model.organization.OrganizationList;
+import seedu.address.model.organization.ReadOnlyOrganizationList;
+import seedu.address.storage.ContractPartyIndex;
+import seedu.address.storage.JsonAthleteListStorage;
+import seedu.address.storage.JsonContractListStorage;
+import seedu.address.storage.JsonOrganizationListStorage;
+
+/**
+ * Reads the book in the given directory in several ways, and reports the heap each way retains after a forced
+ * garbage collection, so that changes to how the loaded data is held in memory can be measured.
+ * Run it with a fixed heap size, such as {@code -Xmx2g}, so that runs are comparable.
+ * <p>
+ * Usage: {@code HeapUsageHarness DIRECTORY}
+ */
+public class HeapUsageHarness {
+
+    private static final int GC_ROUNDS = 5;
+    private static final long GC_PAUSE_MILLIS = 100;
+    private static final double BYTES_PER_MEBIBYTE = 1024 * 1024;
+
+    private final SyntheticBookWriter.DataFiles files;
+
+    private HeapUsageHarness(Path directory) {
+        files = new SyntheticBookWriter.DataFiles(directory);
+    }
+
+    /**
+     * Reads the book in the directory given in {@code args} in each way, and prints the heap each retains.
+     */
+    public static void main(String[] args) throws DataLoadingException, InterruptedException {
+        if (args.length != 1) {
+            System.err.println("Usage: HeapUsageHarness DIRECTORY");
+            System.exit(1);
+        }
+        // Only warnings are logged, as every file read is logged at INFO
+        Config config = new Config();
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+
+        HeapUsageHarness harness = new HeapUsageHarness(Paths.get(args[0]));
+
+        Map<String, Scenario> scenarios = new LinkedHashMap<>();
+        scenarios.put("contracts not interned", () -> harness.readLists(false));
+        scenarios.put("contracts interned", () -> harness.readLists(true));
+        scenarios.put("model", () -> harness.readModel(false));
+        scenarios.put("model keeping copies of the loaded lists", () -> harness.readModel(true));
+        for (Map.Entry<String, Scenario> scenario : scenarios.entrySet()) {
+            measure(scenario.getKey(), scenario.getValue());
+        }
+    }
+
+    /**
+     * Reads the three data files, and points the contracts at the listed athletes and organizations
+     * if {@code isInterned}.
+     */
+    private LoadedLists readLists(boolean isInterned) throws DataLoadingException {
+        ReadOnlyAthleteList athletes = new JsonAthleteListStorage(files.athletes).readAthleteList()
+                .orElseGet(AthleteList::new);
+        ReadOnlyOrganizationList organizations = new JsonOrganizationListStorage(files.organizations)
+                .readOrganizationList().orElseGet(OrganizationList::new);
+        // Read on its own, the contract file refers to copies of the athletes and organizations it reads itself
+        ReadOnlyContractList contracts = new JsonContractListStorage(files.contracts, files.athletes,
+                files.organizations).readContractList().orElseGet(ContractList::new);
+        if (isInterned) {
+            contracts = new ContractPartyIndex(athletes.getAthleteList(), organizations.getOrganizationList())
+                    .intern(contracts);
+        }
+        return new LoadedLists(athletes, organizations, contracts);
+    }
+
+    /**
+     * Reads the three data files as the app does at startup, and builds a model from them.
+     * If {@code keepsListCopies}, copies of the loaded lists are kept besides the model, as the model used to
+     * keep them, so that the saving from keeping a single copy of the data can be measured.
+     */
+    private LoadedModel readModel(boolean keepsListCopies) throws DataLoadingException {
+        LoadedLists lists = readLists(true);
+        Model model = new ModelManager(new AddressBook(), new UserPrefs(), lists.athletes, lists.contracts,
+                lists.organizations);
+        List<Object> listCopies = keepsListCopies
+                ? List.of(new AthleteList(lists.athletes), new ContractList(lists.contracts),
+                        new OrganizationList(lists.organizations))
+                : List.of();
+        return new LoadedModel(model, listCopies);
+    }
+
+    /**
+     * Runs {@code scenario} and prints the heap retained by what it returns.
+     */
+    private static void measure(String name, Scenario scenario) throws DataLoadingException, InterruptedException {
+        long usedBefore = usedHeapAfterGc();
+        Object retained = scenario.run();
+        long usedAfter = usedHeapAfterGc();
+        System.out.printf("%-40s %8.1f MiB  %s%n", name, (usedAfter - usedBefore) / BYTES_PER_MEBIBYTE, retained);
+        Reference.reachabilityFence(retained);
+    }
+
+    /**
+     * Returns the heap in use after collecting garbage several times, so that only reachable objects are counted.
+     */
+    private static long usedHeapAfterGc() throws InterruptedException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < GC_ROUNDS; i++) {
+            System.gc();
+            Thread.sleep(GC_PAUSE_MILLIS);
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    /** A way of reading the book, which returns the objects it keeps in memory. */
+    @FunctionalInterface
+    private interface Scenario {
+        Object run() throws DataLoadingException;
+    }
+
+    /** A model built from the data files, and anything kept alongside it. */
+    private static class LoadedModel {
+        private final Model model;
+        private final List<Object> keptAlongside;
+
+        LoadedModel(Model model, List<Object> keptAlongside) {
+            this.model = model;
+            this.keptAlongside = keptAlongside;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("(%d athletes, %d organizations, %d contracts, %d lists kept alongside)",
+                    model.getAthleteList().getAthleteList().size(),
+                    model.getOrganizationList().getOrganizationList().size(),
+                    model.getContractList().getContractList().size(), keptAlongside.size());
+        }
+    }
+
+    /** The three lists read from the data files. */
+    private static class LoadedLists {
+        private final ReadOnlyAthleteList athletes;
+        private final ReadOnlyOrganizationList organizations;
+        private final ReadOnlyContractList contracts;
+
+        LoadedLists(ReadOnlyAthleteList athletes, ReadOnlyOrganizationList organizations,
+                    ReadOnlyContractList contracts) {
+            this.athletes = athletes;
+            this.organizations = organizations;
+            this.contracts = contracts;
+        }
+
+        /**
+         * Returns the number of athletes the contracts refer to that are not the instances in the athlete list.
+         */
+        private int countAthleteCopies() {
+            Set<Athlete> listed = Collections.newSetFromMap(new IdentityHashMap<>());
+            listed.addAll(athletes.getAthleteList());
+            Set<Athlete> copies = Collections.newSetFromMap(new IdentityHashMap<>());
+            List<Contract> contractList = contracts.getContractList();
+            for (Contract contract : contractList) {
+                if (!listed.contains(contract.getAthlete())) {
+                    copies.add(contract.getAthlete());
+                }
+            }
+            return copies.size();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("(%d athletes, %d organizations, %d contracts, %d athlete copies)",
+                    athletes.getAthleteList().size(), organizations.getOrganizationList().size(),
+                    contracts.getContractList().size(), countAthleteCopies());
+        }
+    }
+}
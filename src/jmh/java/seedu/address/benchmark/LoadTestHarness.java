@@ -0,0 +1,265 @@
+package seedu.address.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.athlete.Athlete;
+import seedu.address.model.athlete.AthleteList;
+import seedu.address.model.athlete.ReadOnlyAthleteList;
+import seedu.address.model.contract.ContractList;
+import seedu.address.model.contract.ReadOnlyContractList;
+import seedu.address.model.organization.Organization;
+import seedu.address.model.organization.OrganizationList;
+import seedu.address.model.organization.ReadOnlyOrganizationList;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonAthleteListStorage;
+import seedu.address.storage.JsonContractListStorage;
+import seedu.address.storage.JsonOrganizationListStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.StoredData;
+
+/**
+ * Replays a script of commands through {@link LogicManager#execute} without the UI, and reports the
+ * latency percentiles of each command word.
+ * The data files are copied from the given directory to a temporary one first, so that every run starts
+ * from the same book.
+ * <p>
+ * Each line of the script is one command, and lines starting with {@code #} are ignored.
+ * These placeholders are replaced before a command runs, and keep their values for one pass through the script:
+ * <ul>
+ *   <li>{@code {athleteName}} and {@code {athleteSport}}: a random athlete in the book</li>
+ *   <li>{@code {organizationName}}: a random organization in the book</li>
+ *   <li>{@code {uniqueName}}: a name that is not used by any other pass</li>
+ * </ul>
+ * <p>
+ * Usage: {@code LoadTestHarness DIRECTORY [SCRIPT] [PASSES]}
+ */
+public class LoadTestHarness {
+
+    private static final String DEFAULT_SCRIPT = "/loadtest/commands.txt";
+    private static final int DEFAULT_PASSES = 20;
+    private static final long SEED = 42;
+    private static final double[] PERCENTILES = {50, 90, 99};
+
+    private final LogicManager logic;
+    private final Model model;
+    private final Random random = new Random(SEED);
+    private final Map<String, List<Long>> latencies = new LinkedHashMap<>();
+    private final Map<String, Integer> failures = new LinkedHashMap<>();
+
+    private LoadTestHarness(Model model, Storage storage) {
+        this.model = model;
+        this.logic = new LogicManager(model, storage);
+    }
+
+    /**
+     * Loads the book in the directory given in {@code args}, replays the script and prints the latencies.
+     */
+    public static void main(String[] args) throws IOException, DataLoadingException {
+        if (args.length < 1 || args.length > 3) {
+            System.err.println("Usage: LoadTestHarness DIRECTORY [SCRIPT] [PASSES]");
+            System.exit(1);
+        }
+        Path dataDirectory = Paths.get(args[0]);
+        List<String> script = args.length > 1 ? readScript(Paths.get(args[1])) : readDefaultScript();
+        int passes = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_PASSES;
+
+        // Only warnings are logged, as LogicManager logs every command at INFO
+        Config config = new Config();
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+
+        // The copy of the book can be hundreds of megabytes, so it is deleted however the run ends
+        Path workDirectory = Files.createTempDirectory("playbook-loadtest");
+        boolean isSuccessful;
+        try {
+            isSuccessful = run(dataDirectory, workDirectory, script, passes);
+        } finally {
+            deleteDirectory(workDirectory);
+        }
+        if (!isSuccessful) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Copies the book in {@code dataDirectory} to {@code workDirectory}, loads it and replays {@code script} on it
+     * {@code passes} times.
+     *
+     * @return False if the book has no athlete or organization to run the script on.
+     */
+    private static boolean run(Path dataDirectory, Path workDirectory, List<String> script, int passes)
+            throws IOException, DataLoadingException {
+        Storage storage = copyToStorage(dataDirectory, workDirectory);
+
+        long loadStart = System.nanoTime();
+        Model model = loadModel(storage);
+        long loadNanos = System.nanoTime() - loadStart;
+        System.out.printf("Loaded %d athletes, %d organizations and %d contracts in %.1f ms%n",
+                model.getAthleteList().getAthleteList().size(),
+                model.getOrganizationList().getOrganizationList().size(),
+                model.getContractList().getContractList().size(), toMillis(loadNanos));
+
+        if (model.getAthleteList().getAthleteList().isEmpty()
+                || model.getOrganizationList().getOrganizationList().isEmpty()) {
+            System.err.println("The book needs at least one athlete and one organization to run the script on");
+            return false;
+        }
+
+        LoadTestHarness harness = new LoadTestHarness(model, storage);
+        for (int pass = 0; pass < passes; pass++) {
+            harness.runPass(script, pass);
+        }
+        harness.printReport();
+        return true;
+    }
+
+    /**
+     * Deletes {@code directory} and everything in it.
+     */
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static List<String> readDefaultScript() throws IOException {
+        try (InputStream in = LoadTestHarness.class.getResourceAsStream(DEFAULT_SCRIPT);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            return withoutComments(reader.lines().collect(Collectors.toList()));
+        }
+    }
+
+    private static List<String> readScript(Path scriptFile) throws IOException {
+        return withoutComments(Files.readAllLines(scriptFile, StandardCharsets.UTF_8));
+    }
+
+    private static List<String> withoutComments(List<String> lines) {
+        return lines.stream()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Copies the data files in {@code dataDirectory} to {@code workDirectory}, and returns a storage for the copies.
+     */
+    private static Storage copyToStorage(Path dataDirectory, Path workDirectory) throws IOException {
+        SyntheticBookWriter.DataFiles source = new SyntheticBookWriter.DataFiles(dataDirectory);
+        SyntheticBookWriter.DataFiles copy = new SyntheticBookWriter.DataFiles(workDirectory);
+        Files.copy(source.athletes, copy.athletes, StandardCopyOption.REPLACE_EXISTING);
+        Files.copy(source.organizations, copy.organizations, StandardCopyOption.REPLACE_EXISTING);
+        Files.copy(source.contracts, copy.contracts, StandardCopyOption.REPLACE_EXISTING);
+
+        return new StorageManager(new JsonAddressBookStorage(workDirectory.resolve("addressbook.json")),
+                new JsonUserPrefsStorage(workDirectory.resolve("preferences.json")),
+                new JsonAthleteListStorage(copy.athletes),
+                new JsonContractListStorage(copy.contracts, copy.athletes, copy.organizations),
+                new JsonOrganizationListStorage(copy.organizations));
+    }
+
+    /**
+     * Reads the data files in the same way as the app does at startup.
+     */
+    private static Model loadModel(Storage storage) throws DataLoadingException {
+        StoredData storedData = storage.readDataFiles();
+        ReadOnlyAthleteList athletes = storedData.getAthleteList().orElseGet(AthleteList::new);
+        ReadOnlyOrganizationList organizations = storedData.getOrganizationList().orElseGet(OrganizationList::new);
+        ReadOnlyContractList contracts = storedData.getContractList().orElseGet(ContractList::new);
+        return new ModelManager(new AddressBook(), new UserPrefs(), athletes, contracts, organizations);
+    }
+
+    private void runPass(List<String> script, int pass) {
+        List<Athlete> athletes = model.getAthleteList().getAthleteList();
+        List<Organization> organizations = model.getOrganizationList().getOrganizationList();
+        Athlete athlete = athletes.get(random.nextInt(athletes.size()));
+        Organization organization = organizations.get(random.nextInt(organizations.size()));
+        String uniqueName = "Load Test " + letters(pass);
+
+        for (String line : script) {
+            String commandText = line.replace("{athleteName}", athlete.getName().fullName)
+                    .replace("{athleteSport}", athlete.getSport().value)
+                    .replace("{organizationName}", organization.getName().fullOrganizationName)
+                    .replace("{uniqueName}", uniqueName);
+            execute(commandText);
+        }
+    }
+
+    private void execute(String commandText) {
+        String commandWord = commandText.split("\\s+", 2)[0];
+        long start = System.nanoTime();
+        try {
+            logic.execute(commandText);
+        } catch (CommandException | ParseException e) {
+            failures.merge(commandWord, 1, Integer::sum);
+        }
+        latencies.computeIfAbsent(commandWord, unused -> new ArrayList<>()).add(System.nanoTime() - start);
+    }
+
+    private void printReport() {
+        System.out.printf("%-12s %7s %7s %10s %10s %10s %10s%n",
+                "command", "count", "failed", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        for (Map.Entry<String, List<Long>> entry : latencies.entrySet()) {
+            long[] sorted = entry.getValue().stream().mapToLong(Long::longValue).sorted().toArray();
+            StringBuilder row = new StringBuilder(String.format("%-12s %7d %7d", entry.getKey(), sorted.length,
+                    failures.getOrDefault(entry.getKey(), 0)));
+            for (double percentile : PERCENTILES) {
+                row.append(String.format(" %10.2f", toMillis(percentile(sorted, percentile))));
+            }
+            row.append(String.format(" %10.2f", toMillis(sorted[sorted.length - 1])));
+            System.out.println(row);
+        }
+    }
+
+    /** Returns the nearest-rank {@code percentile} of the non-empty, sorted {@code values}. */
+    private static long percentile(long[] sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /** Returns {@code number} written with the letters A to Z, as names cannot contain digits. */
+    private static String letters(int number) {
+        StringBuilder builder = new StringBuilder();
+        int remaining = number;
+        do {
+            builder.append((char) ('A' + remaining % 26));
+            remaining /= 26;
+        } while (remaining > 0);
+        return builder.toString();
+    }
+}
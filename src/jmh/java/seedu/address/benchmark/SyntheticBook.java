@@ -0,0 +1,87 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.athlete.Athlete;
+import seedu.address.model.athlete.AthleteList;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractList;
+import seedu.address.model.organization.Organization;
+import seedu.address.model.organization.OrganizationList;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * The data a benchmark runs on, generated from a fixed seed for a given number of contracts.
+ * There is one athlete for every two contracts and one organization for every twenty.
+ */
+public class SyntheticBook {
+
+    /** The seed all benchmarks generate their data from, so that runs on different releases are comparable. */
+    public static final long SEED = 2103;
+
+    public final List<Athlete> athletes;
+    public final List<Organization> organizations;
+    public final List<Contract> contracts;
+
+    private SyntheticBook(List<Athlete> athletes, List<Organization> organizations, List<Contract> contracts) {
+        this.athletes = athletes;
+        this.organizations = organizations;
+        this.contracts = contracts;
+    }
+
+    /**
+     * Returns a book with {@code contractCount} contracts and the athletes and organizations they are between.
+     */
+    public static SyntheticBook ofSize(int contractCount) {
+        return ofSize(contractCount, SEED);
+    }
+
+    /**
+     * Returns a book with {@code contractCount} contracts, generated from {@code seed}.
+     */
+    public static SyntheticBook ofSize(int contractCount, long seed) {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(seed);
+        List<Athlete> athletes = generator.generateAthletes(Math.max(1, contractCount / 2));
+        List<Organization> organizations = generator.generateOrganizations(Math.max(1, contractCount / 20));
+        List<Contract> contracts = generator.generateContracts(contractCount, athletes, organizations);
+        return new SyntheticBook(athletes, organizations, contracts);
+    }
+
+    /**
+     * Returns a new athlete list holding the athletes of this book.
+     */
+    public AthleteList toAthleteList() {
+        AthleteList athleteList = new AthleteList();
+        athleteList.setAthletes(athletes);
+        return athleteList;
+    }
+
+    /**
+     * Returns a new organization list holding the organizations of this book.
+     */
+    public OrganizationList toOrganizationList() {
+        OrganizationList organizationList = new OrganizationList();
+        organizationList.setOrganizations(organizations);
+        return organizationList;
+    }
+
+    /**
+     * Returns a new contract list holding the contracts of this book.
+     */
+    public ContractList toContractList() {
+        ContractList contractList = new ContractList();
+        contractList.setContracts(contracts);
+        return contractList;
+    }
+
+    /**
+     * Returns a new model holding all the data of this book.
+     */
+    public ModelManager toModel() {
+        return new ModelManager(new AddressBook(), new UserPrefs(), toAthleteList(), toContractList(),
+                toOrganizationList());
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAthleteListStorage;
+import seedu.address.storage.JsonContractListStorage;
+import seedu.address.storage.JsonOrganizationListStorage;
+
+/**
+ * Writes the athlete, organization and contract files of a {@link SyntheticBook} to a directory,
+ * with the same file names the app uses, so that a production-sized book can be opened or load tested locally.
+ * <p>
+ * Usage: {@code SyntheticBookWriter DIRECTORY [CONTRACTS] [SEED]}
+ */
+public class SyntheticBookWriter {
+
+    private static final int DEFAULT_CONTRACT_COUNT = 100_000;
+
+    /**
+     * Writes the files of a synthetic book to the directory given in {@code args}.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 3) {
+            System.err.println("Usage: SyntheticBookWriter DIRECTORY [CONTRACTS] [SEED]");
+            System.exit(1);
+        }
+        Path directory = Paths.get(args[0]);
+        int contractCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_CONTRACT_COUNT;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : SyntheticBook.SEED;
+
+        SyntheticBook book = SyntheticBook.ofSize(contractCount, seed);
+        write(book, directory);
+        System.out.printf("Wrote %d athletes, %d organizations and %d contracts to %s%n",
+                book.athletes.size(), book.organizations.size(), book.contracts.size(), directory);
+    }
+
+    /**
+     * Writes the files of {@code book} to {@code directory}, replacing any files already there.
+     */
+    public static void write(SyntheticBook book, Path directory) throws IOException {
+        DataFiles files = new DataFiles(directory);
+        new JsonAthleteListStorage(files.athletes).saveAthleteList(book.toAthleteList());
+        new JsonOrganizationListStorage(files.organizations).saveOrganizationList(book.toOrganizationList());
+        new JsonContractListStorage(files.contracts, files.athletes, files.organizations)
+                .saveContractList(book.toContractList());
+    }
+
+    /**
+     * The paths of the data files in a directory, named as in the default {@link UserPrefs}.
+     */
+    static class DataFiles {
+        final Path athletes;
+        final Path organizations;
+        final Path contracts;
+
+        DataFiles(Path directory) {
+            UserPrefs defaults = new UserPrefs();
+            athletes = directory.resolve(defaults.getAthleteListFilePath().getFileName());
+            organizations = directory.resolve(defaults.getOrganizationListFilePath().getFileName());
+            contracts = directory.resolve(defaults.getContractListFilePath().getFileName());
+        }
+    }
+}
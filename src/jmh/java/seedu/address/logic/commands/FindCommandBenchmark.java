@@ -0,0 +1,74 @@
+package seedu.address.logic.commands;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.SyntheticBook;
+import seedu.address.logic.commands.FindCommand.SearchScope;
+import seedu.address.model.Model;
+
+/**
+ * Measures filtering the model with a {@code FindCommand} in each {@link SearchScope}.
+ * Each keyword has a typo, so that the fuzzy matching is exercised and not only the substring check.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindCommandBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    @Param
+    private SearchScope scope;
+
+    private Model model;
+    private String keyword;
+
+    /**
+     * Builds a model with {@code size} contracts and picks a keyword for the scope.
+     */
+    @Setup
+    public void setUp() {
+        model = SyntheticBook.ofSize(size).toModel();
+        keyword = keywordFor(scope);
+    }
+
+    private static String keywordFor(SearchScope scope) {
+        switch (scope) {
+        case ATHLETE_NAME:
+        case CONTRACT_ATHLETE:
+            return "Garcai";
+        case ATHLETE_SPORT:
+        case CONTRACT_SPORT:
+            return "Basketbal";
+        case ORGANIZATION_NAME:
+        case CONTRACT_ORGANIZATION:
+            return "Horizn";
+        default:
+            throw new IllegalArgumentException("Unknown scope: " + scope);
+        }
+    }
+
+    /**
+     * Filters the list searched in the scope with its keyword.
+     */
+    @Benchmark
+    public CommandResult execute() {
+        return new FindCommand(scope, keyword).execute(model);
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.model.contract;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.address.benchmark.SyntheticBook;
+import seedu.address.model.athlete.Athlete;
+
+/**
+ * Measures the contract aggregates that each {@code AthleteCard} shows, which are the athlete's total
+ * contract amount and organizations, and building the index they are read from.
+ * The card itself needs the JavaFX toolkit, so only the computations behind it are measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContractAggregateIndexBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private List<Athlete> athletes;
+    private List<Contract> contracts;
+    private ContractAggregateIndex index;
+    private int nextAthlete;
+
+    /**
+     * Builds the index for a book with {@code size} contracts.
+     */
+    @Setup
+    public void setUp() {
+        SyntheticBook book = SyntheticBook.ofSize(size);
+        athletes = book.athletes;
+        contracts = book.contracts;
+        index = new ContractAggregateIndex(contracts);
+    }
+
+    /**
+     * Reads the aggregates shown on the card of the next athlete.
+     */
+    @Benchmark
+    public void athleteCardAggregates(Blackhole blackhole) {
+        Athlete athlete = athletes.get(nextAthlete);
+        nextAthlete = (nextAthlete + 1) % athletes.size();
+        blackhole.consume(index.getTotalContractAmount(athlete));
+        blackhole.consume(index.getOrganizations(athlete));
+    }
+
+    /**
+     * Rebuilds the index from all the contracts, as is done when the data is reset.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ContractAggregateIndex resetData() {
+        index.resetData(contracts);
+        return index;
+    }
+}
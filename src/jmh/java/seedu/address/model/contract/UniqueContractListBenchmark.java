@@ -0,0 +1,74 @@
+package seedu.address.model.contract;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.SyntheticBook;
+
+/**
+ * Measures adding contracts to, and looking them up in, a {@code UniqueContractList}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniqueContractListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private UniqueContractList contracts;
+    private Contract storedContract;
+    private Contract newContract;
+
+    /**
+     * Fills the list with {@code size} contracts, and keeps one more contract aside to add.
+     */
+    @Setup
+    public void setUp() {
+        List<Contract> generated = SyntheticBook.ofSize(size + 1).contracts;
+        contracts = new UniqueContractList();
+        contracts.setContracts(generated.subList(0, size));
+        storedContract = generated.get(size / 2);
+        newContract = generated.get(size);
+    }
+
+    /**
+     * Adds a contract and removes it again, so that every invocation starts from the same list.
+     */
+    @Benchmark
+    public void addThenRemove() {
+        contracts.add(newContract);
+        contracts.remove(newContract);
+    }
+
+    /**
+     * Looks up a contract that is in the list.
+     */
+    @Benchmark
+    public boolean containsStored() {
+        return contracts.contains(storedContract);
+    }
+
+    /**
+     * Looks up a contract that is not in the list.
+     */
+    @Benchmark
+    public boolean containsAbsent() {
+        return contracts.contains(newContract);
+    }
+}
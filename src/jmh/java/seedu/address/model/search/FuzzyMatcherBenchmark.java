@@ -0,0 +1,106 @@
+package seedu.address.model.search;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.SyntheticBook;
+
+/**
+ * Compares {@link FuzzyMatcher#matches(String, String)}, which stops computing the edit distance once it
+ * exceeds the allowed distance, with the earlier matcher that computed the full distance and split the
+ * text into words with a regular expression.
+ * Both matchers are run over the lowercase names of 10,000 athletes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FuzzyMatcherBenchmark {
+
+    private static final int NAME_COUNT = 10_000;
+    private static final Pattern WORD_PATTERN = Pattern.compile("[\\p{Alnum}]+");
+
+    @Param({"garcia", "garcai", "fernandes", "zzzzzz", "maria lopes"})
+    private String keyword;
+
+    private List<String> names;
+
+    /**
+     * Generates the athlete names to match against.
+     */
+    @Setup
+    public void setUp() {
+        names = SyntheticBook.ofSize(NAME_COUNT * 2).athletes.stream()
+                .map(athlete -> athlete.getName().fullName.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Counts the names matched by {@link FuzzyMatcher}.
+     */
+    @Benchmark
+    public int boundedMatcher() {
+        int matches = 0;
+        for (String name : names) {
+            if (FuzzyMatcher.matches(name, keyword)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Counts the names matched by the earlier matcher, which gives the same results.
+     */
+    @Benchmark
+    public int fullDistanceMatcher() {
+        int matches = 0;
+        for (String name : names) {
+            if (matchesWithFullDistance(name, keyword)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private static boolean matchesWithFullDistance(String haystackLower, String needleLower) {
+        if (haystackLower.contains(needleLower)) {
+            return true;
+        }
+
+        int allowedDistance = FuzzyMatcher.allowableDistance(needleLower.length());
+        if (allowedDistance == 0) {
+            return false;
+        }
+
+        if (FuzzyMatcher.levenshteinDistance(haystackLower, needleLower) <= allowedDistance) {
+            return true;
+        }
+
+        Matcher matcher = WORD_PATTERN.matcher(haystackLower);
+        while (matcher.find()) {
+            if (FuzzyMatcher.levenshteinDistance(matcher.group(), needleLower) <= allowedDistance) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.SyntheticBook;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.contract.ContractList;
+import seedu.address.model.contract.ReadOnlyContractList;
+
+/**
+ * Measures reading and saving a contract list file, including checking every contract against the
+ * athlete and organization files, and reading all three files together as the app does at startup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonContractListStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private Path directory;
+    private JsonContractListStorage storage;
+    private StorageManager storageManager;
+    private ContractList contracts;
+    private Path savePath;
+
+    /**
+     * Writes the athlete, organization and contract files of a book with {@code size} contracts.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        SyntheticBook book = SyntheticBook.ofSize(size);
+        directory = Files.createTempDirectory("jmh-storage");
+        Path athletesPath = directory.resolve("athletes.json");
+        Path organizationsPath = directory.resolve("organizations.json");
+        Path contractsPath = directory.resolve("contracts.json");
+
+        new JsonAthleteListStorage(athletesPath).saveAthleteList(book.toAthleteList());
+        new JsonOrganizationListStorage(organizationsPath).saveOrganizationList(book.toOrganizationList());
+        contracts = book.toContractList();
+        storage = new JsonContractListStorage(contractsPath, athletesPath, organizationsPath);
+        storage.saveContractList(contracts);
+        storageManager = new StorageManager(new JsonAddressBookStorage(directory.resolve("addressbook.json")),
+                new JsonUserPrefsStorage(directory.resolve("preferences.json")),
+                new JsonAthleteListStorage(athletesPath), storage, new JsonOrganizationListStorage(organizationsPath));
+        savePath = directory.resolve("saved-contracts.json");
+    }
+
+    /**
+     * Deletes the files written by the benchmark.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Reads the contract list file.
+     */
+    @Benchmark
+    public Optional<ReadOnlyContractList> readContractList() throws DataLoadingException {
+        return storage.readContractList();
+    }
+
+    /**
+     * Reads the athlete, organization and contract files together, parsing each of them once.
+     */
+    @Benchmark
+    public StoredData readDataFiles() throws DataLoadingException {
+        return storageManager.readDataFiles();
+    }
+
+    /**
+     * Saves the contract list to a file of its own, replacing the one saved by the previous invocation.
+     */
+    @Benchmark
+    public void saveContractList() throws IOException {
+        storage.saveContractList(contracts, savePath);
+    }
+}
@@ -6,19 +6,23 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupTimeline;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.MetricsDumper;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.ModelData;
 import seedu.address.model.ModelManager;
-import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.athlete.ReadOnlyAthleteList;
@@ -28,6 +32,7 @@ import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.AthleteListStorage;
 import seedu.address.storage.ContractListStorage;
+import seedu.address.storage.JournalStorageManager;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonAthleteListStorage;
 import seedu.address.storage.JsonContractListStorage;
@@ -36,6 +41,7 @@ import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.OrganizationListStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.StoredData;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
@@ -54,21 +60,30 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected MetricsDumper metricsDumper;
+
+    private final StartupTimeline startupTimeline = new StartupTimeline();
+    private boolean isLoadingInBackground;
 
     /**
      * Initializes the application, including configuration, storage, model, logic, and UI.
+     * In fast start mode, the model is left empty and the data files are loaded once the UI is shown.
      */
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
 
+        StartupTimeline.Phase phase = startupTimeline.startPhase("read config");
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
+        phase.end();
 
+        phase = startupTimeline.startPhase("read user prefs");
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        phase.end();
         AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
         AthleteListStorage athleteListStorage = new JsonAthleteListStorage(userPrefs.getAthleteListFilePath());
         ContractListStorage contractListStorage = new JsonContractListStorage(
@@ -79,12 +94,34 @@ public class MainApp extends Application {
                 userPrefs.getOrganizationListFilePath());
         storage = new StorageManager(addressBookStorage, userPrefsStorage, athleteListStorage,
                 contractListStorage, organizationListStorage);
+        if (config.shouldUseJournalStorage()) {
+            Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+            storage = new JournalStorageManager(storage,
+                    addressBookFilePath.resolveSibling(JournalStorageManager.DEFAULT_SNAPSHOT_FILE_NAME),
+                    addressBookFilePath.resolveSibling(JournalStorageManager.DEFAULT_JOURNAL_FILE_NAME));
+        }
 
-        model = initModelManager(storage, userPrefs);
+        isLoadingInBackground = config.shouldUseFastStart();
+        if (isLoadingInBackground) {
+            logger.info("Fast start: data files will be loaded after the UI is shown.");
+            model = new ModelManager(new AddressBook(), userPrefs, SampleDataUtil.getEmptyAthleteList(),
+                    SampleDataUtil.getEmptyContractList(), SampleDataUtil.getEmptyOrganizationList());
+        } else {
+            model = initModelManager(storage, userPrefs);
+        }
 
-        logic = new LogicManager(model, storage);
+        phase = startupTimeline.startPhase("create logic and UI");
+        CommandMetrics commandMetrics = new CommandMetrics();
+        logic = new LogicManager(model, storage, Math.max(0, config.getWriteBehindDelayMillis()), commandMetrics);
+        if (config.getMetricsDumpIntervalSeconds() > 0) {
+            metricsDumper = new MetricsDumper(commandMetrics, config.getMetricsFilePath(),
+                    config.getMetricsDumpIntervalSeconds());
+            metricsDumper.start();
+        }
+        logic.setDataLoading(isLoadingInBackground);
 
         ui = new UiManager(logic);
+        phase.end();
     }
 
     /**
@@ -110,34 +147,76 @@ public class MainApp extends Application {
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Initializing ModelManager...");
-        ReadOnlyAddressBook initialData = new AddressBook();
-        ReadOnlyAthleteList initialAthleteList;
-        ReadOnlyContractList initialContractList;
-        ReadOnlyOrganizationList initialOrganizationList;
+        InitialData data = readInitialData(storage);
+        StartupTimeline.Phase phase = startupTimeline.startPhase("create model");
+        Model initializedModel = new ModelManager(new AddressBook(), userPrefs, data.athletes, data.contracts,
+                data.organizations);
+        phase.end();
+        return initializedModel;
+    }
+
+    /**
+     * Reads the athlete, contract and organization lists from {@code storage} together, timing the read,
+     * and resets them as described in {@link #initModelManager}.
+     */
+    private InitialData readInitialData(Storage storage) {
         try {
-            Optional<ReadOnlyAthleteList> athleteOpt = storage.readAthleteList();
-            Optional<ReadOnlyContractList> contractOpt = storage.readContractList();
-            Optional<ReadOnlyOrganizationList> orgOpt = storage.readOrganizationList();
-            initialAthleteList = athleteOpt.orElse(SampleDataUtil.getEmptyAthleteList());
-            initialContractList = contractOpt.orElse(SampleDataUtil.getEmptyContractList());
-            initialOrganizationList = orgOpt.orElse(SampleDataUtil.getEmptyOrganizationList());
+            StartupTimeline.Phase phase = startupTimeline.startPhase("read data files");
+            StoredData storedData = storage.readDataFiles();
+            phase.end();
+
+            ReadOnlyAthleteList initialAthleteList =
+                    storedData.getAthleteList().orElse(SampleDataUtil.getEmptyAthleteList());
+            ReadOnlyContractList initialContractList =
+                    storedData.getContractList().orElse(SampleDataUtil.getEmptyContractList());
+            ReadOnlyOrganizationList initialOrganizationList =
+                    storedData.getOrganizationList().orElse(SampleDataUtil.getEmptyOrganizationList());
             // Reset all if contracts exist but either athlete or organization list is empty
             if (!initialContractList.getContractList().isEmpty()
                     && (initialAthleteList.getAthleteList().isEmpty()
                     || initialOrganizationList.getOrganizationList().isEmpty())) {
                 logger.info("Contracts exist but athlete/org data missing. Resetting all lists.");
-                initialAthleteList = SampleDataUtil.getEmptyAthleteList();
-                initialContractList = SampleDataUtil.getEmptyContractList();
-                initialOrganizationList = SampleDataUtil.getEmptyOrganizationList();
+                return new InitialData();
             }
+            return new InitialData(initialAthleteList, initialContractList, initialOrganizationList);
         } catch (DataLoadingException e) {
             logger.warning("Failed to load data files. Resetting all lists.");
-            initialAthleteList = SampleDataUtil.getEmptyAthleteList();
-            initialContractList = SampleDataUtil.getEmptyContractList();
-            initialOrganizationList = SampleDataUtil.getEmptyOrganizationList();
+            return new InitialData();
         }
-        return new ModelManager(initialData, userPrefs, initialAthleteList, initialContractList,
-                initialOrganizationList);
+    }
+
+    /**
+     * Reads the data files and builds the model's data from them on a background thread, then puts the data into
+     * the model on the JavaFX thread and allows commands that change data again.
+     * If loading fails, even with an {@code Error} such as running out of memory, the user is told instead and
+     * commands that change data stay disabled.
+     */
+    private void loadDataInBackground() {
+        Thread loader = new Thread(() -> {
+            try {
+                InitialData data = readInitialData(storage);
+                // The lists and every index over them are built here, so that the JavaFX thread only swaps them in
+                StartupTimeline.Phase phase = startupTimeline.startPhase("build address book");
+                ModelData loadedData = data.toModelData();
+                phase.end();
+                Platform.runLater(() -> {
+                    StartupTimeline.Phase showPhase = startupTimeline.startPhase("show data");
+                    model.setAddressBook(loadedData);
+                    logic.setDataLoading(false);
+                    showPhase.end();
+                    startupTimeline.finish();
+                });
+            } catch (Throwable e) {
+                // The data is left read-only, so that the files are not overwritten with the empty model
+                logger.severe("Failed to load data in the background " + StringUtil.getDetails(e));
+                Platform.runLater(() -> {
+                    logic.setDataLoadFailed();
+                    startupTimeline.finish();
+                });
+            }
+        }, "data-loader");
+        loader.setDaemon(true);
+        loader.start();
     }
 
     private void initLogging(Config config) {
@@ -223,16 +302,34 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
+        StartupTimeline.Phase phase = startupTimeline.startPhase("show UI");
         ui.start(primaryStage);
+        phase.end();
         logger.info("UI started successfully.");
+
+        if (isLoadingInBackground) {
+            loadDataInBackground();
+        } else {
+            startupTimeline.finish();
+        }
     }
 
     /**
-     * Stops the application, saving user preferences before exit.
+     * Stops the application, saving any unsaved data and user preferences before exit.
      */
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        if (logic != null) {
+            try {
+                logic.flushPendingSaves();
+            } catch (IOException e) {
+                logger.severe("Failed to save data " + StringUtil.getDetails(e));
+            }
+        }
+        if (metricsDumper != null) {
+            metricsDumper.stop();
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
             logger.info("User preferences saved successfully.");
@@ -240,4 +337,35 @@ public class MainApp extends Application {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
     }
+
+    /**
+     * The lists read from the data files when the app starts.
+     */
+    private static class InitialData {
+        private final ReadOnlyAthleteList athletes;
+        private final ReadOnlyContractList contracts;
+        private final ReadOnlyOrganizationList organizations;
+
+        /** Creates {@code InitialData} with empty lists. */
+        InitialData() {
+            this(SampleDataUtil.getEmptyAthleteList(), SampleDataUtil.getEmptyContractList(),
+                    SampleDataUtil.getEmptyOrganizationList());
+        }
+
+        InitialData(ReadOnlyAthleteList athletes, ReadOnlyContractList contracts,
+                ReadOnlyOrganizationList organizations) {
+            this.athletes = athletes;
+            this.contracts = contracts;
+            this.organizations = organizations;
+        }
+
+        /** Returns the lists in an AddressBook, with the indexes the model keeps over it built. */
+        ModelData toModelData() {
+            AddressBook addressBook = new AddressBook();
+            addressBook.setOrganizations(organizations.getOrganizationList());
+            addressBook.setAthletes(athletes.getAthleteList());
+            addressBook.setContracts(contracts.getContractList());
+            return new ModelData(addressBook);
+        }
+    }
 }
@@ -17,6 +17,11 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long writeBehindDelayMillis = 0;
+    private boolean useJournalStorage = false;
+    private boolean useFastStart = false;
+    private Path metricsFilePath = Paths.get("metrics.txt");
+    private long metricsDumpIntervalSeconds = 60;
 
     /**
      * Returns the current log level.
@@ -54,6 +59,100 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns how long data changes are held before being written to storage in the background.
+     * A delay of 0 means changes are saved before each command returns.
+     *
+     * @return The write-behind delay in milliseconds.
+     */
+    public long getWriteBehindDelayMillis() {
+        return writeBehindDelayMillis;
+    }
+
+    /**
+     * Sets how long data changes are held before being written to storage in the background.
+     *
+     * @param writeBehindDelayMillis The write-behind delay in milliseconds, or 0 to save synchronously.
+     */
+    public void setWriteBehindDelayMillis(long writeBehindDelayMillis) {
+        this.writeBehindDelayMillis = writeBehindDelayMillis;
+    }
+
+    /**
+     * Returns true if app data should be stored as a snapshot plus an append-only journal of changes,
+     * instead of rewriting the data files on every save.
+     *
+     * @return Whether journal storage is used.
+     */
+    public boolean shouldUseJournalStorage() {
+        return useJournalStorage;
+    }
+
+    /**
+     * Sets whether app data should be stored as a snapshot plus an append-only journal of changes.
+     *
+     * @param useJournalStorage True to use journal storage.
+     */
+    public void setUseJournalStorage(boolean useJournalStorage) {
+        this.useJournalStorage = useJournalStorage;
+    }
+
+    /**
+     * Returns true if the main window should be shown before the data files are loaded,
+     * with the data loaded in the background.
+     *
+     * @return Whether fast start is used.
+     */
+    public boolean shouldUseFastStart() {
+        return useFastStart;
+    }
+
+    /**
+     * Sets whether the main window should be shown before the data files are loaded.
+     *
+     * @param useFastStart True to load the data files in the background.
+     */
+    public void setUseFastStart(boolean useFastStart) {
+        this.useFastStart = useFastStart;
+    }
+
+    /**
+     * Returns the file that the command metrics are written to periodically.
+     *
+     * @return The path to the metrics file.
+     */
+    public Path getMetricsFilePath() {
+        return metricsFilePath;
+    }
+
+    /**
+     * Sets the file that the command metrics are written to periodically.
+     *
+     * @param metricsFilePath The path to set for the metrics file.
+     */
+    public void setMetricsFilePath(Path metricsFilePath) {
+        this.metricsFilePath = metricsFilePath;
+    }
+
+    /**
+     * Returns how often the command metrics are written to the metrics file.
+     * An interval of 0 means the metrics are not written.
+     *
+     * @return The interval in seconds.
+     */
+    public long getMetricsDumpIntervalSeconds() {
+        return metricsDumpIntervalSeconds;
+    }
+
+    /**
+     * Sets how often the command metrics are written to the metrics file.
+     *
+     * @param metricsDumpIntervalSeconds The interval in seconds, or 0 to not write the metrics.
+     */
+    public void setMetricsDumpIntervalSeconds(long metricsDumpIntervalSeconds) {
+        this.metricsDumpIntervalSeconds = metricsDumpIntervalSeconds;
+    }
+
     /**
      * Returns true if both Config objects have the same configuration values.
      *
@@ -73,17 +172,23 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && writeBehindDelayMillis == otherConfig.writeBehindDelayMillis
+                && useJournalStorage == otherConfig.useJournalStorage
+                && useFastStart == otherConfig.useFastStart
+                && Objects.equals(metricsFilePath, otherConfig.metricsFilePath)
+                && metricsDumpIntervalSeconds == otherConfig.metricsDumpIntervalSeconds;
     }
 
     /**
      * Returns the hash code for this Config object.
      *
-     * @return The hash code based on logLevel and userPrefsFilePath.
+     * @return The hash code based on the configuration values.
      */
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, writeBehindDelayMillis, useJournalStorage,
+                useFastStart, metricsFilePath, metricsDumpIntervalSeconds);
     }
 
     /**
@@ -96,6 +201,11 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("writeBehindDelayMillis", writeBehindDelayMillis)
+                .add("useJournalStorage", useJournalStorage)
+                .add("useFastStart", useFastStart)
+                .add("metricsFilePath", metricsFilePath)
+                .add("metricsDumpIntervalSeconds", metricsDumpIntervalSeconds)
                 .toString();
     }
 
@@ -0,0 +1,87 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Records how long each phase of the app's startup takes, and logs it.
+ * Phases may run on different threads, such as data files being loaded in the background while the UI is shown.
+ */
+public class StartupTimeline {
+
+    private static final Logger logger = LogsCenter.getLogger(StartupTimeline.class);
+
+    private final long startNanos;
+    private final List<String> summaries = new ArrayList<>();
+
+    /**
+     * Creates a {@code StartupTimeline} that measures the total startup time from now.
+     */
+    public StartupTimeline() {
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Starts timing the phase called {@code name}. Call {@link Phase#end()} when it finishes.
+     */
+    public Phase startPhase(String name) {
+        requireNonNull(name);
+        return new Phase(name, System.nanoTime());
+    }
+
+    /**
+     * Logs the total startup time together with the time taken by each phase that has ended, in the order
+     * they ended.
+     */
+    public synchronized void finish() {
+        logger.info(String.format("Startup took %d ms (%s)", toMillis(System.nanoTime() - startNanos),
+                String.join(", ", summaries)));
+    }
+
+    /**
+     * Returns the summaries of the phases that have ended, such as {@code "read config 12 ms"}, in the order
+     * they ended.
+     */
+    public synchronized List<String> getPhaseSummaries() {
+        return new ArrayList<>(summaries);
+    }
+
+    private synchronized void record(String name, long nanos) {
+        String summary = name + " " + toMillis(nanos) + " ms";
+        summaries.add(summary);
+        logger.info("Startup phase: " + summary);
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * A phase of the startup that is being timed.
+     */
+    public class Phase {
+        private final String name;
+        private final long phaseStartNanos;
+        private boolean hasEnded;
+
+        private Phase(String name, long phaseStartNanos) {
+            this.name = name;
+            this.phaseStartNanos = phaseStartNanos;
+        }
+
+        /**
+         * Records and logs the time taken by this phase. Calling this again has no effect.
+         */
+        public void end() {
+            if (hasEnded) {
+                return;
+            }
+            hasEnded = true;
+            record(name, System.nanoTime() - phaseStartNanos);
+        }
+    }
+}
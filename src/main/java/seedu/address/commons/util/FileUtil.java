@@ -1,10 +1,19 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Writes and reads files
@@ -12,6 +21,10 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
+
+    private static final LongAdder bytesWritten = new LongAdder();
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -77,7 +90,117 @@ public class FileUtil {
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        Files.write(file, bytes);
+        bytesWritten.add(bytes.length);
+    }
+
+    /**
+     * Appends {@code content} to a file and forces it to the disk.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static void appendToFile(Path file, byte[] content) throws IOException {
+        createParentDirsOfFile(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        bytesWritten.add(content.length);
+    }
+
+    /**
+     * Returns the number of bytes written to files by this class since the app started,
+     * so that the bytes written by an operation can be found from the difference before and after it.
+     */
+    public static long getBytesWritten() {
+        return bytesWritten.sum();
     }
 
+    /**
+     * Replaces the content of a file with the content written by {@code contentWriter}, such that a crash
+     * at any point leaves either the old or the new content in place.
+     * The content is written to a temporary file in the same directory and forced to the disk,
+     * then moved over the file in a single step.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static void writeAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        replaceAtomically(file, contentWriter, false);
+    }
+
+    /**
+     * Similar to {@link #writeAtomically}, but keeps the content being replaced as a backup at
+     * {@link #getBackupPath}. The backup holds the previous version of the file, so it can be read
+     * if the file is missing or cannot be read.
+     */
+    public static void writeAtomicallyWithBackup(Path file, ContentWriter contentWriter) throws IOException {
+        replaceAtomically(file, contentWriter, true);
+    }
+
+    /**
+     * Returns the path of the backup kept by {@link #writeAtomicallyWithBackup} for the given file.
+     */
+    public static Path getBackupPath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    private static void replaceAtomically(Path file, ContentWriter contentWriter, boolean shouldKeepBackup)
+            throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+                contentWriter.write(out);
+                out.flush();
+                channel.force(true);
+                bytesWritten.add(channel.size());
+            }
+
+            // If a crash comes between the two moves, only the backup is left, and readers fall back to it
+            if (shouldKeepBackup && isFileExists(file)) {
+                move(file, getBackupPath(file));
+            }
+            move(tempFile, file);
+            forceDirectory(file.toAbsolutePath().getParent());
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the moves within {@code directory} to the disk, on platforms that allow a directory to be opened.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Not supported on this platform; the moves are still made, just not forced to the disk yet
+        }
+    }
+
+    /**
+     * Writes the content of a file replaced by {@link #writeAtomically}.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}, which must not be closed.
+         *
+         * @throws IOException if there was an error during writing.
+         */
+        void write(OutputStream out) throws IOException;
+    }
 }
@@ -3,6 +3,7 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,7 +12,13 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -22,6 +29,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -48,7 +56,8 @@ public class JsonUtil {
      * @throws IOException If there is an error writing to the file.
      */
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        byte[] content = toJsonString(objectToSerialize).getBytes(StandardCharsets.UTF_8);
+        FileUtil.writeAtomically(jsonFile, out -> out.write(content));
     }
 
     /**
@@ -94,9 +103,65 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Reads the elements of the array in field {@code arrayFieldName} of the JSON object in the given file,
+     * passing each element to {@code elementConsumer} as soon as it is read.
+     * Unlike {@link #readJsonFile}, neither the file contents nor the whole array are held in memory at once.
+     * Other fields of the object are skipped, and a missing or null array field is read as an empty array.
+     *
+     * @param filePath cannot be null.
+     * @param elementType JSON array elements have to correspond to the structure in the class given here.
+     * @return false if the file is not found.
+     * @throws DataLoadingException if reading the file failed or it is not in the expected format.
+     * @throws IllegalValueException if {@code elementConsumer} rejected an element.
+     */
+    public static <T> boolean readJsonArrayElements(Path filePath, String arrayFieldName, Class<T> elementType,
+            ElementConsumer<? super T> elementConsumer) throws DataLoadingException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(arrayFieldName);
+
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(Files.newInputStream(filePath))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                boolean isArrayField = arrayFieldName.equals(parser.getCurrentName());
+                JsonToken valueToken = parser.nextToken();
+                if (!isArrayField || valueToken == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (valueToken != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected an array in field " + arrayFieldName);
+                }
+                readArrayElements(parser, elementType, elementConsumer);
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        return true;
+    }
+
+    private static <T> void readArrayElements(JsonParser parser, Class<T> elementType,
+            ElementConsumer<? super T> elementConsumer) throws IOException, IllegalValueException {
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            if (token == null || token == JsonToken.VALUE_NULL) {
+                throw new JsonParseException(parser, "Expected an array element");
+            }
+            elementConsumer.accept(objectMapper.readValue(parser, elementType));
+        }
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * The file is replaced atomically, so a failed save leaves the existing file intact.
      * @param jsonFile cannot be null
      * @param filePath cannot be null
      * @throws IOException if there was an error during writing to the file
@@ -108,6 +173,38 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Saves the given elements to the specified file as the array in field {@code arrayFieldName} of a JSON object,
+     * in the same format as {@link #saveJsonFile} would write an object with only that field.
+     * Each element is written by {@code elementWriter} as it is reached, without building an object tree first.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * The file is replaced atomically, and the replaced file is kept at {@link FileUtil#getBackupPath}.
+     *
+     * @param filePath cannot be null.
+     * @throws IOException if there was an error during writing to the file.
+     */
+    public static <T> void saveJsonArray(Path filePath, String arrayFieldName, Iterable<? extends T> elements,
+            ElementWriter<? super T> elementWriter) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(arrayFieldName);
+        requireNonNull(elements);
+
+        FileUtil.writeAtomicallyWithBackup(filePath, out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setPrettyPrinter(new DefaultPrettyPrinter());
+                generator.writeStartObject();
+                generator.writeFieldName(arrayFieldName);
+                generator.writeStartArray();
+                for (T element : elements) {
+                    elementWriter.write(generator, element);
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        });
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -127,6 +224,42 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, without line breaks
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, on a single line
+     */
+    public static <T> String toSingleLineJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Receives the elements read by {@link #readJsonArrayElements}.
+     */
+    @FunctionalInterface
+    public interface ElementConsumer<T> {
+        /**
+         * Accepts one element of the array.
+         *
+         * @throws IllegalValueException if the element is rejected, which stops the reading.
+         */
+        void accept(T element) throws IllegalValueException;
+    }
+
+    /**
+     * Writes the elements saved by {@link #saveJsonArray}.
+     */
+    @FunctionalInterface
+    public interface ElementWriter<T> {
+        /**
+         * Writes one element of the array as a JSON value.
+         *
+         * @throws IOException if there was an error during writing.
+         */
+        void write(JsonGenerator generator, T element) throws IOException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
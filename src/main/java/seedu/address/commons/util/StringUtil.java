@@ -65,4 +65,48 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns {@code s} trimmed, with every run of whitespace collapsed into a single space.
+     * Gives the same result as {@code s.trim().replaceAll("\\s+", " ")}, but without a regex,
+     * and returns {@code s} itself when it is already in that form.
+     *
+     * @throws NullPointerException if {@code s} is null.
+     */
+    public static String normaliseWhitespace(String s) {
+        requireNonNull(s);
+        String trimmed = s.trim();
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            // a trimmed string never ends with whitespace, so i + 1 is in range
+            if (isWhitespace(c) && (c != ' ' || isWhitespace(trimmed.charAt(i + 1)))) {
+                return collapseWhitespace(trimmed, i);
+            }
+        }
+        return trimmed;
+    }
+
+    private static String collapseWhitespace(String trimmed, int start) {
+        StringBuilder builder = new StringBuilder(trimmed.length());
+        builder.append(trimmed, 0, start);
+        boolean isInWhitespace = false;
+        for (int i = start; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (isWhitespace(c)) {
+                isInWhitespace = true;
+                continue;
+            }
+            if (isInWhitespace) {
+                builder.append(' ');
+                isInWhitespace = false;
+            }
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+
+    /** Returns true if {@code c} is matched by the regex {@code \s}. */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
 }
@@ -1,7 +1,9 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
@@ -10,6 +12,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.athlete.Athlete;
 import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractAggregateIndex;
 import seedu.address.model.organization.Organization;
 
 /**
@@ -25,6 +28,36 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Writes any data changes that have not been saved to storage yet.
+     * Called when the app is exiting, so that changes queued for a background write are not lost.
+     * @throws IOException If the data could not be written.
+     */
+    void flushPendingSaves() throws IOException;
+
+    /**
+     * Sets whether the data files are still being loaded in the background.
+     * While they are, commands that change data are rejected, so that the partially loaded data is never saved.
+     * When loading finishes, the data in the model is taken to match storage and is not saved again.
+     */
+    void setDataLoading(boolean isDataLoading);
+
+    /**
+     * Returns a property that is true while the data files are being loaded in the background.
+     */
+    ReadOnlyBooleanProperty dataLoadingProperty();
+
+    /**
+     * Records that the data files could not be loaded in the background, and stops loading.
+     * Commands that change data stay rejected, so that the empty model is never saved over the data files.
+     */
+    void setDataLoadFailed();
+
+    /**
+     * Returns a property that becomes true if the data files could not be loaded in the background.
+     */
+    ReadOnlyBooleanProperty dataLoadFailedProperty();
+
     /**
      * Returns the AddressBook.
      *
@@ -68,4 +101,11 @@ public interface Logic {
 
     /** Returns an unmodifiable view of the filtered list of Organizations */
     ObservableList<Organization> getAllOrganizationList();
+
+    /**
+     * Returns the per-athlete and per-organization contract aggregates.
+     *
+     * @see seedu.address.model.Model#getContractAggregateIndex()
+     */
+    ContractAggregateIndex getContractAggregateIndex();
 }
@@ -5,18 +5,23 @@ import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.logging.Logger;
 
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.athlete.Athlete;
 import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractAggregateIndex;
 import seedu.address.model.organization.Organization;
 import seedu.address.storage.Storage;
 
@@ -29,19 +34,51 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_DATA_LOADING =
+            "Your data is still loading. Commands that change data will be available once it has loaded.";
+
+    public static final String MESSAGE_DATA_LOAD_FAILED =
+            "Your data could not be loaded, so commands that change data are disabled to keep your data files safe. "
+                    + "Restart the app to try again.";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final ModelSaver modelSaver;
     private final AddressBookParser addressBookParser;
+    private final CommandMetrics commandMetrics;
+    private final BooleanProperty isDataLoading = new SimpleBooleanProperty(false);
+    private final BooleanProperty isDataLoadFailed = new SimpleBooleanProperty(false);
+
+    // The command being executed, which the saves made before it returns are recorded under
+    private String currentCommandWord = CommandMetrics.INVALID_COMMAND;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Changes are saved to storage before each command returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, 0);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * If {@code writeBehindDelayMillis} is positive, changes are saved on a background thread after that delay,
+     * so that bursts of commands are written together.
+     */
+    public LogicManager(Model model, Storage storage, long writeBehindDelayMillis) {
+        this(model, storage, writeBehindDelayMillis, new CommandMetrics());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} like {@link #LogicManager(Model, Storage, long)} that records the time
+     * taken, bytes written and bytes allocated by each command in {@code commandMetrics}.
+     */
+    public LogicManager(Model model, Storage storage, long writeBehindDelayMillis, CommandMetrics commandMetrics) {
         this.model = model;
-        this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        this.commandMetrics = commandMetrics;
+        this.modelSaver = new ModelSaver(model, storage, writeBehindDelayMillis, this::recordSave);
+        addressBookParser = new AddressBookParser(commandMetrics);
     }
 
     /**
@@ -52,8 +89,9 @@ public class LogicManager implements Logic {
      *   <li>Logs the command entered by the user</li>
      *   <li>Parses it into a {@link Command}</li>
      *   <li>Executes the command on the {@link Model}</li>
-     *   <li>Attempts to save any modified data to storage</li>
+     *   <li>Saves the data files changed by the command to storage</li>
      * </ul>
+     * The time taken by each step, and the bytes written and allocated, are recorded in the command metrics.
      *
      * @param commandText The raw command input by the user.
      * @return The {@link CommandResult} produced by executing the command.
@@ -64,22 +102,95 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        long allocatedBefore = CommandMetrics.getCurrentThreadAllocatedBytes();
+        long parseStart = System.nanoTime();
+        Command command;
+        try {
+            command = addressBookParser.parseCommand(commandText);
+        } catch (ParseException pe) {
+            commandMetrics.recordParse(CommandMetrics.INVALID_COMMAND, System.nanoTime() - parseStart);
+            throw pe;
+        }
+        currentCommandWord = getCommandWord(commandText);
+        long executeStart = System.nanoTime();
+        commandMetrics.recordParse(currentCommandWord, executeStart - parseStart);
+
+        try {
+            CommandResult commandResult;
+            try {
+                if (isDataLoadFailed.get() && !command.isReadOnly()) {
+                    throw new CommandException(MESSAGE_DATA_LOAD_FAILED);
+                }
+                if (isDataLoading.get() && !command.isReadOnly()) {
+                    throw new CommandException(MESSAGE_DATA_LOADING);
+                }
+                commandResult = command.execute(model);
+            } finally {
+                commandMetrics.recordExecute(currentCommandWord, System.nanoTime() - executeStart);
+            }
+            saveChanges();
+            return commandResult;
+        } finally {
+            long allocatedAfter = CommandMetrics.getCurrentThreadAllocatedBytes();
+            if (allocatedBefore >= 0 && allocatedAfter >= 0) {
+                commandMetrics.recordAllocation(currentCommandWord, allocatedAfter - allocatedBefore);
+            }
+        }
+    }
 
+    private void saveChanges() throws CommandException {
         try {
-            storage.saveAddressBook(model.getAddressBook());
-            storage.saveAthleteList(model.getAthleteList());
-            storage.saveContractList(model.getContractList());
-            storage.saveOrganizationList(model.getOrganizationList());
+            modelSaver.saveChanges();
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
+    }
+
+    /** Returns the command word of {@code commandText}, which has been parsed successfully. */
+    private static String getCommandWord(String commandText) {
+        return commandText.trim().split("\\s+", 2)[0].toLowerCase();
+    }
+
+    private void recordSave(long nanos, long bytesWritten, boolean isWriteBehind) {
+        String commandWord = isWriteBehind ? CommandMetrics.WRITE_BEHIND : currentCommandWord;
+        commandMetrics.recordSave(commandWord, nanos, bytesWritten);
+    }
+
+    /**
+     * Writes any changes that have not been saved yet, waiting for background writes to finish.
+     *
+     * @throws IOException If the data could not be written.
+     */
+    @Override
+    public void flushPendingSaves() throws IOException {
+        modelSaver.flush();
+    }
+
+    @Override
+    public void setDataLoading(boolean isDataLoading) {
+        if (this.isDataLoading.get() && !isDataLoading) {
+            modelSaver.discardChanges();
+        }
+        this.isDataLoading.set(isDataLoading);
+    }
 
-        return commandResult;
+    @Override
+    public ReadOnlyBooleanProperty dataLoadingProperty() {
+        return isDataLoading;
+    }
+
+    @Override
+    public void setDataLoadFailed() {
+        // Set before loading stops, so that listeners of either property see the failure
+        isDataLoadFailed.set(true);
+        setDataLoading(false);
+    }
+
+    @Override
+    public ReadOnlyBooleanProperty dataLoadFailedProperty() {
+        return isDataLoadFailed;
     }
 
     /**
@@ -182,4 +293,14 @@ public class LogicManager implements Logic {
         return model.getContractList().getContractList();
     }
 
+    /**
+     * Returns the per-athlete and per-organization contract aggregates.
+     *
+     * @return The {@link ContractAggregateIndex} maintained by the model.
+     */
+    @Override
+    public ContractAggregateIndex getContractAggregateIndex() {
+        return model.getContractAggregateIndex();
+    }
+
 }
@@ -0,0 +1,292 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.athlete.Athlete;
+import seedu.address.model.athlete.ReadOnlyAthleteList;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ReadOnlyContractList;
+import seedu.address.model.organization.Organization;
+import seedu.address.model.organization.ReadOnlyOrganizationList;
+import seedu.address.storage.Storage;
+
+/**
+ * Saves the data in a {@code Model} to {@code Storage}, writing only the data files whose lists have changed
+ * since they were last saved.
+ * <p>
+ * In write-behind mode, a snapshot of the changed lists is taken when {@link #saveChanges()} is called and written
+ * on a background thread after a delay, so a burst of commands results in a single write of each changed file.
+ */
+class ModelSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(ModelSaver.class);
+    private static final SaveListener NO_LISTENER = (nanos, bytesWritten, isWriteBehind) -> { };
+    // The address book file holds none of the data in the lists, so the background writer needs no copy of it
+    private static final ReadOnlyAddressBook EMPTY_ADDRESS_BOOK = new AddressBook();
+
+    private final Model model;
+    private final Storage storage;
+    private final long writeBehindDelayMillis;
+    private final ScheduledThreadPoolExecutor writer;
+    private final SaveListener saveListener;
+
+    private final EnumSet<DataFile> changedFiles = EnumSet.noneOf(DataFile.class);
+
+    // Guarded by pendingSaves; only used in write-behind mode
+    private final Map<DataFile, SaveAction> pendingSaves = new EnumMap<>(DataFile.class);
+    private boolean isWriteScheduled;
+
+    /**
+     * Creates a {@code ModelSaver} that saves changes to {@code storage} as soon as {@link #saveChanges()} is called.
+     */
+    ModelSaver(Model model, Storage storage) {
+        this(model, storage, 0);
+    }
+
+    /**
+     * Creates a {@code ModelSaver} that defers writes by {@code writeBehindDelayMillis} on a background thread.
+     * A delay of 0 saves changes synchronously instead.
+     */
+    ModelSaver(Model model, Storage storage, long writeBehindDelayMillis) {
+        this(model, storage, writeBehindDelayMillis, NO_LISTENER);
+    }
+
+    /**
+     * Creates a {@code ModelSaver} like {@link #ModelSaver(Model, Storage, long)} that reports every save of a
+     * data file to {@code saveListener}.
+     */
+    ModelSaver(Model model, Storage storage, long writeBehindDelayMillis, SaveListener saveListener) {
+        requireNonNull(model);
+        requireNonNull(storage);
+        requireNonNull(saveListener);
+        assert writeBehindDelayMillis >= 0;
+        this.model = model;
+        this.storage = storage;
+        this.writeBehindDelayMillis = writeBehindDelayMillis;
+        this.saveListener = saveListener;
+        this.writer = writeBehindDelayMillis > 0 ? createWriter() : null;
+
+        // The address book file is the aggregate of all lists, so it changes whenever any of them does
+        model.getAthleteList().getAthleteList().addListener((ListChangeListener<Object>) change ->
+                markChanged(DataFile.ATHLETE_LIST));
+        model.getContractList().getContractList().addListener((ListChangeListener<Object>) change ->
+                markChanged(DataFile.CONTRACT_LIST));
+        model.getOrganizationList().getOrganizationList().addListener((ListChangeListener<Object>) change ->
+                markChanged(DataFile.ORGANIZATION_LIST));
+    }
+
+    private static ScheduledThreadPoolExecutor createWriter() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "data-file-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        return executor;
+    }
+
+    private void markChanged(DataFile dataFile) {
+        changedFiles.add(DataFile.ADDRESS_BOOK);
+        changedFiles.add(dataFile);
+    }
+
+    /**
+     * Forgets the changes made to the model since the last save, such as when the model has just been filled
+     * with the data read from storage, which does not need to be written back.
+     */
+    void discardChanges() {
+        changedFiles.clear();
+    }
+
+    /**
+     * Saves the data files that have changed since the last call.
+     * In write-behind mode, the changes are queued for the background writer instead.
+     *
+     * @throws IOException if a file could not be written. Files that were not saved are retried on the next call.
+     */
+    void saveChanges() throws IOException {
+        if (writer == null) {
+            Iterator<DataFile> unsaved = changedFiles.iterator();
+            while (unsaved.hasNext()) {
+                save(createSaveAction(unsaved.next(), false), false);
+                unsaved.remove();
+            }
+            return;
+        }
+
+        if (changedFiles.isEmpty()) {
+            return;
+        }
+        synchronized (pendingSaves) {
+            for (DataFile dataFile : changedFiles) {
+                pendingSaves.put(dataFile, createSaveAction(dataFile, true));
+            }
+            if (!isWriteScheduled) {
+                isWriteScheduled = true;
+                writer.schedule(this::writeInBackground, writeBehindDelayMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        changedFiles.clear();
+    }
+
+    /**
+     * Writes all changes that have not been saved yet, waiting for any queued writes to finish.
+     * In write-behind mode, the background writer is shut down afterwards.
+     *
+     * @throws IOException if a file could not be written.
+     */
+    void flush() throws IOException {
+        saveChanges();
+        if (writer == null) {
+            return;
+        }
+
+        Future<Void> finalWrite = writer.submit(() -> {
+            writePendingSaves();
+            return null;
+        });
+        writer.shutdown();
+        try {
+            finalWrite.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving data", e);
+        }
+    }
+
+    private void writeInBackground() {
+        try {
+            writePendingSaves();
+        } catch (IOException e) {
+            logger.warning("Failed to save data in the background, will retry on the next change: "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
+    private void writePendingSaves() throws IOException {
+        Map<DataFile, SaveAction> saves;
+        synchronized (pendingSaves) {
+            saves = new EnumMap<>(pendingSaves);
+            pendingSaves.clear();
+            isWriteScheduled = false;
+        }
+
+        IOException failure = null;
+        for (Map.Entry<DataFile, SaveAction> save : saves.entrySet()) {
+            try {
+                save(save.getValue(), true);
+            } catch (IOException e) {
+                failure = e;
+                synchronized (pendingSaves) {
+                    // Keep the failed write for a retry, unless a newer copy has been queued since
+                    pendingSaves.putIfAbsent(save.getKey(), save.getValue());
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void save(SaveAction saveAction, boolean isWriteBehind) throws IOException {
+        long bytesBefore = FileUtil.getBytesWritten();
+        long start = System.nanoTime();
+        saveAction.save();
+        saveListener.onSave(System.nanoTime() - start, FileUtil.getBytesWritten() - bytesBefore, isWriteBehind);
+    }
+
+    /**
+     * Returns an action that writes {@code dataFile}, reading from a snapshot of the current data if
+     * {@code isCopy}.
+     */
+    private SaveAction createSaveAction(DataFile dataFile, boolean isCopy) {
+        switch (dataFile) {
+        case ADDRESS_BOOK:
+            ReadOnlyAddressBook addressBook = isCopy ? EMPTY_ADDRESS_BOOK : model.getAddressBook();
+            return () -> storage.saveAddressBook(addressBook);
+        case ATHLETE_LIST:
+            ReadOnlyAthleteList athletes = isCopy ? snapshotOf(model.getAthleteList()) : model.getAthleteList();
+            return () -> storage.saveAthleteList(athletes);
+        case CONTRACT_LIST:
+            ReadOnlyContractList contracts = isCopy ? snapshotOf(model.getContractList()) : model.getContractList();
+            return () -> storage.saveContractList(contracts);
+        case ORGANIZATION_LIST:
+            ReadOnlyOrganizationList organizations = isCopy
+                    ? snapshotOf(model.getOrganizationList()) : model.getOrganizationList();
+            return () -> storage.saveOrganizationList(organizations);
+        default:
+            throw new AssertionError("Unknown data file: " + dataFile);
+        }
+    }
+
+    private static ReadOnlyAthleteList snapshotOf(ReadOnlyAthleteList athletes) {
+        ObservableList<Athlete> snapshot = copyOf(athletes.getAthleteList());
+        return () -> snapshot;
+    }
+
+    private static ReadOnlyContractList snapshotOf(ReadOnlyContractList contracts) {
+        ObservableList<Contract> snapshot = copyOf(contracts.getContractList());
+        return () -> snapshot;
+    }
+
+    private static ReadOnlyOrganizationList snapshotOf(ReadOnlyOrganizationList organizations) {
+        ObservableList<Organization> snapshot = copyOf(organizations.getOrganizationList());
+        return () -> snapshot;
+    }
+
+    /**
+     * Returns an unmodifiable copy of {@code list} made with a single array copy. Unlike copying the model's
+     * lists, this does not check the elements for duplicates or rebuild any index, which the saved files do not need.
+     */
+    private static <T> ObservableList<T> copyOf(ObservableList<T> list) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(List.copyOf(list)));
+    }
+
+    /** The data files kept in storage, in the order they are saved. */
+    private enum DataFile {
+        ADDRESS_BOOK, ATHLETE_LIST, CONTRACT_LIST, ORGANIZATION_LIST
+    }
+
+    /** Receives the time taken and the bytes written by each save of a data file. */
+    @FunctionalInterface
+    interface SaveListener {
+        /**
+         * Called after a data file is saved.
+         *
+         * @param isWriteBehind True if the file was saved by the background writer, after the command returned.
+         */
+        void onSave(long nanos, long bytesWritten, boolean isWriteBehind);
+    }
+
+    /** A pending write of one data file. */
+    @FunctionalInterface
+    private interface SaveAction {
+        void save() throws IOException;
+    }
+}
@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if this command never changes the data in the model, so it can be run while the data
+     * is still being loaded.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
 }
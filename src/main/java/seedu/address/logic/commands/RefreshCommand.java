@@ -44,6 +44,11 @@ public class RefreshCommand extends Command {
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     /**
      * Returns true if the other object is also a RefreshCommand.
      * All RefreshCommand instances are considered equal since they have no parameters.
@@ -0,0 +1,63 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long each command word has taken to parse, execute and save since the app started,
+ * and how many bytes it has written and allocated.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the time taken, bytes written and memory allocated by each command since startup.\n"
+            + "Example: " + COMMAND_WORD;
+
+    private final CommandMetrics commandMetrics;
+
+    /**
+     * Constructs a {@code StatsCommand} that shows the metrics in {@code commandMetrics}.
+     */
+    public StatsCommand(CommandMetrics commandMetrics) {
+        requireNonNull(commandMetrics);
+        this.commandMetrics = commandMetrics;
+    }
+
+    /**
+     * Executes the stats command, which does not change the model.
+     *
+     * @param model The model (unused in this command). Cannot be null.
+     * @return A CommandResult with the metrics of every command word.
+     */
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(commandMetrics.format());
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    /**
+     * Returns true if both StatsCommand objects show the same metrics.
+     *
+     * @param other The other object to compare with.
+     * @return True if both objects are equal, false otherwise.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof StatsCommand && commandMetrics == ((StatsCommand) other).commandMetrics);
+    }
+
+    @Override
+    public int hashCode() {
+        return commandMetrics.hashCode();
+    }
+}
@@ -104,7 +104,7 @@ public class AddContractCommand extends Command {
         Athlete athlete = findAthleteByNameOrThrow(model, athleteName, sport);
         Organization organization = findOrganizationByNameOrThrow(model, organizationName);
 
-        if (startDate.toLocalDate().isAfter(endDate.toLocalDate())) {
+        if (startDate.isAfter(endDate)) {
             throw new CommandException(String.format(MESSAGE_INVALID_DATE_RANGE, startDate, endDate));
         }
 
@@ -0,0 +1,107 @@
+package seedu.address.logic.commands.contract;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand.SearchTarget;
+import seedu.address.model.Model;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractRangeIndex;
+import seedu.address.model.search.ContractRangeClause;
+import seedu.address.model.search.SearchQuery;
+
+/**
+ * Lists the {@link Contract}s that end within a range of dates, such as the next 30 days.
+ * The filter is a range of end dates, planned like a find query, so a narrow range is listed from the model's
+ * {@link ContractRangeIndex} instead of being scanned, and a contract added while the list is shown is kept if it
+ * ends in the range.
+ */
+public class ExpiringContractsCommand extends Command {
+
+    public static final String COMMAND_WORD = "expiring-c";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the contracts that end within the given number of days from today, inclusive. "
+            + "Parameters: DAYS (a non-negative integer)\n"
+            + "Example: " + COMMAND_WORD + " 30";
+
+    public static final String MESSAGE_SUCCESS = "%1$d %2$s ending between %3$s and %4$s listed!";
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("ddMMuuuu");
+
+    private final LocalDate from;
+    private final LocalDate to;
+
+    /**
+     * Constructs an {@code ExpiringContractsCommand} that lists the contracts ending from {@code from}
+     * to {@code to}, inclusive.
+     *
+     * @param from The earliest end date to list. Cannot be null.
+     * @param to   The latest end date to list. Cannot be null.
+     */
+    public ExpiringContractsCommand(LocalDate from, LocalDate to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Executes the command to filter the contract list to the contracts ending within the range.
+     * The athlete and organization lists are reset to show everything.
+     *
+     * @param model The model to filter. Cannot be null.
+     * @return A CommandResult with the number of contracts listed.
+     */
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        model.updateFilteredContractList(SearchQuery.of(ContractRangeClause.endDate(from, to)).plan(model));
+        model.updateFilteredAthleteList(Model.PREDICATE_SHOW_ALL_ATHLETES);
+        model.updateFilteredOrganizationList(Model.PREDICATE_SHOW_ALL_ORGANIZATIONS);
+
+        int expiringCount = model.getFilteredContractList().size();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, expiringCount,
+                SearchTarget.CONTRACTS.getNoun(expiringCount), DATE_FORMAT.format(from), DATE_FORMAT.format(to)),
+                CommandResult.UiTab.CONTRACTS);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    /**
+     * Returns true if both ExpiringContractsCommand objects list the same range of end dates.
+     *
+     * @param other The other object to compare with.
+     * @return True if both objects are equal, false otherwise.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof ExpiringContractsCommand)
+                && from.equals(((ExpiringContractsCommand) other).from)
+                && to.equals(((ExpiringContractsCommand) other).to);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("to", to)
+                .toString();
+    }
+}
@@ -0,0 +1,160 @@
+package seedu.address.logic.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Records how long each command word takes to parse, execute and save, how many bytes its saves write,
+ * and how many bytes it allocates, in a {@link Histogram} per measurement.
+ * Recording takes no locks, so the metrics can be kept for every command that is run.
+ */
+public class CommandMetrics {
+
+    /** The command word that saves made in the background by the write-behind writer are recorded under. */
+    public static final String WRITE_BEHIND = "(write-behind)";
+
+    /** The command word that input which could not be parsed is recorded under. */
+    public static final String INVALID_COMMAND = "(invalid)";
+
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been run yet.";
+
+    private static final String HEADER = "Command statistics since startup (50th / 99th percentile):";
+    private static final long BYTES_PER_KILOBYTE = 1024;
+    private static final java.lang.management.ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final Map<String, CommandStats> statsByCommandWord = new ConcurrentHashMap<>();
+
+    /**
+     * Records the time taken to parse a command.
+     *
+     * @param commandWord The command word, or {@link #INVALID_COMMAND} if the input could not be parsed.
+     */
+    public void recordParse(String commandWord, long nanos) {
+        statsFor(commandWord).parseNanos.record(nanos);
+    }
+
+    /**
+     * Records the time taken to execute a command.
+     */
+    public void recordExecute(String commandWord, long nanos) {
+        statsFor(commandWord).executeNanos.record(nanos);
+    }
+
+    /**
+     * Records the time taken and the bytes written by one save of a data file after a command.
+     */
+    public void recordSave(String commandWord, long nanos, long bytesWritten) {
+        CommandStats stats = statsFor(commandWord);
+        stats.saveNanos.record(nanos);
+        stats.savedBytes.record(bytesWritten);
+    }
+
+    /**
+     * Records the bytes allocated while a command was parsed, executed and saved.
+     */
+    public void recordAllocation(String commandWord, long bytes) {
+        statsFor(commandWord).allocatedBytes.record(bytes);
+    }
+
+    private CommandStats statsFor(String commandWord) {
+        requireNonNull(commandWord);
+        return statsByCommandWord.computeIfAbsent(commandWord, unused -> new CommandStats());
+    }
+
+    /**
+     * Returns the number of measurements recorded, which changes whenever anything is recorded.
+     */
+    public long getRecordCount() {
+        long recordCount = 0;
+        for (CommandStats stats : statsByCommandWord.values()) {
+            recordCount += stats.parseNanos.getCount() + stats.executeNanos.getCount()
+                    + stats.saveNanos.getCount() + stats.allocatedBytes.getCount();
+        }
+        return recordCount;
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread so far, or -1 if the JVM does not measure it.
+     */
+    public static long getCurrentThreadAllocatedBytes() {
+        if (!(THREADS instanceof ThreadMXBean)) {
+            return -1;
+        }
+        ThreadMXBean threads = (ThreadMXBean) THREADS;
+        if (!threads.isThreadAllocatedMemorySupported() || !threads.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        return threads.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Returns a report of the metrics of every command word, one line each, in alphabetical order.
+     */
+    public String format() {
+        if (statsByCommandWord.isEmpty()) {
+            return MESSAGE_NO_COMMANDS;
+        }
+
+        StringBuilder report = new StringBuilder(HEADER);
+        for (Map.Entry<String, CommandStats> entry : new TreeMap<>(statsByCommandWord).entrySet()) {
+            report.append('\n').append(entry.getKey()).append(": ").append(entry.getValue().format());
+        }
+        return report.toString();
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+
+    /** The metrics of one command word. */
+    private static class CommandStats {
+        private final Histogram parseNanos = new Histogram();
+        private final Histogram executeNanos = new Histogram();
+        private final Histogram saveNanos = new Histogram();
+        private final Histogram savedBytes = new Histogram();
+        private final Histogram allocatedBytes = new Histogram();
+
+        String format() {
+            StringBuilder line = new StringBuilder();
+            if (parseNanos.getCount() > 0) {
+                line.append(String.format("%d runs, parse %s ms", parseNanos.getCount(), formatMillis(parseNanos)));
+            }
+            if (executeNanos.getCount() > 0) {
+                appendSeparator(line);
+                line.append(String.format("execute %s ms", formatMillis(executeNanos)));
+            }
+            if (saveNanos.getCount() > 0) {
+                appendSeparator(line);
+                line.append(String.format("%d saves %s ms writing %d KB in total", saveNanos.getCount(),
+                        formatMillis(saveNanos), savedBytes.getSum() / BYTES_PER_KILOBYTE));
+            }
+            if (allocatedBytes.getCount() > 0) {
+                appendSeparator(line);
+                line.append(String.format("allocated %d / %d KB",
+                        allocatedBytes.getValueAtPercentile(50) / BYTES_PER_KILOBYTE,
+                        allocatedBytes.getValueAtPercentile(99) / BYTES_PER_KILOBYTE));
+            }
+            return line.toString();
+        }
+
+        private static void appendSeparator(StringBuilder line) {
+            if (line.length() > 0) {
+                line.append(", ");
+            }
+        }
+
+        private static String formatMillis(Histogram nanos) {
+            double nanosPerMilli = TimeUnit.MILLISECONDS.toNanos(1);
+            return String.format("%.2f / %.2f", nanos.getValueAtPercentile(50) / nanosPerMilli,
+                    nanos.getValueAtPercentile(99) / nanosPerMilli);
+        }
+    }
+}
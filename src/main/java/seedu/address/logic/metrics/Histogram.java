@@ -0,0 +1,120 @@
+package seedu.address.logic.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts non-negative values, such as durations or byte counts, in buckets whose width grows with the value,
+ * so that percentiles can be read with a small relative error and a fixed amount of memory.
+ * Recording a value takes no locks, so it can be done from any thread on every command.
+ * <p>
+ * Values below {@code 2 * SUB_BUCKET_COUNT} have a bucket each. Above that, every power of two is split into
+ * {@code SUB_BUCKET_COUNT} buckets of equal width, so a reported percentile is at most about 6% above the
+ * recorded value.
+ */
+public class Histogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    // Non-negative longs have at most 63 significant bits
+    private static final int BUCKET_COUNT = (Long.SIZE - 2 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT
+            + 2 * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records {@code value}. Negative values are recorded as 0.
+     */
+    public void record(long value) {
+        long recorded = Math.max(0, value);
+        counts.incrementAndGet(bucketOf(recorded));
+        count.increment();
+        sum.add(recorded);
+        max.accumulateAndGet(recorded, Math::max);
+    }
+
+    /**
+     * Returns the number of values recorded.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the sum of the values recorded.
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * Returns the largest value recorded, or 0 if there are none.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the value that {@code percentile} percent of the recorded values are at or below,
+     * rounded up to the end of its bucket, or 0 if no values were recorded.
+     *
+     * @param percentile A percentage from 0 to 100.
+     */
+    public long getValueAtPercentile(double percentile) {
+        assert percentile >= 0 && percentile <= 100;
+        long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(highestValueIn(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Returns the index of the bucket holding the non-negative {@code value}.
+     * The bucket is found from the position of the highest set bit and the {@code SUB_BUCKET_BITS} bits below it.
+     */
+    static int bucketOf(long value) {
+        if (value < 2 * SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKET_COUNT + (int) (value >>> shift);
+    }
+
+    /**
+     * Returns the smallest value in the bucket at {@code index}.
+     */
+    static long lowestValueIn(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long topBits = index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return topBits << shift;
+    }
+
+    /**
+     * Returns the largest value in the bucket at {@code index}.
+     */
+    static long highestValueIn(int index) {
+        return index == BUCKET_COUNT - 1 ? Long.MAX_VALUE : lowestValueIn(index + 1) - 1;
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.logic.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Periodically writes the report of a {@link CommandMetrics} to a file on a background thread,
+ * so that the metrics of a session can be read after the app has closed.
+ * The file is only rewritten if something was recorded since it was last written.
+ */
+public class MetricsDumper {
+
+    private static final Logger logger = LogsCenter.getLogger(MetricsDumper.class);
+
+    private final CommandMetrics commandMetrics;
+    private final Path metricsFilePath;
+    private final long intervalSeconds;
+    private final ScheduledThreadPoolExecutor executor;
+
+    // Only accessed while holding the lock on this object
+    private long lastDumpedRecordCount;
+
+    /**
+     * Creates a {@code MetricsDumper} that writes {@code commandMetrics} to {@code metricsFilePath}
+     * every {@code intervalSeconds} seconds once started.
+     */
+    public MetricsDumper(CommandMetrics commandMetrics, Path metricsFilePath, long intervalSeconds) {
+        requireNonNull(commandMetrics);
+        requireNonNull(metricsFilePath);
+        assert intervalSeconds > 0;
+        this.commandMetrics = commandMetrics;
+        this.metricsFilePath = metricsFilePath;
+        this.intervalSeconds = intervalSeconds;
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "metrics-dumper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    /**
+     * Starts writing the metrics periodically.
+     */
+    public void start() {
+        executor.scheduleWithFixedDelay(this::dumpQuietly, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops writing the metrics periodically, and writes them one last time.
+     */
+    public void stop() {
+        executor.shutdownNow();
+        dumpQuietly();
+    }
+
+    /**
+     * Writes the metrics to the file if anything was recorded since they were last written.
+     *
+     * @return True if the file was written.
+     * @throws IOException if there was an error writing the file.
+     */
+    synchronized boolean dump() throws IOException {
+        long recordCount = commandMetrics.getRecordCount();
+        if (recordCount == lastDumpedRecordCount) {
+            return false;
+        }
+
+        // Written with Files rather than FileUtil, so the bytes are not counted as written by a command
+        FileUtil.createParentDirsOfFile(metricsFilePath);
+        Files.writeString(metricsFilePath, "Written at " + LocalDateTime.now() + "\n"
+                + commandMetrics.format() + "\n", StandardCharsets.UTF_8);
+        lastDumpedRecordCount = recordCount;
+        return true;
+    }
+
+    private void dumpQuietly() {
+        try {
+            dump();
+        } catch (IOException e) {
+            logger.warning("Failed to write metrics to " + metricsFilePath + ": " + StringUtil.getDetails(e));
+        }
+    }
+}
@@ -13,16 +13,20 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.RefreshCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.athlete.AddAthleteCommand;
 import seedu.address.logic.commands.athlete.DeleteAthleteCommand;
 import seedu.address.logic.commands.contract.AddContractCommand;
 import seedu.address.logic.commands.contract.DeleteContractCommand;
+import seedu.address.logic.commands.contract.ExpiringContractsCommand;
 import seedu.address.logic.commands.organization.AddOrganizationCommand;
 import seedu.address.logic.commands.organization.DeleteOrganizationCommand;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.logic.parser.athlete.AddAthleteCommandParser;
 import seedu.address.logic.parser.athlete.DeleteAthleteCommandParser;
 import seedu.address.logic.parser.contract.AddContractCommandParser;
 import seedu.address.logic.parser.contract.DeleteContractCommandParser;
+import seedu.address.logic.parser.contract.ExpiringContractsCommandParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.parser.organization.AddOrganizationCommandParser;
 import seedu.address.logic.parser.organization.DeleteOrganizationCommandParser;
@@ -37,6 +41,22 @@ public class AddressBookParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    private final CommandMetrics commandMetrics;
+
+    /**
+     * Constructs an {@code AddressBookParser} whose {@code stats} command shows metrics that are not recorded.
+     */
+    public AddressBookParser() {
+        this(new CommandMetrics());
+    }
+
+    /**
+     * Constructs an {@code AddressBookParser} whose {@code stats} command shows {@code commandMetrics}.
+     */
+    public AddressBookParser(CommandMetrics commandMetrics) {
+        this.commandMetrics = commandMetrics;
+    }
+
     /**
      * Parses user input into command for execution.
      * The input is first split into a command word and arguments, then the appropriate
@@ -90,6 +110,8 @@ public class AddressBookParser {
             return new AddContractCommandParser().parse(arguments);
         case DeleteContractCommand.COMMAND_WORD:
             return new DeleteContractCommandParser().parse(arguments);
+        case ExpiringContractsCommand.COMMAND_WORD:
+            return new ExpiringContractsCommandParser().parse(arguments);
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
         case ExitCommand.COMMAND_WORD:
@@ -98,6 +120,8 @@ public class AddressBookParser {
             return new HelpCommand();
         case RefreshCommand.COMMAND_WORD:
             return new RefreshCommand();
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand(commandMetrics);
         default:
             logger.finer("This user input caused a ParseException: " + commandWord);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
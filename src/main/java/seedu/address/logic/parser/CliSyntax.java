@@ -21,4 +21,12 @@ public class CliSyntax {
     public static final Prefix PREFIX_START_DATE = new Prefix("sd/"); // Contract start date (DDMMYYYY)
     public static final Prefix PREFIX_END_DATE = new Prefix("ed/"); // Contract end date (DDMMYYYY)
     public static final Prefix PREFIX_AMOUNT = new Prefix("am/"); // Contract amount
+
+    // ===== Find-related =====
+    public static final Prefix PREFIX_FIND_ATHLETE_NAME = new Prefix("an/");
+    public static final Prefix PREFIX_FIND_ATHLETE_SPORT = new Prefix("as/");
+    public static final Prefix PREFIX_FIND_ORGANIZATION_NAME = new Prefix("on/");
+    public static final Prefix PREFIX_FIND_CONTRACT_ATHLETE = new Prefix("ca/");
+    public static final Prefix PREFIX_FIND_CONTRACT_ORGANIZATION = new Prefix("co/");
+    public static final Prefix PREFIX_FIND_CONTRACT_SPORT = new Prefix("cs/");
 }
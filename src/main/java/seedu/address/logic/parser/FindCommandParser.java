@@ -1,33 +1,70 @@
 package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.commands.FindCommand.MESSAGE_USAGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AMOUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FIND_ATHLETE_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FIND_ATHLETE_SPORT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FIND_CONTRACT_ATHLETE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FIND_CONTRACT_ORGANIZATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FIND_CONTRACT_SPORT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FIND_ORGANIZATION_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_DATE;
 
-import java.util.Locale;
-import java.util.regex.Matcher;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindCommand.SearchScope;
+import seedu.address.logic.commands.FindCommand.SearchTarget;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.athlete.Athlete;
 import seedu.address.model.athlete.Name;
 import seedu.address.model.athlete.Sport;
+import seedu.address.model.contract.Amount;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.Date8;
+import seedu.address.model.organization.Organization;
 import seedu.address.model.organization.OrganizationName;
+import seedu.address.model.search.ContractRangeClause;
+import seedu.address.model.search.SearchClause;
+import seedu.address.model.search.SearchQuery;
 
 /**
  * Parses input arguments and creates a new {@link FindCommand} object.
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    public static final String MESSAGE_BLANK_KEYWORD =
+            "Keyword to be searched cannot be blank or consists of spaces only.";
+    public static final String MESSAGE_MIXED_TARGETS =
+            "Error: All flags in a find command must search the same list (athletes, organizations or contracts).";
+    public static final String MESSAGE_INVALID_RANGE =
+            "Error: A range must be written as MIN-MAX, MIN- or -MAX, with MIN no larger than MAX.";
+
+    private static final Pattern ALTERNATIVE_SEPARATOR = Pattern.compile("\\|");
+
+    /** Keyword flags, in the order their clauses are placed in a query. */
+    private static final Prefix[] KEYWORD_PREFIXES = {
+        PREFIX_FIND_ATHLETE_NAME, PREFIX_FIND_ATHLETE_SPORT, PREFIX_FIND_ORGANIZATION_NAME,
+        PREFIX_FIND_CONTRACT_ATHLETE, PREFIX_FIND_CONTRACT_ORGANIZATION, PREFIX_FIND_CONTRACT_SPORT
+    };
+    private static final Prefix[] RANGE_PREFIXES = {PREFIX_AMOUNT, PREFIX_START_DATE, PREFIX_END_DATE};
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
-     * Expected format: FLAG/ KEYWORD, where FLAG is one of: an, as, on, ca, co, cs
+     * Expected format: one or more groups of FLAG/ VALUE separated by {@code |}, where FLAG is one of:
+     * an, as, on, ca, co, cs, am, sd, ed. The flags of a group are combined with AND,
+     * and the groups with OR.
      *
      * @param args The user input arguments to parse. Cannot be null.
-     * @return A FindCommand object with the parsed search scope and keyword.
+     * @return A FindCommand object with the parsed search query.
      * @throws ParseException If the user input does not conform to the expected format,
-     *                        the flag is invalid, or the keyword is blank.
+     *                        a flag is invalid, a keyword is blank or a range is invalid.
      */
     @Override
     public FindCommand parse(String args) throws ParseException {
@@ -35,36 +72,97 @@ public class FindCommandParser implements Parser<FindCommand> {
         String trimmed = args.trim();
 
         if (trimmed.isEmpty()) {
-            throw new ParseException(String.format(seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT,
-                    MESSAGE_USAGE));
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
         }
 
-        // Regex: allow query to be empty (0 or more chars)
-        Pattern pattern = Pattern.compile("^(?<flag>an|as|on|ca|co|cs)/\\s*(?<query>.*)$",
-                Pattern.DOTALL | Pattern.CASE_INSENSITIVE);
-        Matcher matcher = pattern.matcher(trimmed);
+        SearchTarget target = null;
+        List<List<SearchClause<?>>> alternatives = new ArrayList<>();
+        List<String> keywords = new ArrayList<>();
+        for (String group : ALTERNATIVE_SEPARATOR.split(trimmed, -1)) {
+            List<SearchClause<?>> clauses = new ArrayList<>();
+            target = parseGroup(group, target, clauses, keywords);
+            alternatives.add(clauses);
+        }
 
-        if (!matcher.matches()) {
-            throw new ParseException(String.format(seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT,
-                    MESSAGE_USAGE));
+        // A single keyword is described by itself; anything else by the query as typed
+        String description = keywords.size() == 1 && alternatives.size() == 1 && alternatives.get(0).size() == 1
+                ? keywords.get(0)
+                : trimmed.replaceAll("\\s+", " ");
+        return createCommand(target, alternatives, description);
+    }
+
+    /**
+     * Parses one group of flags into {@code clauses}, and returns the list they search.
+     *
+     * @param target The list searched by the groups parsed so far, or null if there are none.
+     * @param keywords The keywords of the keyword flags parsed so far, to which those of this group are added.
+     */
+    private SearchTarget parseGroup(String group, SearchTarget target, List<SearchClause<?>> clauses,
+                                    List<String> keywords) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + group.trim(), allPrefixes());
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
         }
 
-        String flag = matcher.group("flag").toLowerCase(Locale.ENGLISH);
-        String rawQuery = matcher.group("query").trim().replaceAll("\\s+", " ");
+        SearchTarget groupTarget = target;
+        for (Prefix prefix : KEYWORD_PREFIXES) {
+            SearchScope scope = mapFlagToScope(prefix);
+            for (String value : argMultimap.getAllValues(prefix)) {
+                String keyword = parseKeyword(value);
+                validateKeywordForScope(scope, keyword);
+                groupTarget = requireSameTarget(groupTarget, scope.getTarget());
+                clauses.add(scope.createClause(keyword));
+                keywords.add(keyword);
+            }
+        }
+        for (String value : argMultimap.getAllValues(PREFIX_AMOUNT)) {
+            groupTarget = requireSameTarget(groupTarget, SearchTarget.CONTRACTS);
+            clauses.add(parseAmountRange(value));
+        }
+        for (String value : argMultimap.getAllValues(PREFIX_START_DATE)) {
+            groupTarget = requireSameTarget(groupTarget, SearchTarget.CONTRACTS);
+            Date8[] bounds = parseDateRange(value);
+            clauses.add(ContractRangeClause.startDate(bounds[0], bounds[1]));
+        }
+        for (String value : argMultimap.getAllValues(PREFIX_END_DATE)) {
+            groupTarget = requireSameTarget(groupTarget, SearchTarget.CONTRACTS);
+            Date8[] bounds = parseDateRange(value);
+            clauses.add(ContractRangeClause.endDate(bounds[0], bounds[1]));
+        }
+
+        if (clauses.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
+        }
+        return groupTarget;
+    }
+
+    private static Prefix[] allPrefixes() {
+        Prefix[] prefixes = new Prefix[KEYWORD_PREFIXES.length + RANGE_PREFIXES.length];
+        System.arraycopy(KEYWORD_PREFIXES, 0, prefixes, 0, KEYWORD_PREFIXES.length);
+        System.arraycopy(RANGE_PREFIXES, 0, prefixes, KEYWORD_PREFIXES.length, RANGE_PREFIXES.length);
+        return prefixes;
+    }
+
+    private static SearchTarget requireSameTarget(SearchTarget current, SearchTarget next) throws ParseException {
+        if (current != null && current != next) {
+            throw new ParseException(MESSAGE_MIXED_TARGETS);
+        }
+        return next;
+    }
+
+    private String parseKeyword(String value) throws ParseException {
+        String rawQuery = value.trim().replaceAll("\\s+", " ");
 
         if (rawQuery.isEmpty()) {
-            throw new ParseException("Keyword to be searched cannot be blank or consists of spaces only.");
+            throw new ParseException(MESSAGE_BLANK_KEYWORD);
         }
 
         String keyword = stripEnclosingQuotes(rawQuery);
 
         if (keyword.isEmpty()) {
-            throw new ParseException("Keyword to be searched cannot be blank or consists of spaces only.");
+            throw new ParseException(MESSAGE_BLANK_KEYWORD);
         }
-
-        SearchScope scope = mapFlagToScope(flag);
-        validateKeywordForScope(scope, keyword);
-        return new FindCommand(scope, keyword);
+        return keyword;
     }
 
     private void validateKeywordForScope(SearchScope scope, String keyword) throws ParseException {
@@ -92,26 +190,74 @@ public class FindCommandParser implements Parser<FindCommand> {
         }
     }
 
-    private SearchScope mapFlagToScope(String flag) throws ParseException {
-        switch (flag) {
-        case "an":
+    private SearchScope mapFlagToScope(Prefix prefix) throws ParseException {
+        switch (prefix.getPrefix()) {
+        case "an/":
             return SearchScope.ATHLETE_NAME;
-        case "as":
+        case "as/":
             return SearchScope.ATHLETE_SPORT;
-        case "on":
+        case "on/":
             return SearchScope.ORGANIZATION_NAME;
-        case "ca":
+        case "ca/":
             return SearchScope.CONTRACT_ATHLETE;
-        case "co":
+        case "co/":
             return SearchScope.CONTRACT_ORGANIZATION;
-        case "cs":
+        case "cs/":
             return SearchScope.CONTRACT_SPORT;
         default:
-            throw new ParseException(String.format(seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT,
-                    MESSAGE_USAGE));
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
         }
     }
 
+    private ContractRangeClause parseAmountRange(String value) throws ParseException {
+        String[] bounds = splitRange(value);
+        Amount min = bounds[0].isEmpty() ? null : ContractParserUtil.parseAmount(bounds[0]);
+        Amount max = bounds[1].isEmpty() ? null : ContractParserUtil.parseAmount(bounds[1]);
+        if (min != null && max != null && min.value > max.value) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+        return ContractRangeClause.amount(min, max);
+    }
+
+    /**
+     * Parses a date range into its two bounds, either of which may be null.
+     */
+    private Date8[] parseDateRange(String value) throws ParseException {
+        String[] bounds = splitRange(value);
+        Date8 from = parseDateBound(bounds[0]);
+        Date8 to = parseDateBound(bounds[1]);
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+        return new Date8[] {from, to};
+    }
+
+    private Date8 parseDateBound(String bound) throws ParseException {
+        return bound.isEmpty() ? null : ContractParserUtil.parseDate8(bound);
+    }
+
+    /**
+     * Splits a range written as {@code MIN-MAX}, {@code MIN-} or {@code -MAX} into its two bounds,
+     * either of which may be empty. A single value is a range containing only that value.
+     */
+    private String[] splitRange(String value) throws ParseException {
+        String range = value.trim();
+        int separator = range.indexOf('-');
+        if (separator == -1) {
+            if (range.isEmpty()) {
+                throw new ParseException(MESSAGE_INVALID_RANGE);
+            }
+            return new String[] {range, range};
+        }
+
+        String min = range.substring(0, separator).trim();
+        String max = range.substring(separator + 1).trim();
+        if (max.indexOf('-') != -1 || (min.isEmpty() && max.isEmpty())) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+        return new String[] {min, max};
+    }
+
     private String stripEnclosingQuotes(String value) {
         if ((value.startsWith("\"") && value.endsWith("\""))
                 || (value.startsWith("'") && value.endsWith("'"))) {
@@ -119,4 +265,29 @@ public class FindCommandParser implements Parser<FindCommand> {
         }
         return value;
     }
+
+    @SuppressWarnings("unchecked")
+    private static FindCommand createCommand(SearchTarget target, List<List<SearchClause<?>>> alternatives,
+                                             String description) {
+        // Every clause was checked to search the given target, so the casts are safe
+        List<List<SearchClause<Object>>> clauses = new ArrayList<>();
+        for (List<SearchClause<?>> alternative : alternatives) {
+            List<SearchClause<Object>> typedAlternative = new ArrayList<>();
+            for (SearchClause<?> clause : alternative) {
+                typedAlternative.add((SearchClause<Object>) clause);
+            }
+            clauses.add(typedAlternative);
+        }
+        SearchQuery<?> query = new SearchQuery<>(clauses);
+
+        switch (target) {
+        case ATHLETES:
+            return FindCommand.ofAthletes((SearchQuery<Athlete>) query, description);
+        case ORGANIZATIONS:
+            return FindCommand.ofOrganizations((SearchQuery<Organization>) query, description);
+        case CONTRACTS:
+        default:
+            return FindCommand.ofContracts((SearchQuery<Contract>) query, description);
+        }
+    }
 }
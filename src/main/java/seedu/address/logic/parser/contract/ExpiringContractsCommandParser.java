@@ -0,0 +1,39 @@
+package seedu.address.logic.parser.contract;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.LocalDate;
+
+import seedu.address.logic.commands.contract.ExpiringContractsCommand;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExpiringContractsCommand object.
+ * The single argument is the number of days from today that the listed contracts may end within.
+ */
+public class ExpiringContractsCommandParser implements Parser<ExpiringContractsCommand> {
+
+    /** The largest number of days accepted, which is roughly a century. */
+    public static final int MAX_DAYS = 36500;
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExpiringContractsCommand
+     * and returns an ExpiringContractsCommand object for execution.
+     *
+     * @param args The user input arguments to parse.
+     * @return An ExpiringContractsCommand listing the contracts ending from today to {@code DAYS} days later.
+     * @throws ParseException If the argument is not an integer from 0 to {@link #MAX_DAYS}.
+     */
+    @Override
+    public ExpiringContractsCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (!trimmedArgs.matches("\\d{1,5}") || Integer.parseInt(trimmedArgs) > MAX_DAYS) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ExpiringContractsCommand.MESSAGE_USAGE));
+        }
+
+        LocalDate today = LocalDate.now();
+        return new ExpiringContractsCommand(today, today.plusDays(Integer.parseInt(trimmedArgs)));
+    }
+}
@@ -9,6 +9,7 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.athlete.Athlete;
 import seedu.address.model.athlete.UniqueAthleteList;
 import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractRangeIndex;
 import seedu.address.model.contract.UniqueContractList;
 import seedu.address.model.organization.Organization;
 import seedu.address.model.organization.UniqueOrganizationList;
@@ -85,6 +86,18 @@ public class AddressBook implements ReadOnlyAddressBook {
         setContracts(newData.getContractList());
     }
 
+    /**
+     * Replaces this AddressBook’s data with that of {@code loaded}, which is left empty.
+     * The indexes of {@code loaded} are taken over instead of being built again, so that a fully built
+     * AddressBook can be put in place of this one's data without rebuilding it.
+     */
+    public void takeDataOf(AddressBook loaded) {
+        requireNonNull(loaded);
+        organizations.takeContentsOf(loaded.organizations);
+        athletes.takeContentsOf(loaded.athletes);
+        contracts.takeContentsOf(loaded.contracts);
+    }
+
     // ============================================================
     // Organization-Level Operations
     // ============================================================
@@ -171,6 +184,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         return contracts.asUnmodifiableObservableList();
     }
 
+    /** Returns the sorted range index over the contracts in the address book. */
+    public ContractRangeIndex getContractRangeIndex() {
+        return contracts.getRangeIndex();
+    }
+
     // ============================================================
     // Utility Methods
     // ============================================================
@@ -8,9 +8,12 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.athlete.Athlete;
 import seedu.address.model.athlete.ReadOnlyAthleteList;
 import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractAggregateIndex;
+import seedu.address.model.contract.ContractRangeIndex;
 import seedu.address.model.contract.ReadOnlyContractList;
 import seedu.address.model.organization.Organization;
 import seedu.address.model.organization.ReadOnlyOrganizationList;
+import seedu.address.model.search.SearchIndex;
 
 /**
  * The unified API of the Model component.
@@ -55,6 +58,12 @@ public interface Model {
     /** Replaces address book data with {@code addressBook}. */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Replaces address book data with the already built {@code data}, taking over its indexes, so that only
+     * the lists' contents are replaced here. {@code data} is left empty.
+     */
+    void setAddressBook(ModelData data);
+
     // ============================================================
     // Organization Logic
     // ============================================================
@@ -124,6 +133,24 @@ public interface Model {
     /** Updates the filtered contract list using the given predicate. */
     void updateFilteredContractList(Predicate<Contract> predicate);
 
+    /**
+     * Returns the per-athlete and per-organization contract aggregates over all contracts.
+     * The index is kept up to date as contracts are added and deleted.
+     */
+    ContractAggregateIndex getContractAggregateIndex();
+
+    /**
+     * Returns the sorted indexes of all contracts by amount, start date and end date, for range queries.
+     * The index is kept up to date as contracts are added and deleted.
+     */
+    ContractRangeIndex getContractRangeIndex();
+
+    /**
+     * Returns the fuzzy search indexes over athlete names, athlete sports and organization names.
+     * The index is kept up to date as athletes and organizations are added, edited and deleted.
+     */
+    SearchIndex getSearchIndex();
+
     /**
      * Returns true if there are any active filters currently applied
      * to the contract list.
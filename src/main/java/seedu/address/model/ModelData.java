@@ -0,0 +1,40 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.contract.ContractAggregateIndex;
+import seedu.address.model.search.SearchIndex;
+
+/**
+ * An AddressBook together with the indexes a {@code ModelManager} keeps alongside it, all fully built.
+ * It can be built away from the JavaFX application thread, such as while data is loaded in the background,
+ * and then put into a model with {@link Model#setAddressBook(ModelData)} without rebuilding anything.
+ */
+public class ModelData {
+
+    private final AddressBook addressBook;
+    private final ContractAggregateIndex contractAggregateIndex;
+    private final SearchIndex searchIndex;
+
+    /**
+     * Builds the indexes over {@code addressBook}, which is kept rather than copied.
+     */
+    public ModelData(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        this.addressBook = addressBook;
+        this.contractAggregateIndex = new ContractAggregateIndex(addressBook.getContractList());
+        this.searchIndex = new SearchIndex(addressBook.getAthleteList(), addressBook.getOrganizationList());
+    }
+
+    AddressBook getAddressBook() {
+        return addressBook;
+    }
+
+    ContractAggregateIndex getContractAggregateIndex() {
+        return contractAggregateIndex;
+    }
+
+    SearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+}
@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -15,11 +17,14 @@ import seedu.address.model.athlete.Athlete;
 import seedu.address.model.athlete.AthleteList;
 import seedu.address.model.athlete.ReadOnlyAthleteList;
 import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractAggregateIndex;
 import seedu.address.model.contract.ContractList;
+import seedu.address.model.contract.ContractRangeIndex;
 import seedu.address.model.contract.ReadOnlyContractList;
 import seedu.address.model.organization.Organization;
 import seedu.address.model.organization.OrganizationList;
 import seedu.address.model.organization.ReadOnlyOrganizationList;
+import seedu.address.model.search.SearchIndex;
 
 /**
  * Represents the in-memory model of all app data using a single AddressBook:
@@ -32,9 +37,8 @@ public class ModelManager implements Model {
     // ---- Single AddressBook domain ----
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final AthleteList athleteList;
-    private final ContractList contractList;
-    private final OrganizationList organizationList;
+    private final ContractAggregateIndex contractAggregateIndex;
+    private final SearchIndex searchIndex;
 
     // filtered views
     private final FilteredList<Organization> filteredOrganizations; // placeholder until wired
@@ -65,26 +69,16 @@ public class ModelManager implements Model {
         logger.fine("Initializing contract list: " + contractList);
         logger.fine("Initializing organization list: " + organizationList);
 
-        this.addressBook = new AddressBook(addressBook);
+        // The AddressBook is the only store of the data; the lists are added to it in bulk and not kept
+        this.addressBook = new AddressBook();
+        this.addressBook.setOrganizations(
+                concat(addressBook.getOrganizationList(), organizationList.getOrganizationList()));
+        this.addressBook.setAthletes(concat(addressBook.getAthleteList(), athleteList.getAthleteList()));
+        this.addressBook.setContracts(concat(addressBook.getContractList(), contractList.getContractList()));
         this.userPrefs = new UserPrefs(userPrefs);
-        this.athleteList = new AthleteList(athleteList);
-        this.contractList = new ContractList(contractList);
-        this.organizationList = new OrganizationList(organizationList);
 
-        // Populate addressBook with the loaded athletes
-        for (Athlete athlete : athleteList.getAthleteList()) {
-            this.addressBook.addAthlete(athlete);
-        }
-
-        // Populate addressBook with the loaded contracts
-        for (Contract contract : contractList.getContractList()) {
-            this.addressBook.addContract(contract);
-        }
-
-        // Populate addressBook with the loaded organizations
-        for (Organization organization : organizationList.getOrganizationList()) {
-            this.addressBook.addOrganization(organization);
-        }
+        this.contractAggregateIndex = new ContractAggregateIndex(this.addressBook.getContractList());
+        this.searchIndex = new SearchIndex(this.addressBook.getAthleteList(), this.addressBook.getOrganizationList());
 
         this.filteredContracts = new FilteredList<>(this.addressBook.getContractList());
         this.filteredOrganizations = new FilteredList<>(this.addressBook.getOrganizationList());
@@ -94,6 +88,23 @@ public class ModelManager implements Model {
         reapplyPredicate(filteredAthletes, athletePredicate);
     }
 
+    /**
+     * Returns the elements of {@code first} followed by those of {@code second},
+     * without copying either list if the other is empty.
+     */
+    private static <T> List<T> concat(List<T> first, List<T> second) {
+        if (first.isEmpty()) {
+            return second;
+        }
+        if (second.isEmpty()) {
+            return first;
+        }
+        List<T> combined = new ArrayList<>(first.size() + second.size());
+        combined.addAll(first);
+        combined.addAll(second);
+        return combined;
+    }
+
     /** Constructs a {@code ModelManager} with empty data. */
     public ModelManager() {
         this(new AddressBook(), new UserPrefs(), new AthleteList(), new ContractList(), new OrganizationList());
@@ -150,6 +161,21 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        contractAggregateIndex.resetData(this.addressBook.getContractList());
+        searchIndex.resetData(this.addressBook.getAthleteList(), this.addressBook.getOrganizationList());
+    }
+
+    /**
+     * Replaces the contents of the AddressBook with the already built {@code data}.
+     * The indexes are taken over before the lists are replaced, so that views redrawn when the lists
+     * change already see the new aggregates.
+     */
+    @Override
+    public void setAddressBook(ModelData data) {
+        requireNonNull(data);
+        contractAggregateIndex.takeContentsOf(data.getContractAggregateIndex());
+        searchIndex.takeContentsOf(data.getSearchIndex());
+        addressBook.takeDataOf(data.getAddressBook());
     }
 
     /** Returns the AddressBook. */
@@ -178,14 +204,16 @@ public class ModelManager implements Model {
         return addressBook.hasContract(contract);
     }
 
-    /** Adds a contract to the AddressBook. Updates filtered view. */
+    /**
+     * Adds a contract to the AddressBook.
+     * Only the new contract is tested against the current contract predicate. The athlete and organization lists
+     * are left unchanged; their cards are redrawn through the aggregate index's revision instead.
+     */
     @Override
     public void addContract(Contract contract) {
         requireNonNull(contract);
         addressBook.addContract(contract);
-        reapplyPredicate(filteredContracts, contractPredicate);
-        reapplyPredicate(filteredAthletes, athletePredicate);
-        reapplyPredicate(filteredOrganizations, organizationPredicate);
+        contractAggregateIndex.add(contract);
     }
 
     /** Deletes a contract from the AddressBook. */
@@ -193,9 +221,7 @@ public class ModelManager implements Model {
     public void deleteContract(Contract target) {
         requireNonNull(target);
         addressBook.removeContract(target);
-        reapplyPredicate(filteredContracts, contractPredicate);
-        reapplyPredicate(filteredAthletes, athletePredicate);
-        reapplyPredicate(filteredOrganizations, organizationPredicate);
+        contractAggregateIndex.remove(target);
     }
 
     /** Returns the filtered contract list. */
@@ -212,6 +238,24 @@ public class ModelManager implements Model {
         reapplyPredicate(filteredContracts, contractPredicate);
     }
 
+    /** Returns the contract aggregates maintained alongside the AddressBook's contract list. */
+    @Override
+    public ContractAggregateIndex getContractAggregateIndex() {
+        return contractAggregateIndex;
+    }
+
+    /** Returns the sorted range index kept by the AddressBook's contract list. */
+    @Override
+    public ContractRangeIndex getContractRangeIndex() {
+        return addressBook.getContractRangeIndex();
+    }
+
+    /** Returns the fuzzy search indexes maintained alongside the AddressBook's athletes and organizations. */
+    @Override
+    public SearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
     // ---- Organizations ----
 
     @Override
@@ -237,14 +281,15 @@ public class ModelManager implements Model {
     public void deleteOrganization(Organization target) {
         requireNonNull(target);
         addressBook.removeOrganization(target);
+        searchIndex.removeOrganization(target);
     }
 
-    /** Adds an organization to the AddressBook and updates filtered view. */
+    /** Adds an organization to the AddressBook. The filtered view only tests the new organization. */
     @Override
     public void addOrganization(Organization organization) {
         requireNonNull(organization);
         addressBook.addOrganization(organization);
-        reapplyPredicate(filteredOrganizations, organizationPredicate);
+        searchIndex.addOrganization(organization);
     }
 
     /** Replaces an existing organization with an edited organization. */
@@ -252,6 +297,8 @@ public class ModelManager implements Model {
     public void setOrganization(Organization target, Organization editedOrganization) {
         requireAllNonNull(target, editedOrganization);
         addressBook.setOrganization(target, editedOrganization);
+        searchIndex.removeOrganization(target);
+        searchIndex.addOrganization(editedOrganization);
     }
 
     /** Returns the filtered organization list. */
@@ -292,13 +339,14 @@ public class ModelManager implements Model {
     @Override
     public void deleteAthlete(Athlete target) {
         addressBook.removeAthlete(target);
+        searchIndex.removeAthlete(target);
     }
 
-    /** Adds an athlete to the AddressBook and updates filtered view. */
+    /** Adds an athlete to the AddressBook. The filtered view only tests the new athlete. */
     @Override
     public void addAthlete(Athlete athlete) {
         addressBook.addAthlete(athlete);
-        reapplyPredicate(filteredAthletes, athletePredicate);
+        searchIndex.addAthlete(athlete);
     }
 
     /** Returns the filtered athlete list. */
@@ -3,6 +3,8 @@ package seedu.address.model.athlete;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents an Athlete's age in playbook.io.
  * Guarantees: immutable; is valid as declared in {@link #isValidAge(String)}.
@@ -12,6 +14,7 @@ public class Age {
     public static final String MESSAGE_CONSTRAINTS =
             "Error: Ages should be a numeric integer between 1 and 99 (inclusive).";
     public static final String VALIDATION_REGEX = "^[1-9][0-9]?$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -26,11 +29,30 @@ public class Age {
         value = age;
     }
 
+    /**
+     * Constructs a {@code Age} from {@code validValue}, which {@link #tryParse} has already validated,
+     * without validating it again.
+     */
+    private Age(String validValue, boolean isValidated) {
+        assert isValidated;
+        value = validValue;
+    }
+
     /**
      * Returns true if a given string is a valid age.
      */
     public static boolean isValidAge(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns an {@code Age} for {@code age}, or null if it is not a valid age.
+     * The value is validated only once, and unlike the constructor, an invalid value is reported without throwing
+     * an exception.
+     */
+    public static Age tryParse(String age) {
+        requireNonNull(age);
+        return VALIDATION_PATTERN.matcher(age).matches() ? new Age(age, true) : null;
     }
 
     @Override
@@ -0,0 +1,51 @@
+package seedu.address.model.athlete;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+/**
+ * Hash key over the identity fields of an athlete, the name and sport compared by
+ * {@link Athlete#isSameAthlete(Athlete)}, so that athletes can be looked up by identity in hash maps.
+ * Two keys are equal exactly when the athletes they are made from are the same athlete.
+ */
+public final class AthleteIdentity {
+    private final Name name;
+    private final Sport sport;
+
+    /**
+     * Creates the key of an athlete with {@code name} and {@code sport}.
+     */
+    public AthleteIdentity(Name name, Sport sport) {
+        requireAllNonNull(name, sport);
+        this.name = name;
+        this.sport = sport;
+    }
+
+    /**
+     * Creates the key of {@code athlete}.
+     */
+    public AthleteIdentity(Athlete athlete) {
+        this(athlete.getName(), athlete.getSport());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AthleteIdentity)) {
+            return false;
+        }
+
+        AthleteIdentity otherIdentity = (AthleteIdentity) other;
+        return name.equals(otherIdentity.name) && sport.equals(otherIdentity.sport);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, sport);
+    }
+}
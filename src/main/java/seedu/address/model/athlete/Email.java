@@ -49,6 +49,15 @@ public class Email {
         value = email;
     }
 
+    /**
+     * Constructs a {@code Email} from {@code validValue}, which {@link #tryParse} has already validated,
+     * without validating it again.
+     */
+    private Email(String validValue, boolean isValidated) {
+        assert isValidated;
+        value = validValue;
+    }
+
     /**
      * Returns if a given string is a valid email.
      */
@@ -57,6 +66,16 @@ public class Email {
         return validator.isValid(test);
     }
 
+    /**
+     * Returns an {@code Email} for {@code email}, or null if it is not a valid email.
+     * The value is validated only once, and unlike the constructor, an invalid value is reported without throwing
+     * an exception.
+     */
+    public static Email tryParse(String email) {
+        requireNonNull(email);
+        return isValidEmail(email) ? new Email(email, true) : null;
+    }
+
     @Override
     public String toString() {
         return value;
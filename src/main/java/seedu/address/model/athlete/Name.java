@@ -4,6 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Locale;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.search.SearchKey;
 
 /**
  * Represents an Athlete's name in playbook.io.
@@ -20,9 +24,13 @@ public class Name {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "^(?=.{1,50}$)[A-Za-z][A-Za-z' -]*$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String fullName;
 
+    // Computed on first use; a race only computes an equal key twice
+    private SearchKey searchKey;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -31,16 +39,47 @@ public class Name {
     public Name(String name) {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
-        fullName = name.trim().replaceAll("\\s+", " ");
+        fullName = StringUtil.normaliseWhitespace(name);
+    }
+
+    /**
+     * Constructs a {@code Name} from {@code validValue}, which {@link #tryParse} has already validated,
+     * without validating it again.
+     */
+    private Name(String validValue, boolean isValidated) {
+        assert isValidated;
+        fullName = validValue;
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.trim().replaceAll("\\s+", " ").matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(StringUtil.normaliseWhitespace(test)).matches();
     }
 
+    /**
+     * Returns a {@code Name} for {@code name}, or null if it is not a valid name.
+     * The value is validated only once, and unlike the constructor, an invalid value is reported without throwing
+     * an exception.
+     */
+    public static Name tryParse(String name) {
+        requireNonNull(name);
+        String normalised = StringUtil.normaliseWhitespace(name);
+        return VALIDATION_PATTERN.matcher(normalised).matches() ? new Name(normalised, true) : null;
+    }
+
+    /**
+     * Returns the normalised form of this name used for fuzzy searches.
+     */
+    public SearchKey getSearchKey() {
+        SearchKey key = searchKey;
+        if (key == null) {
+            key = new SearchKey(fullName);
+            searchKey = key;
+        }
+        return key;
+    }
 
     @Override
     public String toString() {
@@ -4,6 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Locale;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.search.SearchKey;
 
 /**
  * Represents an Athlete's sport in playbook.io.
@@ -15,9 +19,13 @@ public class Sport {
             "Error: Sport names should only contain alphabetic characters and spaces, "
                     + "should not be blank, and be at most 50 characters.";
     public static final String VALIDATION_REGEX = "^(?=.{1,50}$)[A-Za-z][A-Za-z ]*$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
+    // Computed on first use; a race only computes an equal key twice
+    private SearchKey searchKey;
+
     /**
      * Constructs a {@code Sport}.
      *
@@ -26,14 +34,46 @@ public class Sport {
     public Sport(String sport) {
         requireNonNull(sport);
         checkArgument(isValidSport(sport), MESSAGE_CONSTRAINTS);
-        value = sport.trim().replaceAll("\\s+", " ");
+        value = StringUtil.normaliseWhitespace(sport);
+    }
+
+    /**
+     * Constructs a {@code Sport} from {@code validValue}, which {@link #tryParse} has already validated,
+     * without validating it again.
+     */
+    private Sport(String validValue, boolean isValidated) {
+        assert isValidated;
+        value = validValue;
     }
 
     /**
      * Returns true if a given string is a valid sport name.
      */
     public static boolean isValidSport(String test) {
-        return test.trim().replaceAll("\\s+", " ").matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(StringUtil.normaliseWhitespace(test)).matches();
+    }
+
+    /**
+     * Returns a {@code Sport} for {@code sport}, or null if it is not a valid sport name.
+     * The value is validated only once, and unlike the constructor, an invalid value is reported without throwing
+     * an exception.
+     */
+    public static Sport tryParse(String sport) {
+        requireNonNull(sport);
+        String normalised = StringUtil.normaliseWhitespace(sport);
+        return VALIDATION_PATTERN.matcher(normalised).matches() ? new Sport(normalised, true) : null;
+    }
+
+    /**
+     * Returns the normalised form of this sport used for fuzzy searches.
+     */
+    public SearchKey getSearchKey() {
+        SearchKey key = searchKey;
+        if (key == null) {
+            key = new SearchKey(value);
+            searchKey = key;
+        }
+        return key;
     }
 
     @Override
@@ -3,8 +3,10 @@ package seedu.address.model.athlete;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -17,6 +19,9 @@ import seedu.address.model.athlete.exceptions.DuplicateAthleteException;
  * unique in terms of identity in the UniqueAthleteList. However, the removal of an athlete uses
  * Athlete#equals(Object) so as to ensure that the athlete with exactly the same fields will be removed.
  *
+ * A hash index keyed on the identity fields (name and sport) is kept alongside the backing list so that
+ * identity lookups do not need to scan the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Athlete#isSameAthlete(Athlete)
@@ -26,13 +31,14 @@ public class UniqueAthleteList implements Iterable<Athlete> {
     private final ObservableList<Athlete> internalList = FXCollections.observableArrayList();
     private final ObservableList<Athlete> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private Map<AthleteIdentity, Athlete> identityIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent athlete as the given argument.
      */
     public boolean contains(Athlete toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameAthlete);
+        return identityIndex.containsKey(new AthleteIdentity(toCheck));
     }
 
     /**
@@ -41,8 +47,9 @@ public class UniqueAthleteList implements Iterable<Athlete> {
      */
     public void add(Athlete toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
-            throw new DuplicateAthleteException();
+        Athlete existing = identityIndex.putIfAbsent(new AthleteIdentity(toAdd), toAdd);
+        if (existing != null) {
+            throw new DuplicateAthleteException(existing, toAdd);
         }
         internalList.add(toAdd);
     }
@@ -53,9 +60,11 @@ public class UniqueAthleteList implements Iterable<Athlete> {
      */
     public void remove(Athlete toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        AthleteIdentity key = new AthleteIdentity(toRemove);
+        if (!toRemove.equals(identityIndex.get(key)) || !internalList.remove(toRemove)) {
             throw new AthleteNotFoundException();
         }
+        identityIndex.remove(key);
     }
 
     /**
@@ -65,19 +74,33 @@ public class UniqueAthleteList implements Iterable<Athlete> {
      */
     public void setAthletes(UniqueAthleteList replacement) {
         requireNonNull(replacement);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
         internalList.setAll(replacement.internalList);
     }
 
+    /**
+     * Replaces the contents of this list with the athletes in {@code loaded}, which is left empty.
+     * The index of {@code loaded} is taken over instead of being built again.
+     */
+    public void takeContentsOf(UniqueAthleteList loaded) {
+        requireNonNull(loaded);
+        identityIndex = loaded.identityIndex;
+        loaded.identityIndex = new HashMap<>();
+        internalList.setAll(loaded.internalList);
+        loaded.internalList.clear();
+    }
+
     /**
      * Replaces the contents of this list with {@code athletes}.
      * {@code athletes} must not contain duplicate athletes.
      */
     public void setAthletes(List<Athlete> athletes) {
         requireAllNonNull(athletes);
-        if (!athletesAreUnique(athletes)) {
-            throw new DuplicateAthleteException();
-        }
+        Map<AthleteIdentity, Athlete> replacementIndex = indexByIdentity(athletes);
 
+        identityIndex.clear();
+        identityIndex.putAll(replacementIndex);
         internalList.setAll(athletes);
     }
 
@@ -119,16 +142,18 @@ public class UniqueAthleteList implements Iterable<Athlete> {
     }
 
     /**
-     * Returns true if {@code athletes} contains only unique athletes.
+     * Returns {@code athletes} keyed by identity, built in a single pass.
+     *
+     * @throws DuplicateAthleteException naming the first pair of athletes that share the same identity.
      */
-    private boolean athletesAreUnique(List<Athlete> athletes) {
-        for (int i = 0; i < athletes.size() - 1; i++) {
-            for (int j = i + 1; j < athletes.size(); j++) {
-                if (athletes.get(i).isSameAthlete(athletes.get(j))) {
-                    return false;
-                }
+    private static Map<AthleteIdentity, Athlete> indexByIdentity(List<Athlete> athletes) {
+        Map<AthleteIdentity, Athlete> index = new HashMap<>();
+        for (Athlete athlete : athletes) {
+            Athlete existing = index.putIfAbsent(new AthleteIdentity(athlete), athlete);
+            if (existing != null) {
+                throw new DuplicateAthleteException(existing, athlete);
             }
         }
-        return true;
+        return index;
     }
 }
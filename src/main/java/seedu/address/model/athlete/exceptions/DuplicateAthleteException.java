@@ -1,5 +1,7 @@
 package seedu.address.model.athlete.exceptions;
 
+import seedu.address.model.athlete.Athlete;
+
 /**
  * Signals that the operation will result in duplicate Athletes
  */
@@ -7,4 +9,11 @@ public class DuplicateAthleteException extends RuntimeException {
     public DuplicateAthleteException() {
         super("Operation would result in duplicate athletes");
     }
+
+    /**
+     * Constructs a {@code DuplicateAthleteException} naming the two athletes that share the same identity.
+     */
+    public DuplicateAthleteException(Athlete existing, Athlete duplicate) {
+        super("Operation would result in duplicate athletes: " + existing + " and " + duplicate);
+    }
 }
@@ -1,5 +1,7 @@
 package seedu.address.model.contract;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.Objects;
 
 /**
@@ -12,6 +14,9 @@ public class Amount {
             "Error: Amount should be a numeric integer between 1 and 9,223,372,036,854,775,807(inclusive). "
                     + "Do not include currency symbols or commas.";
 
+    /** Returned by {@link #parsePositiveLong} for a string that is not a valid amount. */
+    private static final long INVALID_AMOUNT = 0;
+
     public final long value;
 
     /**
@@ -35,16 +40,43 @@ public class Amount {
      * @return true if the string is a valid positive long integer, false otherwise.
      */
     public static boolean isValidAmount(String test) {
-        if (test == null) {
-            return false;
+        return test != null && parsePositiveLong(test.trim()) != INVALID_AMOUNT;
+    }
+
+    /**
+     * Returns an {@code Amount} for {@code amount}, or null if it is not a valid amount.
+     * The string is parsed only once, and an invalid value is reported without throwing an exception.
+     */
+    public static Amount tryParse(String amount) {
+        requireNonNull(amount);
+        long value = parsePositiveLong(amount.trim());
+        return value == INVALID_AMOUNT ? null : new Amount(value);
+    }
+
+    /**
+     * Returns the positive {@code long} in {@code s}, or {@link #INVALID_AMOUNT} if {@code s} is not one.
+     * Accepts the same strings as {@link Long#parseLong(String)}, without its exception on invalid input.
+     */
+    private static long parsePositiveLong(String s) {
+        int length = s.length();
+        if (length > 0 && s.charAt(0) == '-') {
+            // a negative number is never a valid amount
+            return INVALID_AMOUNT;
+        }
+        int start = length > 0 && s.charAt(0) == '+' ? 1 : 0;
+        if (start == length) {
+            return INVALID_AMOUNT;
         }
-        String t = test.trim();
-        try {
-            long v = Long.parseLong(t);
-            return v > 0;
-        } catch (NumberFormatException e) {
-            return false;
+
+        long value = 0;
+        for (int i = start; i < length; i++) {
+            int digit = Character.digit(s.charAt(i), 10);
+            if (digit < 0 || value > (Long.MAX_VALUE - digit) / 10) {
+                return INVALID_AMOUNT;
+            }
+            value = value * 10 + digit;
         }
+        return value > 0 ? value : INVALID_AMOUNT;
     }
 
     @Override public String toString() {
@@ -0,0 +1,176 @@
+package seedu.address.model.contract;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.beans.property.LongProperty;
+import javafx.beans.property.ReadOnlyLongProperty;
+import javafx.beans.property.SimpleLongProperty;
+import seedu.address.model.athlete.Athlete;
+import seedu.address.model.athlete.AthleteIdentity;
+import seedu.address.model.organization.Organization;
+import seedu.address.model.organization.OrganizationName;
+
+/**
+ * Per-athlete and per-organization aggregates over a set of contracts.
+ * For every athlete and organization, the index holds the total contract amount and the distinct
+ * counterparties on the other side of its contracts. Athletes are matched by
+ * {@code Athlete#isSameAthlete(Athlete)} and organizations by {@code Organization#isSameOrganization(Organization)}.
+ * <p>
+ * The index is updated incrementally as contracts are added and removed, so lookups do not scan the contract list.
+ * Every update increments {@link #revisionProperty()}, which views showing the aggregates observe to redraw,
+ * so that the athlete and organization lists do not have to report a change for them to be redrawn.
+ */
+public class ContractAggregateIndex {
+
+    private Map<AthleteIdentity, Aggregate<OrganizationName, Organization>> byAthlete = new HashMap<>();
+    private Map<OrganizationName, Aggregate<AthleteIdentity, Athlete>> byOrganization = new HashMap<>();
+    private final LongProperty revision = new SimpleLongProperty();
+
+    /**
+     * Creates an empty index.
+     */
+    public ContractAggregateIndex() {}
+
+    /**
+     * Creates an index over {@code contracts}.
+     */
+    public ContractAggregateIndex(List<Contract> contracts) {
+        this();
+        resetData(contracts);
+    }
+
+    /**
+     * Replaces the contents of this index with aggregates over {@code contracts}.
+     */
+    public void resetData(List<Contract> contracts) {
+        requireNonNull(contracts);
+        byAthlete.clear();
+        byOrganization.clear();
+        contracts.forEach(this::record);
+        revision.set(revision.get() + 1);
+    }
+
+    /**
+     * Replaces the contents of this index with those of {@code loaded}, which is left empty.
+     * The aggregates of {@code loaded} are taken over instead of being computed again.
+     */
+    public void takeContentsOf(ContractAggregateIndex loaded) {
+        requireNonNull(loaded);
+        byAthlete = loaded.byAthlete;
+        byOrganization = loaded.byOrganization;
+        loaded.byAthlete = new HashMap<>();
+        loaded.byOrganization = new HashMap<>();
+        revision.set(revision.get() + 1);
+    }
+
+    /**
+     * Records {@code contract} against its athlete and organization.
+     */
+    public void add(Contract contract) {
+        requireNonNull(contract);
+        record(contract);
+        revision.set(revision.get() + 1);
+    }
+
+    private void record(Contract contract) {
+        Athlete athlete = contract.getAthlete();
+        Organization organization = contract.getOrganization();
+        long amount = contract.getAmount().value;
+
+        byAthlete.computeIfAbsent(new AthleteIdentity(athlete), unused -> new Aggregate<>())
+                .add(organization.getName(), organization, amount);
+        byOrganization.computeIfAbsent(organization.getName(), unused -> new Aggregate<>())
+                .add(new AthleteIdentity(athlete), athlete, amount);
+    }
+
+    /**
+     * Removes a previously recorded {@code contract} from the aggregates of its athlete and organization.
+     */
+    public void remove(Contract contract) {
+        requireNonNull(contract);
+        AthleteIdentity athleteIdentity = new AthleteIdentity(contract.getAthlete());
+        OrganizationName organizationName = contract.getOrganization().getName();
+        long amount = contract.getAmount().value;
+
+        Aggregate<OrganizationName, Organization> athleteAggregate = byAthlete.get(athleteIdentity);
+        if (athleteAggregate != null && athleteAggregate.remove(organizationName, amount)) {
+            byAthlete.remove(athleteIdentity);
+        }
+        Aggregate<AthleteIdentity, Athlete> organizationAggregate = byOrganization.get(organizationName);
+        if (organizationAggregate != null && organizationAggregate.remove(athleteIdentity, amount)) {
+            byOrganization.remove(organizationName);
+        }
+        revision.set(revision.get() + 1);
+    }
+
+    /**
+     * Returns the number of times the aggregates have been updated, which changes after every update.
+     */
+    public ReadOnlyLongProperty revisionProperty() {
+        return revision;
+    }
+
+    /**
+     * Returns the sum of the amounts of all contracts held by {@code athlete}.
+     */
+    public long getTotalContractAmount(Athlete athlete) {
+        Aggregate<OrganizationName, Organization> aggregate = byAthlete.get(new AthleteIdentity(athlete));
+        return aggregate == null ? 0 : aggregate.totalAmount;
+    }
+
+    /**
+     * Returns the distinct organizations {@code athlete} has contracts with, in the order they were first linked.
+     */
+    public List<Organization> getOrganizations(Athlete athlete) {
+        Aggregate<OrganizationName, Organization> aggregate = byAthlete.get(new AthleteIdentity(athlete));
+        return aggregate == null ? List.of() : List.copyOf(aggregate.counterparties.values());
+    }
+
+    /**
+     * Returns the sum of the amounts of all contracts offered by {@code organization}.
+     */
+    public long getTotalContractAmount(Organization organization) {
+        Aggregate<AthleteIdentity, Athlete> aggregate = byOrganization.get(organization.getName());
+        return aggregate == null ? 0 : aggregate.totalAmount;
+    }
+
+    /**
+     * Returns the distinct athletes {@code organization} has contracts with, in the order they were first linked.
+     */
+    public List<Athlete> getAthletes(Organization organization) {
+        Aggregate<AthleteIdentity, Athlete> aggregate = byOrganization.get(organization.getName());
+        return aggregate == null ? List.of() : List.copyOf(aggregate.counterparties.values());
+    }
+
+    /**
+     * Running total and counterparty multiset for one athlete or organization.
+     */
+    private static final class Aggregate<K, V> {
+        private long totalAmount;
+        private final Map<K, V> counterparties = new LinkedHashMap<>();
+        private final Map<K, Integer> contractCounts = new HashMap<>();
+
+        void add(K key, V counterparty, long amount) {
+            totalAmount += amount;
+            counterparties.putIfAbsent(key, counterparty);
+            contractCounts.merge(key, 1, Integer::sum);
+        }
+
+        /**
+         * Returns true if no contracts remain in this aggregate after the removal.
+         */
+        boolean remove(K key, long amount) {
+            totalAmount -= amount;
+            if (contractCounts.merge(key, -1, Integer::sum) <= 0) {
+                contractCounts.remove(key);
+                counterparties.remove(key);
+            }
+            return contractCounts.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package seedu.address.model.contract;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * Sorted indexes of a set of contracts by amount, start date and end date, for range queries such as
+ * "contracts ending between two dates" or "contracts worth at least an amount".
+ * A range query takes O(log n + k) time for k matching contracts, instead of scanning all n contracts.
+ * <p>
+ * The index is updated by {@link UniqueContractList} as contracts are added and removed,
+ * and is read-only to everything else.
+ */
+public class ContractRangeIndex {
+
+    /**
+     * The contract fields that are indexed. Every field is compared as a {@code long}:
+     * amounts by value, and dates by their epoch day.
+     */
+    public enum Field {
+        AMOUNT("amount", contract -> contract.getAmount().value),
+        START_DATE("start date", contract -> contract.getStartDate().toEpochDay()),
+        END_DATE("end date", contract -> contract.getEndDate().toEpochDay());
+
+        private final String description;
+        private final ToLongFunction<Contract> value;
+
+        Field(String description, ToLongFunction<Contract> value) {
+            this.description = description;
+            this.value = value;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        /** Returns the value of this field in {@code contract}. */
+        public long valueOf(Contract contract) {
+            return value.applyAsLong(contract);
+        }
+    }
+
+    private Map<Field, NavigableMap<Long, List<Contract>>> indexes = emptyIndexes();
+    private int size;
+
+    /**
+     * Creates an empty index.
+     */
+    ContractRangeIndex() {}
+
+    private static Map<Field, NavigableMap<Long, List<Contract>>> emptyIndexes() {
+        Map<Field, NavigableMap<Long, List<Contract>>> indexes = new EnumMap<>(Field.class);
+        for (Field field : Field.values()) {
+            indexes.put(field, new TreeMap<>());
+        }
+        return indexes;
+    }
+
+    /**
+     * Returns the contracts whose {@code field} lies within {@code [min, max]}, in ascending order of the field.
+     * Contracts with the same value are returned in the order they were added.
+     */
+    public List<Contract> findInRange(Field field, long min, long max) {
+        requireNonNull(field);
+        List<Contract> contracts = new ArrayList<>();
+        if (min > max) {
+            return contracts;
+        }
+        for (List<Contract> contractsWithValue : indexes.get(field).subMap(min, true, max, true).values()) {
+            contracts.addAll(contractsWithValue);
+        }
+        return contracts;
+    }
+
+    /**
+     * Returns the number of contracts whose {@code field} lies within {@code [min, max]}, or {@code limit} if there
+     * are at least that many. At most {@code limit} distinct values are visited, so a broad range is not walked
+     * in full only to learn that it is broad.
+     */
+    public int countInRange(Field field, long min, long max, int limit) {
+        requireNonNull(field);
+        if (min > max) {
+            return 0;
+        }
+        int count = 0;
+        for (List<Contract> contractsWithValue : indexes.get(field).subMap(min, true, max, true).values()) {
+            count += contractsWithValue.size();
+            if (count >= limit) {
+                return limit;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of contracts in the index.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds {@code contract} to the index.
+     */
+    void add(Contract contract) {
+        requireNonNull(contract);
+        for (Field field : Field.values()) {
+            indexes.get(field).computeIfAbsent(field.valueOf(contract), k -> new ArrayList<>(1)).add(contract);
+        }
+        size++;
+    }
+
+    /**
+     * Removes {@code contract} from the index. Does nothing if the contract is not in the index.
+     */
+    void remove(Contract contract) {
+        requireNonNull(contract);
+        boolean isRemoved = false;
+        for (Field field : Field.values()) {
+            NavigableMap<Long, List<Contract>> index = indexes.get(field);
+            long value = field.valueOf(contract);
+            List<Contract> contractsWithValue = index.get(value);
+            if (contractsWithValue == null || !removeContract(contractsWithValue, contract)) {
+                continue;
+            }
+            isRemoved = true;
+            if (contractsWithValue.isEmpty()) {
+                index.remove(value);
+            }
+        }
+        if (isRemoved) {
+            size--;
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with {@code contracts}.
+     */
+    void resetData(List<Contract> contracts) {
+        requireNonNull(contracts);
+        indexes.values().forEach(Map::clear);
+        size = 0;
+        contracts.forEach(this::add);
+    }
+
+    /**
+     * Replaces the contents of this index with those of {@code loaded}, taking over its sorted maps instead of
+     * sorting its contracts again, and leaves {@code loaded} empty.
+     */
+    void takeContentsOf(ContractRangeIndex loaded) {
+        requireNonNull(loaded);
+        indexes = loaded.indexes;
+        size = loaded.size;
+        loaded.indexes = emptyIndexes();
+        loaded.size = 0;
+    }
+
+    /**
+     * Removes {@code contract} from {@code contracts}, preferring the same instance over an equal one.
+     */
+    private static boolean removeContract(List<Contract> contracts, Contract contract) {
+        for (int i = 0; i < contracts.size(); i++) {
+            if (contracts.get(i) == contract) {
+                contracts.remove(i);
+                return true;
+            }
+        }
+        return contracts.remove(contract);
+    }
+}
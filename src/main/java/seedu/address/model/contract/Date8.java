@@ -3,18 +3,22 @@ package seedu.address.model.contract;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.ResolverStyle;
-import java.util.Objects;
 
-/** DDMMYYYY date with strict validation (e.g., 01012025). */
-public class Date8 {
+/**
+ * DDMMYYYY date with strict validation (e.g., 01012025).
+ * The date is also kept as its epoch day, so that comparing dates does not need to parse them.
+ */
+public class Date8 implements Comparable<Date8> {
     public static final String MESSAGE_CONSTRAINTS =
             "Error: Date must be DDMMYYYY and a real calendar date (e.g., 01012025).";
-    private static final DateTimeFormatter FMT =
-            DateTimeFormatter.ofPattern("ddMMuuuu").withResolverStyle(ResolverStyle.STRICT);
+
+    /** Returned by {@link #parseEpochDay} for a string that is not a valid date. */
+    private static final int INVALID_EPOCH_DAY = Integer.MIN_VALUE;
+    private static final int DAYS_PER_CYCLE = 146097;
+    private static final int DAYS_0000_TO_1970 = (DAYS_PER_CYCLE * 5) - (30 * 365 + 7);
 
     public final String value;
+    private final int epochDay;
 
     /**
      * Constructs a {@code Date8} with the given date string.
@@ -26,15 +30,17 @@ public class Date8 {
     public Date8(String value) {
         requireNonNull(value);
         String v = value.trim();
-        if (v.length() != 8 || !v.chars().allMatch(Character::isDigit)) {
-            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
-        }
-        try {
-            LocalDate.parse(v, FMT); // throws if invalid
-        } catch (Exception e) {
+        int parsedEpochDay = parseEpochDay(v);
+        if (parsedEpochDay == INVALID_EPOCH_DAY) {
             throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
         }
         this.value = v;
+        this.epochDay = parsedEpochDay;
+    }
+
+    private Date8(String value, int epochDay) {
+        this.value = value;
+        this.epochDay = epochDay;
     }
 
     /**
@@ -44,19 +50,93 @@ public class Date8 {
      * @return true if valid, false otherwise.
      */
     public static boolean isValidDate8(String test) {
-        if (test == null) {
-            return false;
+        return test != null && parseEpochDay(test.trim()) != INVALID_EPOCH_DAY;
+    }
+
+    /**
+     * Returns a {@code Date8} for {@code date}, or null if it is not a valid DDMMYYYY date.
+     * The string is parsed only once, and an invalid value is reported without throwing an exception.
+     */
+    public static Date8 tryParse(String date) {
+        requireNonNull(date);
+        String trimmed = date.trim();
+        int epochDay = parseEpochDay(trimmed);
+        return epochDay == INVALID_EPOCH_DAY ? null : new Date8(trimmed, epochDay);
+    }
+
+    /**
+     * Returns the epoch day of the DDMMYYYY date in {@code date},
+     * or {@link #INVALID_EPOCH_DAY} if it is not a real calendar date in that format.
+     * Malformed input is rejected character by character instead of through a parse exception.
+     */
+    private static int parseEpochDay(String date) {
+        if (date.length() != 8) {
+            return INVALID_EPOCH_DAY;
         }
-        String t = test.trim();
-        if (t.length() != 8 || !t.chars().allMatch(Character::isDigit)) {
-            return false;
+        for (int i = 0; i < 8; i++) {
+            char c = date.charAt(i);
+            if (c < '0' || c > '9') {
+                return INVALID_EPOCH_DAY;
+            }
         }
-        try {
-            LocalDate.parse(t, FMT);
-            return true;
-        } catch (Exception e) {
-            return false;
+
+        int day = digitsAt(date, 0, 2);
+        int month = digitsAt(date, 2, 4);
+        int year = digitsAt(date, 4, 8);
+        if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return INVALID_EPOCH_DAY;
         }
+        return toEpochDay(year, month, day);
+    }
+
+    private static int digitsAt(String s, int start, int end) {
+        int result = 0;
+        for (int i = start; i < end; i++) {
+            result = result * 10 + (s.charAt(i) - '0');
+        }
+        return result;
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year % 4 == 0) && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+        case 2:
+            return isLeapYear(year) ? 29 : 28;
+        case 4:
+        case 6:
+        case 9:
+        case 11:
+            return 30;
+        default:
+            return 31;
+        }
+    }
+
+    /**
+     * Returns the epoch day of a valid date in a non-negative year, using the same arithmetic as
+     * {@link LocalDate#toEpochDay()} without creating a {@code LocalDate}.
+     */
+    private static int toEpochDay(int year, int month, int day) {
+        int total = 365 * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Returns the number of days from 01011970 to this date, which is negative for earlier dates.
+     */
+    public int toEpochDay() {
+        return epochDay;
     }
 
     /**
@@ -65,16 +145,28 @@ public class Date8 {
      * @return A LocalDate representing the same date as this Date8.
      */
     public LocalDate toLocalDate() {
-        return LocalDate.parse(value, FMT);
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Returns true if this date is strictly after {@code other}.
+     */
+    public boolean isAfter(Date8 other) {
+        return epochDay > other.epochDay;
+    }
+
+    @Override
+    public int compareTo(Date8 other) {
+        return Integer.compare(epochDay, other.epochDay);
     }
 
     @Override public String toString() {
         return value;
     }
     @Override public boolean equals(Object o) {
-        return o instanceof Date8 && value.equals(((Date8) o).value);
+        return o instanceof Date8 && epochDay == ((Date8) o).epochDay;
     }
     @Override public int hashCode() {
-        return Objects.hash(value);
+        return Integer.hashCode(epochDay);
     }
 }
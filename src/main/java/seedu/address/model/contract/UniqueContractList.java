@@ -3,38 +3,51 @@ package seedu.address.model.contract;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.athlete.Name;
+import seedu.address.model.athlete.Sport;
 import seedu.address.model.contract.exceptions.ContractNotFoundException;
 import seedu.address.model.contract.exceptions.DuplicateContractException;
+import seedu.address.model.organization.OrganizationName;
 
 /**
  * A list of contracts that enforces uniqueness between its elements and does not allow nulls.
  * A contract is considered unique by comparing using {@code Contract#isSameContract(Contract)}.
  * Adding and updating use isSameContract to ensure identity uniqueness.
  * Removal uses equals to ensure exact-field match removal.
+ * A hash index keyed on the identity fields is kept alongside the backing list so that
+ * identity lookups do not need to scan the list, and a {@link ContractRangeIndex} is kept so that
+ * range queries on amounts and dates do not need to scan it either.
  */
 public class UniqueContractList implements Iterable<Contract> {
 
     private final ObservableList<Contract> internalList = FXCollections.observableArrayList();
     private final ObservableList<Contract> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private Map<IdentityKey, Contract> identityIndex = new HashMap<>();
+    private final ContractRangeIndex rangeIndex = new ContractRangeIndex();
 
     /** Returns true if the list contains an equivalent contract as the given argument. */
     public boolean contains(Contract toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameContract);
+        return identityIndex.containsKey(new IdentityKey(toCheck));
     }
 
     /** Adds a contract to the list. The contract must not already exist in the list. */
     public void add(Contract toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
-            throw new DuplicateContractException();
+        Contract existing = identityIndex.putIfAbsent(new IdentityKey(toAdd), toAdd);
+        if (existing != null) {
+            throw new DuplicateContractException(existing, toAdd);
         }
+        rangeIndex.add(toAdd);
         internalList.add(toAdd);
     }
 
@@ -52,38 +65,69 @@ public class UniqueContractList implements Iterable<Contract> {
         }
 
         if (!target.isSameContract(editedContract) && contains(editedContract)) {
-            throw new DuplicateContractException();
+            throw new DuplicateContractException(identityIndex.get(new IdentityKey(editedContract)), editedContract);
         }
 
+        identityIndex.remove(new IdentityKey(target));
+        identityIndex.put(new IdentityKey(editedContract), editedContract);
+        rangeIndex.remove(internalList.get(index));
+        rangeIndex.add(editedContract);
         internalList.set(index, editedContract);
     }
 
     /** Removes the equivalent contract from the list. The contract must exist in the list. */
     public void remove(Contract toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) { // uses equals
+        IdentityKey key = new IdentityKey(toRemove);
+        Contract existing = identityIndex.get(key);
+        if (!toRemove.equals(existing) || !internalList.remove(toRemove)) { // uses equals
             throw new ContractNotFoundException();
         }
+        identityIndex.remove(key);
+        rangeIndex.remove(existing);
     }
 
     /** Replaces the contents of this list with {@code contracts}. */
     public void setContracts(UniqueContractList replacement) {
         requireNonNull(replacement);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        rangeIndex.resetData(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
+    /**
+     * Replaces the contents of this list with the contracts in {@code loaded}, which is left empty.
+     * The indexes of {@code loaded} are taken over instead of being built again.
+     */
+    public void takeContentsOf(UniqueContractList loaded) {
+        requireNonNull(loaded);
+        identityIndex = loaded.identityIndex;
+        loaded.identityIndex = new HashMap<>();
+        rangeIndex.takeContentsOf(loaded.rangeIndex);
+        internalList.setAll(loaded.internalList);
+        loaded.internalList.clear();
+    }
+
     /**
      * Replaces the contents of this list with {@code contracts}.
      * {@code contracts} must not contain duplicate contracts.
      */
     public void setContracts(List<Contract> contracts) {
         requireAllNonNull(contracts);
-        if (!contractsAreUnique(contracts)) {
-            throw new DuplicateContractException();
-        }
+        Map<IdentityKey, Contract> replacementIndex = indexByIdentity(contracts);
+
+        identityIndex.clear();
+        identityIndex.putAll(replacementIndex);
+        rangeIndex.resetData(contracts);
         internalList.setAll(contracts);
     }
 
+    /** Returns the sorted range index over the contracts in this list. */
+    public ContractRangeIndex getRangeIndex() {
+        return rangeIndex;
+    }
+
     /** Returns the backing list as an unmodifiable {@code ObservableList}. */
     public ObservableList<Contract> asUnmodifiableObservableList() {
         return internalUnmodifiableList;
@@ -116,15 +160,63 @@ public class UniqueContractList implements Iterable<Contract> {
         return internalList.toString();
     }
 
-    /** Returns true if {@code contracts} contains only unique contracts. */
-    private boolean contractsAreUnique(List<Contract> contracts) {
-        for (int i = 0; i < contracts.size() - 1; i++) {
-            for (int j = i + 1; j < contracts.size(); j++) {
-                if (contracts.get(i).isSameContract(contracts.get(j))) {
-                    return false;
-                }
+    /**
+     * Returns {@code contracts} keyed by identity, built in a single pass.
+     *
+     * @throws DuplicateContractException naming the first pair of contracts that share the same identity.
+     */
+    private static Map<IdentityKey, Contract> indexByIdentity(List<Contract> contracts) {
+        Map<IdentityKey, Contract> index = new HashMap<>();
+        for (Contract contract : contracts) {
+            Contract existing = index.putIfAbsent(new IdentityKey(contract), contract);
+            if (existing != null) {
+                throw new DuplicateContractException(existing, contract);
             }
         }
-        return true;
+        return index;
+    }
+
+    /** Hash key over the identity fields compared by {@code Contract#isSameContract(Contract)}. */
+    private static final class IdentityKey {
+        private final Name athleteName;
+        private final Sport athleteSport;
+        private final Sport sport;
+        private final OrganizationName organizationName;
+        private final Date8 startDate;
+        private final Date8 endDate;
+        private final Amount amount;
+
+        IdentityKey(Contract contract) {
+            this.athleteName = contract.getAthlete().getName();
+            this.athleteSport = contract.getAthlete().getSport();
+            this.sport = contract.getSport();
+            this.organizationName = contract.getOrganization().getName();
+            this.startDate = contract.getStartDate();
+            this.endDate = contract.getEndDate();
+            this.amount = contract.getAmount();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof IdentityKey)) {
+                return false;
+            }
+            IdentityKey o = (IdentityKey) other;
+            return athleteName.equals(o.athleteName)
+                    && athleteSport.equals(o.athleteSport)
+                    && sport.equals(o.sport)
+                    && organizationName.equals(o.organizationName)
+                    && startDate.equals(o.startDate)
+                    && endDate.equals(o.endDate)
+                    && amount.equals(o.amount);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(athleteName, athleteSport, sport, organizationName, startDate, endDate, amount);
+        }
     }
 }
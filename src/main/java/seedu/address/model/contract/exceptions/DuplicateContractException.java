@@ -1,5 +1,7 @@
 package seedu.address.model.contract.exceptions;
 
+import seedu.address.model.contract.Contract;
+
 /** Signals that the operation will result in duplicate contracts. */
 public class DuplicateContractException extends RuntimeException {
     /**
@@ -8,4 +10,11 @@ public class DuplicateContractException extends RuntimeException {
     public DuplicateContractException() {
         super("Operation would result in duplicate contracts");
     }
+
+    /**
+     * Constructs a new {@code DuplicateContractException} naming the two contracts that share the same identity.
+     */
+    public DuplicateContractException(Contract existing, Contract duplicate) {
+        super("Operation would result in duplicate contracts: " + existing + " and " + duplicate);
+    }
 }
@@ -47,6 +47,15 @@ public class OrganizationEmail {
         value = email.trim();
     }
 
+    /**
+     * Constructs a {@code OrganizationEmail} from {@code validValue}, which {@link #tryParse} has already validated,
+     * without validating it again.
+     */
+    private OrganizationEmail(String validValue, boolean isValidated) {
+        assert isValidated;
+        value = validValue;
+    }
+
     /**
      * Returns true if a given string is a valid email.
      */
@@ -55,6 +64,16 @@ public class OrganizationEmail {
         return validator.isValid(test);
     }
 
+    /**
+     * Returns an {@code OrganizationEmail} for {@code email}, or null if it is not a valid email.
+     * The value is validated only once, and unlike the constructor, an invalid value is reported without throwing
+     * an exception.
+     */
+    public static OrganizationEmail tryParse(String email) {
+        requireNonNull(email);
+        return isValidEmail(email) ? new OrganizationEmail(email.trim(), true) : null;
+    }
+
     @Override
     public String toString() {
         return value;
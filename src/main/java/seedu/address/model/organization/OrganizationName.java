@@ -4,6 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Locale;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.search.SearchKey;
 
 /**
  * Represents an Organization's name in playbook.io.
@@ -20,9 +24,13 @@ public class OrganizationName {
      * Must start with an alphanumeric character and be at most 50 characters.
      */
     public static final String VALIDATION_REGEX = "^(?=.{1,50}$)[A-Za-z0-9][A-Za-z0-9' &-]*$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String fullOrganizationName;
 
+    // Computed on first use; a race only computes an equal key twice
+    private SearchKey searchKey;
+
     /**
      * Constructs a {@code OrganizationName}.
      *
@@ -31,14 +39,46 @@ public class OrganizationName {
     public OrganizationName(String name) {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
-        fullOrganizationName = name.trim().replaceAll("\\s+", " ");
+        fullOrganizationName = StringUtil.normaliseWhitespace(name);
+    }
+
+    /**
+     * Constructs a {@code OrganizationName} from {@code validValue}, which {@link #tryParse} has already validated,
+     * without validating it again.
+     */
+    private OrganizationName(String validValue, boolean isValidated) {
+        assert isValidated;
+        fullOrganizationName = validValue;
     }
 
     /**
      * Returns true if a given string is a valid organization name.
      */
     public static boolean isValidName(String test) {
-        return test.trim().replaceAll("\\s+", " ").matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(StringUtil.normaliseWhitespace(test)).matches();
+    }
+
+    /**
+     * Returns an {@code OrganizationName} for {@code name}, or null if it is not a valid organization name.
+     * The value is validated only once, and unlike the constructor, an invalid value is reported without throwing
+     * an exception.
+     */
+    public static OrganizationName tryParse(String name) {
+        requireNonNull(name);
+        String normalised = StringUtil.normaliseWhitespace(name);
+        return VALIDATION_PATTERN.matcher(normalised).matches() ? new OrganizationName(normalised, true) : null;
+    }
+
+    /**
+     * Returns the normalised form of this organization name used for fuzzy searches.
+     */
+    public SearchKey getSearchKey() {
+        SearchKey key = searchKey;
+        if (key == null) {
+            key = new SearchKey(fullOrganizationName);
+            searchKey = key;
+        }
+        return key;
     }
 
     @Override
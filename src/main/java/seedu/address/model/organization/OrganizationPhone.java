@@ -3,6 +3,8 @@ package seedu.address.model.organization;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents an Organization's phone number in playbook.io.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}.
@@ -13,6 +15,7 @@ public class OrganizationPhone {
             "Error: Phone numbers should only contain numbers, and be exactly 8 digits long, "
                     + "and start with 6, 8, or 9.";
     public static final String VALIDATION_REGEX = "^[689]\\d{7}$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -27,11 +30,30 @@ public class OrganizationPhone {
         value = phone.trim();
     }
 
+    /**
+     * Constructs a {@code OrganizationPhone} from {@code validValue}, which {@link #tryParse} has already validated,
+     * without validating it again.
+     */
+    private OrganizationPhone(String validValue, boolean isValidated) {
+        assert isValidated;
+        value = validValue;
+    }
+
     /**
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns an {@code OrganizationPhone} for {@code phone}, or null if it is not a valid phone number.
+     * The value is validated only once, and unlike the constructor, an invalid value is reported without throwing
+     * an exception.
+     */
+    public static OrganizationPhone tryParse(String phone) {
+        requireNonNull(phone);
+        return VALIDATION_PATTERN.matcher(phone).matches() ? new OrganizationPhone(phone, true) : null;
     }
 
     @Override
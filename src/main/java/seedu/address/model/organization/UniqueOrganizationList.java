@@ -3,8 +3,10 @@ package seedu.address.model.organization;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +21,9 @@ import seedu.address.model.organization.exceptions.OrganizationNotFoundException
  * UniqueOrganizationList. However, the removal of an Organization uses Organization#equals(Object) so as to
  * ensure that the Organization with exactly the same fields will be removed.
  * <p>
+ * A hash index keyed on {@code OrganizationName} is kept alongside the backing list so that identity
+ * lookups do not need to scan the list.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see Organization#isSameOrganization(Organization)
@@ -28,13 +33,14 @@ public class UniqueOrganizationList implements Iterable<Organization> {
     private final ObservableList<Organization> internalList = FXCollections.observableArrayList();
     private final ObservableList<Organization> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private Map<OrganizationName, Organization> identityIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent Organization as the given argument.
      */
     public boolean contains(Organization toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameOrganization);
+        return identityIndex.containsKey(toCheck.getName());
     }
 
     /**
@@ -43,8 +49,9 @@ public class UniqueOrganizationList implements Iterable<Organization> {
      */
     public void add(Organization toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
-            throw new DuplicateOrganizationException();
+        Organization existing = identityIndex.putIfAbsent(toAdd.getName(), toAdd);
+        if (existing != null) {
+            throw new DuplicateOrganizationException(existing, toAdd);
         }
         internalList.add(toAdd);
     }
@@ -64,9 +71,12 @@ public class UniqueOrganizationList implements Iterable<Organization> {
         }
 
         if (!target.isSameOrganization(editedOrganization) && contains(editedOrganization)) {
-            throw new DuplicateOrganizationException();
+            throw new DuplicateOrganizationException(identityIndex.get(editedOrganization.getName()),
+                    editedOrganization);
         }
 
+        identityIndex.remove(target.getName());
+        identityIndex.put(editedOrganization.getName(), editedOrganization);
         internalList.set(index, editedOrganization);
     }
 
@@ -76,9 +86,10 @@ public class UniqueOrganizationList implements Iterable<Organization> {
      */
     public void remove(Organization toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!toRemove.equals(identityIndex.get(toRemove.getName())) || !internalList.remove(toRemove)) {
             throw new OrganizationNotFoundException();
         }
+        identityIndex.remove(toRemove.getName());
     }
 
     /**
@@ -88,19 +99,33 @@ public class UniqueOrganizationList implements Iterable<Organization> {
      */
     public void setOrganizations(UniqueOrganizationList replacement) {
         requireNonNull(replacement);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
         internalList.setAll(replacement.internalList);
     }
 
+    /**
+     * Replaces the contents of this list with the organizations in {@code loaded}, which is left empty.
+     * The index of {@code loaded} is taken over instead of being built again.
+     */
+    public void takeContentsOf(UniqueOrganizationList loaded) {
+        requireNonNull(loaded);
+        identityIndex = loaded.identityIndex;
+        loaded.identityIndex = new HashMap<>();
+        internalList.setAll(loaded.internalList);
+        loaded.internalList.clear();
+    }
+
     /**
      * Replaces the contents of this list with {@code Organizations}.
      * {@code Organizations} must not contain duplicate Organizations.
      */
     public void setOrganizations(List<Organization> organizations) {
         requireAllNonNull(organizations);
-        if (!organizationsAreUnique(organizations)) {
-            throw new DuplicateOrganizationException();
-        }
+        Map<OrganizationName, Organization> replacementIndex = indexByIdentity(organizations);
 
+        identityIndex.clear();
+        identityIndex.putAll(replacementIndex);
         internalList.setAll(organizations);
     }
 
@@ -142,16 +167,18 @@ public class UniqueOrganizationList implements Iterable<Organization> {
     }
 
     /**
-     * Returns true if {@code Organizations} contains only unique Organizations.
+     * Returns {@code organizations} keyed by identity, built in a single pass.
+     *
+     * @throws DuplicateOrganizationException naming the first pair of organizations that share the same identity.
      */
-    private boolean organizationsAreUnique(List<Organization> organizations) {
-        for (int i = 0; i < organizations.size() - 1; i++) {
-            for (int j = i + 1; j < organizations.size(); j++) {
-                if (organizations.get(i).isSameOrganization(organizations.get(j))) {
-                    return false;
-                }
+    private static Map<OrganizationName, Organization> indexByIdentity(List<Organization> organizations) {
+        Map<OrganizationName, Organization> index = new HashMap<>();
+        for (Organization organization : organizations) {
+            Organization existing = index.putIfAbsent(organization.getName(), organization);
+            if (existing != null) {
+                throw new DuplicateOrganizationException(existing, organization);
             }
         }
-        return true;
+        return index;
     }
 }
@@ -1,5 +1,7 @@
 package seedu.address.model.organization.exceptions;
 
+import seedu.address.model.organization.Organization;
+
 /**
  * Signals that the operation will result in duplicate Organizations (Organizations are considered
  * duplicates if they have the same identity).
@@ -11,4 +13,11 @@ public class DuplicateOrganizationException extends RuntimeException {
     public DuplicateOrganizationException() {
         super("Operation would result in duplicate Organizations");
     }
+
+    /**
+     * Constructs a {@code DuplicateOrganizationException} naming the two Organizations that share the same identity.
+     */
+    public DuplicateOrganizationException(Organization existing, Organization duplicate) {
+        super("Operation would result in duplicate Organizations: " + existing + " and " + duplicate);
+    }
 }
@@ -0,0 +1,135 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+import seedu.address.model.Model;
+import seedu.address.model.contract.Amount;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractRangeIndex;
+import seedu.address.model.contract.ContractRangeIndex.Field;
+import seedu.address.model.contract.Date8;
+
+/**
+ * A clause that keeps the contracts whose amount, start date or end date lies within an inclusive range.
+ * Either end of the range may be left open.
+ * Its selectivity is estimated from the model's {@link ContractRangeIndex}, which also lists the contracts in range.
+ */
+public final class ContractRangeClause implements SearchClause<Contract> {
+
+    private final Field field;
+    private final long min;
+    private final long max;
+
+    private ContractRangeClause(Field field, long min, long max) {
+        requireNonNull(field);
+        this.field = field;
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * Returns a clause on contract amounts.
+     *
+     * @param min the smallest amount to keep, or null to keep every amount up to {@code max}
+     * @param max the largest amount to keep, or null to keep every amount from {@code min}
+     */
+    public static ContractRangeClause amount(Amount min, Amount max) {
+        return new ContractRangeClause(Field.AMOUNT,
+                min == null ? Long.MIN_VALUE : min.value,
+                max == null ? Long.MAX_VALUE : max.value);
+    }
+
+    /**
+     * Returns a clause on contract start dates.
+     *
+     * @param from the earliest start date to keep, or null to keep every date up to {@code to}
+     * @param to the latest start date to keep, or null to keep every date from {@code from}
+     */
+    public static ContractRangeClause startDate(Date8 from, Date8 to) {
+        return dateClause(Field.START_DATE, from, to);
+    }
+
+    /**
+     * Returns a clause on contract end dates.
+     *
+     * @param from the earliest end date to keep, or null to keep every date up to {@code to}
+     * @param to the latest end date to keep, or null to keep every date from {@code from}
+     */
+    public static ContractRangeClause endDate(Date8 from, Date8 to) {
+        return dateClause(Field.END_DATE, from, to);
+    }
+
+    /**
+     * Returns a clause that keeps the contracts ending from {@code from} to {@code to}, inclusive.
+     */
+    public static ContractRangeClause endDate(LocalDate from, LocalDate to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        return new ContractRangeClause(Field.END_DATE, from.toEpochDay(), to.toEpochDay());
+    }
+
+    private static ContractRangeClause dateClause(Field field, Date8 from, Date8 to) {
+        return new ContractRangeClause(field,
+                from == null ? Long.MIN_VALUE : from.toEpochDay(),
+                to == null ? Long.MAX_VALUE : to.toEpochDay());
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    /** Returns the smallest value kept, which is {@code Long.MIN_VALUE} if the range has no lower bound. */
+    public long getMin() {
+        return min;
+    }
+
+    /** Returns the largest value kept, which is {@code Long.MAX_VALUE} if the range has no upper bound. */
+    public long getMax() {
+        return max;
+    }
+
+    /** Returns true if {@code contract} lies within this range. */
+    public boolean test(Contract contract) {
+        long value = field.valueOf(contract);
+        return value >= min && value <= max;
+    }
+
+    @Override
+    public PlannedClause<Contract> plan(Model model) {
+        ContractRangeIndex index = model.getContractRangeIndex();
+        // Counting stops once the range is too broad to list its contracts as candidates
+        int countLimit = (int) (index.size() * SearchQuery.MAX_CANDIDATE_SELECTIVITY) + 1;
+        double selectivity = index.size() == 0
+                ? PlannedClause.UNKNOWN_SELECTIVITY
+                : (double) index.countInRange(field, min, max, countLimit) / index.size();
+        return new PlannedClause<>(this::test, selectivity, false, () -> index.findInRange(field, min, max));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ContractRangeClause)) {
+            return false;
+        }
+
+        ContractRangeClause otherClause = (ContractRangeClause) other;
+        return field == otherClause.field && min == otherClause.min && max == otherClause.max;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, min, max);
+    }
+
+    @Override
+    public String toString() {
+        return field.getDescription() + " in [" + min + ", " + max + "]";
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Function;
+
+import seedu.address.model.Model;
+import seedu.address.model.athlete.Athlete;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.organization.Organization;
+
+/**
+ * A clause that keeps the entities whose text field fuzzy-matches a keyword, as decided by {@link FuzzyMatcher}.
+ * Matches are looked up in the {@link SearchIndex} of the model.
+ *
+ * @param <T> the type of entity the clause applies to
+ */
+public final class FuzzyClause<T> implements SearchClause<T> {
+
+    private final String fieldName;
+    private final Function<SearchIndex, FuzzyIndex> index;
+    private final Function<T, SearchKey> searchKey;
+    private final String keywordLower;
+
+    private FuzzyClause(String fieldName, Function<SearchIndex, FuzzyIndex> index,
+                        Function<T, SearchKey> searchKey, String keyword) {
+        requireNonNull(keyword);
+        this.fieldName = fieldName;
+        this.index = index;
+        this.searchKey = searchKey;
+        this.keywordLower = keyword.toLowerCase();
+    }
+
+    /** Returns a clause on the names of athletes. */
+    public static FuzzyClause<Athlete> athleteName(String keyword) {
+        return new FuzzyClause<>("athlete name", SearchIndex::getAthleteNames,
+                athlete -> athlete.getName().getSearchKey(), keyword);
+    }
+
+    /** Returns a clause on the sports of athletes. */
+    public static FuzzyClause<Athlete> athleteSport(String keyword) {
+        return new FuzzyClause<>("athlete sport", SearchIndex::getAthleteSports,
+                athlete -> athlete.getSport().getSearchKey(), keyword);
+    }
+
+    /** Returns a clause on the names of organizations. */
+    public static FuzzyClause<Organization> organizationName(String keyword) {
+        return new FuzzyClause<>("organization name", SearchIndex::getOrganizationNames,
+                organization -> organization.getName().getSearchKey(), keyword);
+    }
+
+    /** Returns a clause on the names of the athletes of contracts. */
+    public static FuzzyClause<Contract> contractAthleteName(String keyword) {
+        return new FuzzyClause<>("contract athlete name", SearchIndex::getAthleteNames,
+                contract -> contract.getAthlete().getName().getSearchKey(), keyword);
+    }
+
+    /** Returns a clause on the names of the organizations of contracts. */
+    public static FuzzyClause<Contract> contractOrganizationName(String keyword) {
+        return new FuzzyClause<>("contract organization name", SearchIndex::getOrganizationNames,
+                contract -> contract.getOrganization().getName().getSearchKey(), keyword);
+    }
+
+    /**
+     * Returns a clause on the sports of contracts.
+     * A contract's sport is normally its athlete's, so it is looked up among the sports of athletes.
+     */
+    public static FuzzyClause<Contract> contractSport(String keyword) {
+        return new FuzzyClause<>("contract sport", SearchIndex::getAthleteSports,
+                contract -> contract.getSport().getSearchKey(), keyword);
+    }
+
+    @Override
+    public PlannedClause<T> plan(Model model) {
+        FuzzyIndex fieldIndex = index.apply(model.getSearchIndex());
+        FuzzyIndex.KeywordMatcher matcher = fieldIndex.matcher(keywordLower);
+        double selectivity = fieldIndex.size() == 0
+                ? PlannedClause.UNKNOWN_SELECTIVITY
+                : (double) matcher.getMatchCount() / fieldIndex.size();
+        return new PlannedClause<>(entity -> matcher.test(searchKey.apply(entity)), selectivity, true);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FuzzyClause)) {
+            return false;
+        }
+
+        FuzzyClause<?> otherClause = (FuzzyClause<?>) other;
+        return fieldName.equals(otherClause.fieldName) && keywordLower.equals(otherClause.keywordLower);
+    }
+
+    @Override
+    public int hashCode() {
+        return (fieldName + "|" + keywordLower).hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return fieldName + " ~ " + keywordLower;
+    }
+}
@@ -0,0 +1,336 @@
+package seedu.address.model.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Indexes the distinct values of one text field, such as the names of all athletes, so that the values
+ * matching a search keyword under the rules of {@link FuzzyMatcher} can be found without comparing the
+ * keyword against every value.
+ *
+ * Values are indexed in lower case and counted, so that a value stays indexed until every entity holding it
+ * has been removed. A trigram index finds the values containing the keyword, and BK-trees over the values and
+ * over their words find those within the allowed edit distance of it.
+ */
+public class FuzzyIndex {
+
+    private static final int TRIGRAM_LENGTH = 3;
+    private static final int MIN_REMOVED_TERMS_BEFORE_REBUILD = 64;
+
+    private Map<String, IndexedValue> values = new HashMap<>();
+    private Map<String, Set<String>> valuesByTrigram = new HashMap<>();
+    private Map<String, Set<String>> valuesByWord = new HashMap<>();
+    private BkTree valueTree = new BkTree();
+    private BkTree wordTree = new BkTree();
+    private int removedTermCount;
+    private long additionCount;
+
+    /**
+     * Adds one occurrence of the value with search key {@code value} to the index.
+     */
+    public void add(SearchKey value) {
+        String valueLower = value.getLowerCase();
+        IndexedValue indexed = values.get(valueLower);
+        if (indexed != null) {
+            indexed.count++;
+            return;
+        }
+
+        values.put(valueLower, new IndexedValue(++additionCount));
+        valueTree.add(valueLower);
+        for (String trigram : trigrams(valueLower)) {
+            valuesByTrigram.computeIfAbsent(trigram, k -> new HashSet<>()).add(valueLower);
+        }
+        for (String word : value.getWords()) {
+            valuesByWord.computeIfAbsent(word, k -> {
+                wordTree.add(k);
+                return new HashSet<>();
+            }).add(valueLower);
+        }
+    }
+
+    /**
+     * Removes one occurrence of the value with search key {@code value} from the index.
+     * The value is no longer indexed once all of its occurrences are removed.
+     */
+    public void remove(SearchKey value) {
+        String valueLower = value.getLowerCase();
+        IndexedValue indexed = values.get(valueLower);
+        if (indexed == null) {
+            return;
+        }
+        if (--indexed.count > 0) {
+            return;
+        }
+
+        values.remove(valueLower);
+        removedTermCount++;
+        for (String trigram : trigrams(valueLower)) {
+            removeFromPostings(valuesByTrigram, trigram, valueLower);
+        }
+        for (String word : value.getWords()) {
+            if (removeFromPostings(valuesByWord, word, valueLower)) {
+                removedTermCount++;
+            }
+        }
+
+        // The BK-trees only grow, so removed values and words are skipped when querying until the trees are rebuilt
+        if (removedTermCount > Math.max(MIN_REMOVED_TERMS_BEFORE_REBUILD, values.size() + valuesByWord.size())) {
+            rebuildTrees();
+        }
+    }
+
+    /**
+     * Removes all values from the index.
+     */
+    public void clear() {
+        values.clear();
+        valuesByTrigram.clear();
+        valuesByWord.clear();
+        valueTree = new BkTree();
+        wordTree = new BkTree();
+        removedTermCount = 0;
+    }
+
+    /**
+     * Replaces the contents of this index with those of {@code loaded}, taking over its maps and trees instead of
+     * indexing its values again, and leaves {@code loaded} empty.
+     * Matchers created before are not misled by the values taken over, as they compare those values directly.
+     */
+    public void takeContentsOf(FuzzyIndex loaded) {
+        values = loaded.values;
+        valuesByTrigram = loaded.valuesByTrigram;
+        valuesByWord = loaded.valuesByWord;
+        valueTree = loaded.valueTree;
+        wordTree = loaded.wordTree;
+        removedTermCount = loaded.removedTermCount;
+        additionCount = loaded.additionCount;
+
+        loaded.values = new HashMap<>();
+        loaded.valuesByTrigram = new HashMap<>();
+        loaded.valuesByWord = new HashMap<>();
+        loaded.clear();
+    }
+
+    /**
+     * Returns the number of distinct values in the index.
+     */
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * Returns a predicate that tests whether the value with a given search key fuzzy-matches {@code keywordLower},
+     * giving the same result as {@link FuzzyMatcher#matches(SearchKey, String)}.
+     * Values indexed when this method is called are looked up in the matches found now,
+     * while any other value is compared against the keyword directly.
+     *
+     * @param keywordLower the search keyword (must be lowercase)
+     */
+    public KeywordMatcher matcher(String keywordLower) {
+        return new KeywordMatcher(keywordLower, findMatches(keywordLower), values, additionCount);
+    }
+
+    /**
+     * Returns the indexed values that fuzzy-match {@code keywordLower}.
+     *
+     * @param keywordLower the search keyword (must be lowercase)
+     */
+    public Set<String> findMatches(String keywordLower) {
+        Set<String> matches = new HashSet<>();
+
+        // Tier 1: values containing the keyword
+        for (String candidate : findContainingCandidates(keywordLower)) {
+            if (candidate.contains(keywordLower)) {
+                matches.add(candidate);
+            }
+        }
+
+        int allowedDistance = FuzzyMatcher.allowableDistance(keywordLower.length());
+        if (allowedDistance == 0) {
+            return matches;
+        }
+
+        // Tier 2: values within the allowed distance of the keyword
+        valueTree.collect(keywordLower, allowedDistance, value -> {
+            if (values.containsKey(value)) {
+                matches.add(value);
+            }
+        });
+
+        // Tier 3: values with a word within the allowed distance of the keyword
+        wordTree.collect(keywordLower, allowedDistance, word -> {
+            Set<String> valuesWithWord = valuesByWord.get(word);
+            if (valuesWithWord != null) {
+                matches.addAll(valuesWithWord);
+            }
+        });
+
+        return matches;
+    }
+
+    /**
+     * Returns the values that may contain {@code keywordLower}, which are the values sharing its rarest trigram.
+     */
+    private Set<String> findContainingCandidates(String keywordLower) {
+        if (keywordLower.length() < TRIGRAM_LENGTH) {
+            return values.keySet();
+        }
+
+        Set<String> candidates = null;
+        for (String trigram : trigrams(keywordLower)) {
+            Set<String> valuesWithTrigram = valuesByTrigram.get(trigram);
+            if (valuesWithTrigram == null) {
+                return Collections.emptySet();
+            }
+            if (candidates == null || valuesWithTrigram.size() < candidates.size()) {
+                candidates = valuesWithTrigram;
+            }
+        }
+        return candidates;
+    }
+
+    private void rebuildTrees() {
+        valueTree = new BkTree();
+        values.keySet().forEach(valueTree::add);
+        wordTree = new BkTree();
+        valuesByWord.keySet().forEach(wordTree::add);
+        removedTermCount = 0;
+    }
+
+    /**
+     * Removes {@code value} from the postings of {@code key}, and returns true if no values are left for the key.
+     */
+    private static boolean removeFromPostings(Map<String, Set<String>> postings, String key, String value) {
+        Set<String> keyValues = postings.get(key);
+        if (keyValues == null) {
+            return false;
+        }
+        keyValues.remove(value);
+        if (!keyValues.isEmpty()) {
+            return false;
+        }
+        postings.remove(key);
+        return true;
+    }
+
+    private static Set<String> trigrams(String text) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= text.length(); i++) {
+            trigrams.add(text.substring(i, i + TRIGRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Tests whether values fuzzy-match a keyword, using the indexed values found to match it.
+     */
+    public final class KeywordMatcher implements Predicate<SearchKey> {
+        private final String keywordLower;
+        private final Set<String> matches;
+        private final Map<String, IndexedValue> indexedValues;
+        private final long indexedUpTo;
+
+        private KeywordMatcher(String keywordLower, Set<String> matches, Map<String, IndexedValue> indexedValues,
+                               long indexedUpTo) {
+            this.keywordLower = keywordLower;
+            this.matches = matches;
+            this.indexedValues = indexedValues;
+            this.indexedUpTo = indexedUpTo;
+        }
+
+        @Override
+        public boolean test(SearchKey value) {
+            // Values taken over from another index since the matcher was created are held in a different map
+            IndexedValue indexed = values == indexedValues ? values.get(value.getLowerCase()) : null;
+            if (indexed != null && indexed.addedAt <= indexedUpTo) {
+                return matches.contains(value.getLowerCase());
+            }
+            return FuzzyMatcher.matches(value, keywordLower);
+        }
+
+        /**
+         * Returns the number of indexed values that matched the keyword.
+         */
+        public int getMatchCount() {
+            return matches.size();
+        }
+    }
+
+    /** Number of entities holding a value, and when the value was added to the index. */
+    private static final class IndexedValue {
+        private final long addedAt;
+        private int count = 1;
+
+        IndexedValue(long addedAt) {
+            this.addedAt = addedAt;
+        }
+    }
+
+    /**
+     * A BK-tree of terms under the Levenshtein distance.
+     * Every child of a node is at a distinct distance from it, so a query only visits the children
+     * whose distance from the node is within the query distance of the node's own distance from the query.
+     */
+    private static final class BkTree {
+        private Node root;
+
+        void add(String term) {
+            if (root == null) {
+                root = new Node(term);
+                return;
+            }
+
+            Node node = root;
+            while (true) {
+                int distance = FuzzyMatcher.levenshteinDistance(term, node.term);
+                if (distance == 0) {
+                    return;
+                }
+                Node child = node.children.get(distance);
+                if (child == null) {
+                    node.children.put(distance, new Node(term));
+                    return;
+                }
+                node = child;
+            }
+        }
+
+        void collect(String query, int maxDistance, Consumer<String> consumer) {
+            if (root == null) {
+                return;
+            }
+
+            List<Node> pending = new ArrayList<>();
+            pending.add(root);
+            while (!pending.isEmpty()) {
+                Node node = pending.remove(pending.size() - 1);
+                int distance = FuzzyMatcher.levenshteinDistance(query, node.term);
+                if (distance <= maxDistance) {
+                    consumer.accept(node.term);
+                }
+                for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                    if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                        pending.add(child.getValue());
+                    }
+                }
+            }
+        }
+
+        private static final class Node {
+            private final String term;
+            private final Map<Integer, Node> children = new HashMap<>();
+
+            Node(String term) {
+                this.term = term;
+            }
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package seedu.address.model.search;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Decides whether a text closely matches a search keyword, using a three-tier matching strategy:
+ * 1. Exact substring match (case-insensitive)
+ * 2. Levenshtein distance matching on the full text
+ * 3. Word-by-word Levenshtein distance matching
+ */
+public class FuzzyMatcher {
+
+    private static final int INITIAL_ROW_CAPACITY = 64;
+    private static final ThreadLocal<Rows> ROWS = ThreadLocal.withInitial(Rows::new);
+
+    /**
+     * Returns true if the keyword fuzzy-matches the text.
+     *
+     * @param haystackLower the text to search in (must be lowercase)
+     * @param needleLower the search keyword (must be lowercase)
+     */
+    public static boolean matches(String haystackLower, String needleLower) {
+        // Tier 1: Exact substring match (fastest)
+        if (haystackLower.contains(needleLower)) {
+            return true;
+        }
+
+        // Calculate allowed edit distance based on keyword length
+        int allowedDistance = allowableDistance(needleLower.length());
+        if (allowedDistance == 0) {
+            return false; // Too short for fuzzy matching
+        }
+
+        // Tier 2: Full text Levenshtein distance match
+        if (isWithinDistance(haystackLower, 0, haystackLower.length(), needleLower, allowedDistance)) {
+            return true;
+        }
+
+        // Tier 3: Word-by-word Levenshtein distance match
+        // Splits text into words and tries matching each word individually
+        int length = haystackLower.length();
+        int wordStart = nextWordStart(haystackLower, 0);
+        while (wordStart < length) {
+            int wordEnd = wordEnd(haystackLower, wordStart);
+            if (isWithinDistance(haystackLower, wordStart, wordEnd, needleLower, allowedDistance)) {
+                return true;
+            }
+            wordStart = nextWordStart(haystackLower, wordEnd);
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns true if the keyword fuzzy-matches the text with the given search key.
+     * Gives the same result as {@link #matches(String, String)} on the lowercase text, using the words
+     * already found in the key.
+     *
+     * @param haystack the search key of the text to search in
+     * @param needleLower the search keyword (must be lowercase)
+     */
+    public static boolean matches(SearchKey haystack, String needleLower) {
+        String haystackLower = haystack.getLowerCase();
+        if (haystackLower.contains(needleLower)) {
+            return true;
+        }
+
+        int allowedDistance = allowableDistance(needleLower.length());
+        if (allowedDistance == 0) {
+            return false;
+        }
+
+        if (isWithinDistance(haystackLower, needleLower, allowedDistance)) {
+            return true;
+        }
+
+        for (String word : haystack.getWords()) {
+            if (isWithinDistance(word, needleLower, allowedDistance)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the distinct words of the text that the word-by-word tier of {@link #matches} compares against.
+     */
+    public static Set<String> words(String haystackLower) {
+        Set<String> words = new LinkedHashSet<>();
+        int length = haystackLower.length();
+        int wordStart = nextWordStart(haystackLower, 0);
+        while (wordStart < length) {
+            int wordEnd = wordEnd(haystackLower, wordStart);
+            words.add(haystackLower.substring(wordStart, wordEnd));
+            wordStart = nextWordStart(haystackLower, wordEnd);
+        }
+        return words;
+    }
+
+    /**
+     * Calculates the maximum allowed Levenshtein distance for fuzzy matching
+     * based on the keyword length. Shorter keywords require exact matches,
+     * while longer keywords allow more edits.
+     *
+     * @param length the length of the search keyword
+     * @return the maximum allowed edit distance
+     */
+    public static int allowableDistance(int length) {
+        if (length <= 2) {
+            return 0; // 1-2 chars: exact match only
+        }
+        if (length <= 4) {
+            return 1; // 3-4 chars: 1 edit allowed
+        }
+        if (length <= 7) {
+            return 2; // 5-7 chars: 2 edits allowed
+        }
+        if (length <= 11) {
+            return 3; // 8-11 chars: 3 edits allowed
+        }
+        return 4; // 12+ chars: 4 edits allowed
+    }
+
+    /**
+     * Calculates the Levenshtein distance (edit distance) between two strings.
+     * The edit distance is the minimum number of single-character edits
+     * (insertions, deletions, or substitutions) required to change one string
+     * into another.
+     *
+     * Uses dynamic programming over two rows that are reused between calls on the same thread.
+     *
+     * @param left the first string
+     * @param right the second string
+     * @return the minimum edit distance between the strings
+     */
+    public static int levenshteinDistance(String left, String right) {
+        if (left.isEmpty()) {
+            return right.length();
+        }
+        if (right.isEmpty()) {
+            return left.length();
+        }
+
+        Rows rows = ROWS.get().ensureCapacity(right.length() + 1);
+        int[] previous = rows.previous;
+        int[] current = rows.current;
+
+        for (int j = 0; j <= right.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= left.length(); i++) {
+            current[0] = i;
+            char leftChar = left.charAt(i - 1);
+            for (int j = 1; j <= right.length(); j++) {
+                int cost = leftChar == right.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+            int[] temp = previous;
+            previous = current;
+            current = temp;
+        }
+
+        return previous[right.length()];
+    }
+
+    /**
+     * Returns true if the Levenshtein distance between {@code left} and {@code right} is at most
+     * {@code maxDistance}.
+     *
+     * @see #boundedDistance(CharSequence, int, int, String, int)
+     */
+    public static boolean isWithinDistance(String left, String right, int maxDistance) {
+        return boundedDistance(left, 0, left.length(), right, maxDistance) <= maxDistance;
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code left} and {@code right} if it is at most
+     * {@code maxDistance}, or {@code maxDistance + 1} otherwise.
+     *
+     * @see #boundedDistance(CharSequence, int, int, String, int)
+     */
+    public static int boundedDistance(String left, String right, int maxDistance) {
+        return boundedDistance(left, 0, left.length(), right, maxDistance);
+    }
+
+    private static boolean isWithinDistance(CharSequence text, int start, int end, String right, int maxDistance) {
+        return boundedDistance(text, start, end, right, maxDistance) <= maxDistance;
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code text[start, end)} and {@code right} if it is at most
+     * {@code maxDistance}, or {@code maxDistance + 1} otherwise.
+     *
+     * Only the cells of the dynamic programming matrix within {@code maxDistance} of its diagonal can lead to
+     * a distance of at most {@code maxDistance} (Ukkonen's band), so only those are computed, and the computation
+     * stops as soon as every cell of a row exceeds {@code maxDistance}.
+     * The rows are reused between calls on the same thread, so no memory is allocated per call.
+     */
+    private static int boundedDistance(CharSequence text, int start, int end, String right, int maxDistance) {
+        int leftLength = end - start;
+        int rightLength = right.length();
+        int outOfBounds = maxDistance + 1;
+        if (Math.abs(leftLength - rightLength) > maxDistance) {
+            return outOfBounds;
+        }
+        if (leftLength == 0 || rightLength == 0) {
+            return Math.max(leftLength, rightLength);
+        }
+
+        Rows rows = ROWS.get().ensureCapacity(rightLength + 2);
+        int[] previous = rows.previous;
+        int[] current = rows.current;
+
+        // Row 0, with the cell just beyond the band marked as out of bounds
+        int firstRowEnd = Math.min(rightLength, maxDistance);
+        for (int j = 0; j <= firstRowEnd; j++) {
+            previous[j] = j;
+        }
+        previous[firstRowEnd + 1] = outOfBounds;
+
+        for (int i = 1; i <= leftLength; i++) {
+            int bandStart = Math.max(1, i - maxDistance);
+            int bandEnd = Math.min(rightLength, i + maxDistance);
+            current[bandStart - 1] = bandStart == 1 ? Math.min(i, outOfBounds) : outOfBounds;
+
+            char leftChar = text.charAt(start + i - 1);
+            int rowMinimum = current[bandStart - 1];
+            for (int j = bandStart; j <= bandEnd; j++) {
+                int cost = leftChar == right.charAt(j - 1) ? 0 : 1;
+                int distance = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                current[j] = Math.min(distance, outOfBounds);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > maxDistance) {
+                return outOfBounds; // Row minimums never decrease, so the distance is already too large
+            }
+            current[bandEnd + 1] = outOfBounds;
+
+            int[] temp = previous;
+            previous = current;
+            current = temp;
+        }
+
+        return previous[rightLength];
+    }
+
+    private static int nextWordStart(String text, int from) {
+        int index = from;
+        while (index < text.length() && !isWordCharacter(text.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static int wordEnd(String text, int wordStart) {
+        int index = wordStart;
+        while (index < text.length() && isWordCharacter(text.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    /** Returns true if {@code c} is an ASCII letter or digit, which is what {@code \p{Alnum}} matches. */
+    private static boolean isWordCharacter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    /** Two rows of the dynamic programming matrix, kept per thread and grown as needed. */
+    private static final class Rows {
+        private int[] previous = new int[INITIAL_ROW_CAPACITY];
+        private int[] current = new int[INITIAL_ROW_CAPACITY];
+
+        Rows ensureCapacity(int capacity) {
+            if (previous.length < capacity) {
+                int newCapacity = Math.max(capacity, previous.length * 2);
+                previous = new int[newCapacity];
+                current = new int[newCapacity];
+            }
+            return this;
+        }
+    }
+}
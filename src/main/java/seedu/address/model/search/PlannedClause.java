@@ -0,0 +1,92 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A {@link SearchClause} prepared against the current data, together with the estimates a {@link SearchQuery}
+ * uses to decide the order in which clauses are tested.
+ *
+ * @param <T> the type of entity the clause applies to
+ */
+public final class PlannedClause<T> {
+
+    /** Selectivity to assume when a clause cannot estimate its own. */
+    public static final double UNKNOWN_SELECTIVITY = 0.5;
+
+    private final Predicate<T> predicate;
+    private final double selectivity;
+    private final boolean isExpensive;
+    private final Supplier<List<T>> candidateFinder;
+
+    /**
+     * Creates a planned clause.
+     *
+     * @param predicate the test of the clause
+     * @param selectivity the estimated fraction of entities that pass the test, between 0 and 1
+     * @param isExpensive whether the test may do more than a lookup or a comparison per entity
+     */
+    public PlannedClause(Predicate<T> predicate, double selectivity, boolean isExpensive) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+        this.selectivity = selectivity;
+        this.isExpensive = isExpensive;
+        this.candidateFinder = null;
+    }
+
+    /**
+     * Creates a planned clause whose matching entities are listed by {@code candidateFinder} from an index,
+     * so that a query can start from them instead of testing every entity.
+     *
+     * @param candidateFinder returns exactly the entities that currently pass {@code predicate}
+     */
+    public PlannedClause(Predicate<T> predicate, double selectivity, boolean isExpensive,
+                         Supplier<List<T>> candidateFinder) {
+        requireNonNull(predicate);
+        requireNonNull(candidateFinder);
+        this.predicate = predicate;
+        this.selectivity = selectivity;
+        this.isExpensive = isExpensive;
+        this.candidateFinder = candidateFinder;
+    }
+
+    /**
+     * Returns the order in which the clauses of a conjunction are tested: cheap clauses before expensive ones,
+     * and within each, the clause that rejects the most entities first.
+     */
+    public static <T> Comparator<PlannedClause<T>> evaluationOrder() {
+        return Comparator.<PlannedClause<T>, Boolean>comparing(clause -> clause.isExpensive)
+                .thenComparingDouble(clause -> clause.selectivity);
+    }
+
+    public Predicate<T> getPredicate() {
+        return predicate;
+    }
+
+    public double getSelectivity() {
+        return selectivity;
+    }
+
+    public boolean isExpensive() {
+        return isExpensive;
+    }
+
+    /**
+     * Returns true if the entities passing this clause can be listed with {@link #findCandidates()}.
+     */
+    public boolean isIndexed() {
+        return candidateFinder != null;
+    }
+
+    /**
+     * Returns the entities that pass this clause, looked up in an index. The clause must be indexed.
+     */
+    public List<T> findCandidates() {
+        assert isIndexed();
+        return candidateFinder.get();
+    }
+}
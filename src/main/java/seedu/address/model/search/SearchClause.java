@@ -0,0 +1,16 @@
+package seedu.address.model.search;
+
+import seedu.address.model.Model;
+
+/**
+ * A condition on one field of an athlete, organization or contract, used as part of a {@link SearchQuery}.
+ *
+ * @param <T> the type of entity the condition applies to
+ */
+public interface SearchClause<T> {
+
+    /**
+     * Prepares this clause for testing against the data currently in {@code model}.
+     */
+    PlannedClause<T> plan(Model model);
+}
@@ -0,0 +1,104 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.model.athlete.Athlete;
+import seedu.address.model.organization.Organization;
+
+/**
+ * Fuzzy search indexes over the athlete names, athlete sports and organization names of a set of athletes
+ * and organizations.
+ * <p>
+ * The indexes are updated incrementally as athletes and organizations are added and removed.
+ */
+public class SearchIndex {
+
+    private final FuzzyIndex athleteNames = new FuzzyIndex();
+    private final FuzzyIndex athleteSports = new FuzzyIndex();
+    private final FuzzyIndex organizationNames = new FuzzyIndex();
+
+    /**
+     * Creates an empty index.
+     */
+    public SearchIndex() {}
+
+    /**
+     * Creates an index over {@code athletes} and {@code organizations}.
+     */
+    public SearchIndex(List<Athlete> athletes, List<Organization> organizations) {
+        this();
+        resetData(athletes, organizations);
+    }
+
+    /**
+     * Replaces the contents of this index with {@code athletes} and {@code organizations}.
+     */
+    public void resetData(List<Athlete> athletes, List<Organization> organizations) {
+        requireNonNull(athletes);
+        requireNonNull(organizations);
+        athleteNames.clear();
+        athleteSports.clear();
+        organizationNames.clear();
+        athletes.forEach(this::addAthlete);
+        organizations.forEach(this::addOrganization);
+    }
+
+    /**
+     * Replaces the contents of this index with those of {@code loaded}, which is left empty.
+     * The indexes of {@code loaded} are taken over instead of being built again.
+     */
+    public void takeContentsOf(SearchIndex loaded) {
+        requireNonNull(loaded);
+        athleteNames.takeContentsOf(loaded.athleteNames);
+        athleteSports.takeContentsOf(loaded.athleteSports);
+        organizationNames.takeContentsOf(loaded.organizationNames);
+    }
+
+    /**
+     * Indexes the name and sport of {@code athlete}.
+     */
+    public void addAthlete(Athlete athlete) {
+        requireNonNull(athlete);
+        athleteNames.add(athlete.getName().getSearchKey());
+        athleteSports.add(athlete.getSport().getSearchKey());
+    }
+
+    /**
+     * Removes the name and sport of {@code athlete} from the index.
+     */
+    public void removeAthlete(Athlete athlete) {
+        requireNonNull(athlete);
+        athleteNames.remove(athlete.getName().getSearchKey());
+        athleteSports.remove(athlete.getSport().getSearchKey());
+    }
+
+    /**
+     * Indexes the name of {@code organization}.
+     */
+    public void addOrganization(Organization organization) {
+        requireNonNull(organization);
+        organizationNames.add(organization.getName().getSearchKey());
+    }
+
+    /**
+     * Removes the name of {@code organization} from the index.
+     */
+    public void removeOrganization(Organization organization) {
+        requireNonNull(organization);
+        organizationNames.remove(organization.getName().getSearchKey());
+    }
+
+    public FuzzyIndex getAthleteNames() {
+        return athleteNames;
+    }
+
+    public FuzzyIndex getAthleteSports() {
+        return athleteSports;
+    }
+
+    public FuzzyIndex getOrganizationNames() {
+        return organizationNames;
+    }
+}
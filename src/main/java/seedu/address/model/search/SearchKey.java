@@ -0,0 +1,59 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+/**
+ * The normalised form of a text value that fuzzy matching compares against: the value in lower case, and its words.
+ * Guarantees: immutable.
+ */
+public final class SearchKey {
+
+    private final String lowerCase;
+    private final List<String> words;
+
+    /**
+     * Constructs the {@code SearchKey} of {@code value}.
+     */
+    public SearchKey(String value) {
+        requireNonNull(value);
+        lowerCase = value.toLowerCase();
+        words = List.copyOf(FuzzyMatcher.words(lowerCase));
+    }
+
+    /** Returns the value in lower case. */
+    public String getLowerCase() {
+        return lowerCase;
+    }
+
+    /** Returns the distinct words of the value in lower case, in order of first appearance. */
+    public List<String> getWords() {
+        return words;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchKey)) {
+            return false;
+        }
+
+        SearchKey otherKey = (SearchKey) other;
+        return lowerCase.equals(otherKey.lowerCase);
+    }
+
+    @Override
+    public int hashCode() {
+        return lowerCase.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return lowerCase;
+    }
+}
@@ -0,0 +1,210 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import seedu.address.model.Model;
+
+/**
+ * A search over one kind of entity, made of alternatives that are each a conjunction of {@link SearchClause}s.
+ * An entity matches the query if it matches every clause of at least one alternative.
+ * <p>
+ * When the query is planned, each alternative tests its cheap clauses first, then its expensive fuzzy clauses,
+ * and within each group the clause expected to reject the most entities first. An entity is rejected by
+ * the first clause it fails, so the expensive clauses only run on the entities that survive the cheap ones.
+ * <p>
+ * If an alternative has a selective indexed clause, such as a range of contract amounts, the entities passing
+ * that clause are listed from the index, and the other clauses are only tested on them. The planned predicate
+ * then looks up the matches found among those candidates, rather than testing every entity against the clauses.
+ * A long list of candidates is tested in parallel, so the clauses must be safe to test from several threads.
+ *
+ * @param <T> the type of entity searched
+ */
+public final class SearchQuery<T> {
+
+    /**
+     * An indexed clause is only used to list candidates if it is expected to keep at most this fraction of the
+     * entities, as testing every entity costs about the same beyond that.
+     */
+    static final double MAX_CANDIDATE_SELECTIVITY = 0.25;
+
+    /** Candidate lists with at least this many entities are tested on the common fork-join pool. */
+    static final int PARALLEL_CANDIDATE_THRESHOLD = 10_000;
+
+    private final List<List<SearchClause<T>>> alternatives;
+
+    /**
+     * Creates a query that matches an entity matching all the clauses of any of {@code alternatives}.
+     * Every alternative must have at least one clause.
+     */
+    public SearchQuery(List<List<SearchClause<T>>> alternatives) {
+        requireNonNull(alternatives);
+        if (alternatives.isEmpty() || alternatives.stream().anyMatch(List::isEmpty)) {
+            throw new IllegalArgumentException("A search query needs at least one clause in every alternative.");
+        }
+        this.alternatives = alternatives.stream().map(List::copyOf).collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Creates a query with the single clause {@code clause}.
+     */
+    public static <T> SearchQuery<T> of(SearchClause<T> clause) {
+        return new SearchQuery<>(List.of(List.of(clause)));
+    }
+
+    public List<List<SearchClause<T>>> getAlternatives() {
+        return alternatives;
+    }
+
+    /**
+     * Returns a predicate that tests entities against this query, using the data currently in {@code model}
+     * to order the clauses and to list the candidates of selective indexed clauses.
+     */
+    public Predicate<T> plan(Model model) {
+        List<PlannedAlternative<T>> plannedAlternatives = new ArrayList<>();
+        for (List<SearchClause<T>> alternative : alternatives) {
+            plannedAlternatives.add(planAlternative(alternative, model));
+        }
+
+        // Try the alternative most likely to match first, as one match is enough
+        plannedAlternatives.sort(Comparator.comparingDouble((PlannedAlternative<T> a) -> a.selectivity).reversed());
+        if (plannedAlternatives.size() == 1) {
+            return plannedAlternatives.get(0).predicate;
+        }
+
+        List<Predicate<T>> predicates = plannedAlternatives.stream()
+                .map(alternative -> alternative.predicate)
+                .collect(Collectors.toList());
+        return entity -> {
+            for (Predicate<T> predicate : predicates) {
+                if (predicate.test(entity)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    private static <T> PlannedAlternative<T> planAlternative(List<SearchClause<T>> clauses, Model model) {
+        List<PlannedClause<T>> plannedClauses = new ArrayList<>();
+        for (SearchClause<T> clause : clauses) {
+            plannedClauses.add(clause.plan(model));
+        }
+        plannedClauses.sort(PlannedClause.evaluationOrder());
+
+        // Clauses are treated as independent when estimating how many entities pass them all
+        double selectivity = 1;
+        for (PlannedClause<T> clause : plannedClauses) {
+            selectivity *= clause.getSelectivity();
+        }
+
+        PlannedClause<T> candidateClause = plannedClauses.stream()
+                .filter(clause -> clause.isIndexed() && clause.getSelectivity() <= MAX_CANDIDATE_SELECTIVITY)
+                .min(Comparator.comparingDouble(PlannedClause::getSelectivity))
+                .orElse(null);
+        if (candidateClause == null) {
+            return new PlannedAlternative<>(allOf(plannedClauses), selectivity);
+        }
+        List<PlannedClause<T>> otherClauses = new ArrayList<>(plannedClauses);
+        otherClauses.remove(candidateClause);
+        return new PlannedAlternative<>(matchCandidates(candidateClause, otherClauses), selectivity);
+    }
+
+    /**
+     * Returns a predicate that accepts the candidates listed by {@code candidateClause} that pass every clause of
+     * {@code otherClauses}, which are only tested on those candidates, in parallel if there are many of them.
+     * An entity that was not a candidate, such as one added after planning, is tested against
+     * {@code candidateClause} and then {@code otherClauses} instead.
+     */
+    private static <T> Predicate<T> matchCandidates(PlannedClause<T> candidateClause,
+                                                    List<PlannedClause<T>> otherClauses) {
+        Predicate<T> otherPredicate = otherClauses.isEmpty() ? entity -> true : allOf(otherClauses);
+        List<T> candidates = candidateClause.findCandidates();
+        boolean[] isMatch = new boolean[candidates.size()];
+        IntStream indexes = IntStream.range(0, candidates.size());
+        if (candidates.size() >= PARALLEL_CANDIDATE_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> isMatch[i] = otherPredicate.test(candidates.get(i)));
+
+        Set<T> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<T> rejectedCandidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < isMatch.length; i++) {
+            if (isMatch[i]) {
+                matches.add(candidates.get(i));
+            } else {
+                rejectedCandidates.add(candidates.get(i));
+            }
+        }
+
+        Predicate<T> candidatePredicate = candidateClause.getPredicate();
+        return entity -> matches.contains(entity)
+                || candidatePredicate.test(entity) && !rejectedCandidates.contains(entity)
+                        && otherPredicate.test(entity);
+    }
+
+    /**
+     * Returns a predicate that tests the clauses of {@code plannedClauses} in order, until one fails.
+     */
+    private static <T> Predicate<T> allOf(List<PlannedClause<T>> plannedClauses) {
+        if (plannedClauses.size() == 1) {
+            return plannedClauses.get(0).getPredicate();
+        }
+        List<Predicate<T>> predicates = plannedClauses.stream()
+                .map(PlannedClause::getPredicate)
+                .collect(Collectors.toList());
+        return entity -> {
+            for (Predicate<T> predicate : predicates) {
+                if (!predicate.test(entity)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchQuery)) {
+            return false;
+        }
+
+        SearchQuery<?> otherQuery = (SearchQuery<?>) other;
+        return alternatives.equals(otherQuery.alternatives);
+    }
+
+    @Override
+    public int hashCode() {
+        return alternatives.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return alternatives.toString();
+    }
+
+    /** The predicate of a planned alternative, and the estimated fraction of entities that match it. */
+    private static final class PlannedAlternative<T> {
+        private final Predicate<T> predicate;
+        private final double selectivity;
+
+        PlannedAlternative(Predicate<T> predicate, double selectivity) {
+            this.predicate = predicate;
+            this.selectivity = selectivity;
+        }
+    }
+}
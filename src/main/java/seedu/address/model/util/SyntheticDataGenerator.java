@@ -0,0 +1,191 @@
+package seedu.address.model.util;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.athlete.Age;
+import seedu.address.model.athlete.Athlete;
+import seedu.address.model.athlete.Email;
+import seedu.address.model.athlete.Name;
+import seedu.address.model.athlete.Phone;
+import seedu.address.model.athlete.Sport;
+import seedu.address.model.contract.Amount;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.Date8;
+import seedu.address.model.organization.Organization;
+import seedu.address.model.organization.OrganizationEmail;
+import seedu.address.model.organization.OrganizationName;
+import seedu.address.model.organization.OrganizationPhone;
+
+/**
+ * Generates large, valid sets of athletes, organizations and contracts for benchmarks and load tests.
+ * The same seed always produces the same data, so that results can be compared between runs.
+ */
+public class SyntheticDataGenerator {
+
+    private static final String[] FIRST_NAMES = {
+        "James", "Maria", "Wei", "Aisha", "Lucas", "Sofia", "Hiroshi", "Fatima", "Noah", "Chloe",
+        "Mateo", "Priya", "Ethan", "Amara", "Luca", "Yuki", "Omar", "Elena", "Kai", "Zara",
+        "Daniel", "Mei", "Samuel", "Ines", "Arjun", "Olivia", "Diego", "Hana", "Felix", "Nadia",
+        "Leon", "Grace", "Ravi", "Ana", "Tomas", "Lina", "Marcus", "Siti", "Jonas", "Camila"
+    };
+
+    private static final String[] LAST_NAMES = {
+        "Tan", "Smith", "Garcia", "Nguyen", "Khan", "Muller", "Rossi", "Silva", "Kim", "Lee",
+        "Johnson", "Martin", "Lopez", "Sato", "Ahmed", "Dubois", "Novak", "Costa", "Chen", "Wong",
+        "Brown", "Lim", "Kowalski", "Ivanov", "Jensen", "Okafor", "Haddad", "Fernandez", "Ong", "Patel",
+        "Walker", "Suzuki", "Moreau", "Schmidt", "Teo", "Romero", "Yilmaz", "Andersson", "Goh", "Reyes"
+    };
+
+    /** Sports with weights roughly matching how often they appear in a sports agency's book. */
+    private static final String[] SPORTS = {
+        "Football", "Basketball", "Tennis", "Badminton", "Swimming", "Athletics", "Golf", "Cricket",
+        "Rugby", "Volleyball", "Table Tennis", "Cycling", "Boxing", "Formula One", "Baseball", "Hockey"
+    };
+    private static final int[] SPORT_WEIGHTS = {30, 16, 10, 8, 7, 6, 5, 4, 3, 3, 2, 2, 1, 1, 1, 1};
+
+    private static final String[] ORGANIZATION_WORDS = {
+        "Apex", "Summit", "Velocity", "Pioneer", "Titan", "Horizon", "Nova", "Vertex", "Atlas", "Zenith",
+        "Orion", "Falcon", "Harbor", "Crest", "Element", "Frontier", "Legacy", "Momentum", "Pulse", "Quest"
+    };
+    private static final String[] ORGANIZATION_SUFFIXES = {
+        "Sports", "Athletics", "Apparel", "Energy", "Bank", "Motors", "Telecom", "Airways", "Foods", "Media"
+    };
+
+    private static final int FIRST_YEAR = 2018;
+    private static final int YEARS = 10;
+    private static final long MIN_AMOUNT = 10_000;
+    private static final double AMOUNT_MAGNITUDES = 3.0;
+
+    private final Random random;
+
+    /**
+     * Constructs a {@code SyntheticDataGenerator} that generates data from {@code seed}.
+     */
+    public SyntheticDataGenerator(long seed) {
+        random = new Random(seed);
+    }
+
+    /**
+     * Returns {@code count} athletes with distinct names.
+     * Sports are picked with realistic weights, so some sports have many more athletes than others.
+     */
+    public List<Athlete> generateAthletes(int count) {
+        List<Athlete> athletes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Sport sport = new Sport(SPORTS[pickWeighted(SPORT_WEIGHTS)]);
+            Name name = new Name(personName(i));
+            Age age = new Age(String.valueOf(16 + random.nextInt(25)));
+            Phone phone = new Phone(phoneNumber(i));
+            Email email = new Email("athlete" + i + "@example.com");
+            athletes.add(new Athlete(name, sport, age, phone, email));
+        }
+        return athletes;
+    }
+
+    /**
+     * Returns {@code count} organizations with distinct names.
+     */
+    public List<Organization> generateOrganizations(int count) {
+        List<Organization> organizations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            OrganizationName name = new OrganizationName(organizationName(i));
+            OrganizationPhone phone = new OrganizationPhone(phoneNumber(i));
+            OrganizationEmail email = new OrganizationEmail("partnerships" + i + "@example.com");
+            organizations.add(new Organization(name, phone, email));
+        }
+        return organizations;
+    }
+
+    /**
+     * Returns {@code count} distinct contracts between the given athletes and organizations,
+     * each for the athlete's own sport.
+     * A few athletes and organizations hold most of the contracts, as in a real book.
+     */
+    public List<Contract> generateContracts(int count, List<Athlete> athletes, List<Organization> organizations) {
+        if (count > 0 && (athletes.isEmpty() || organizations.isEmpty())) {
+            throw new IllegalArgumentException("Contracts need at least one athlete and one organization");
+        }
+
+        List<Contract> contracts = new ArrayList<>(count);
+        Set<Contract> generated = new HashSet<>();
+        while (contracts.size() < count) {
+            Athlete athlete = athletes.get(pickSkewed(athletes.size()));
+            Organization organization = organizations.get(pickSkewed(organizations.size()));
+            int startYear = FIRST_YEAR + random.nextInt(YEARS);
+            Date8 startDate = new Date8(date(startYear));
+            Date8 endDate = new Date8(date(startYear + 1 + random.nextInt(5)));
+            // Amounts are spread evenly over orders of magnitude, from 10 thousand to 10 million
+            long amount = (long) (MIN_AMOUNT * Math.pow(10, random.nextDouble() * AMOUNT_MAGNITUDES));
+
+            Contract contract = new Contract(athlete, athlete.getSport(), organization, startDate, endDate,
+                    new Amount(amount));
+            if (generated.add(contract)) {
+                contracts.add(contract);
+            }
+        }
+        return contracts;
+    }
+
+    /**
+     * Returns a name made of a first name, a last name and, once those run out, a distinct suffix.
+     */
+    private static String personName(int index) {
+        int combinations = FIRST_NAMES.length * LAST_NAMES.length;
+        String name = FIRST_NAMES[index % FIRST_NAMES.length] + " "
+                + LAST_NAMES[(index / FIRST_NAMES.length) % LAST_NAMES.length];
+        return index < combinations ? name : name + " " + letters(index / combinations);
+    }
+
+    private static String organizationName(int index) {
+        int combinations = ORGANIZATION_WORDS.length * ORGANIZATION_SUFFIXES.length;
+        String name = ORGANIZATION_WORDS[index % ORGANIZATION_WORDS.length] + " "
+                + ORGANIZATION_SUFFIXES[(index / ORGANIZATION_WORDS.length) % ORGANIZATION_SUFFIXES.length];
+        return index < combinations ? name : name + " " + (index / combinations);
+    }
+
+    /** Returns {@code number} written in base 26 with the letters a to z, capitalised like a name. */
+    private static String letters(int number) {
+        StringBuilder builder = new StringBuilder();
+        int remaining = number;
+        do {
+            builder.append((char) ('a' + remaining % 26));
+            remaining /= 26;
+        } while (remaining > 0);
+        builder.setCharAt(0, Character.toUpperCase(builder.charAt(0)));
+        return builder.toString();
+    }
+
+    private static String phoneNumber(int index) {
+        return String.valueOf(80_000_000 + index % 20_000_000);
+    }
+
+    private String date(int year) {
+        return String.format("%02d%02d%04d", 1 + random.nextInt(28), 1 + random.nextInt(12), year);
+    }
+
+    /** Returns an index into {@code weights}, picked with probability proportional to its weight. */
+    private int pickWeighted(int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int pick = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            pick -= weights[i];
+            if (pick < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    /** Returns an index below {@code size} that is more likely to be small, so that early entries are popular. */
+    private int pickSkewed(int size) {
+        double skewed = random.nextDouble() * random.nextDouble();
+        return (int) (skewed * size);
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.storage;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Reads a data file, falling back to the backup that {@link FileUtil#writeAtomicallyWithBackup} keeps of it
+ * if the file is missing or cannot be read, such as after a crash during a save.
+ */
+class BackupFallbackReader {
+
+    private static final Logger logger = LogsCenter.getLogger(BackupFallbackReader.class);
+
+    /**
+     * Reads the data at {@code filePath} with {@code reader}, or its backup if there is no usable data there.
+     * Returns {@code Optional.empty()} if neither the file nor its backup exists.
+     *
+     * @throws DataLoadingException if the file exists but cannot be read, and neither can its backup.
+     */
+    static <T> Optional<T> read(Path filePath, DataFileReader<T> reader) throws DataLoadingException {
+        Path backupFilePath = FileUtil.getBackupPath(filePath);
+
+        Optional<T> data;
+        try {
+            data = reader.read(filePath);
+        } catch (DataLoadingException e) {
+            if (!FileUtil.isFileExists(backupFilePath)) {
+                throw e;
+            }
+            logger.warning("Could not read " + filePath + ", reading its backup " + backupFilePath + " instead");
+            try {
+                return reader.read(backupFilePath);
+            } catch (DataLoadingException backupException) {
+                e.addSuppressed(backupException);
+                throw e;
+            }
+        }
+
+        if (data.isPresent() || !FileUtil.isFileExists(backupFilePath)) {
+            return data;
+        }
+        logger.warning(filePath + " is missing, reading its backup " + backupFilePath + " instead");
+        return reader.read(backupFilePath);
+    }
+
+    /**
+     * Reads the data in one file.
+     */
+    @FunctionalInterface
+    interface DataFileReader<T> {
+        Optional<T> read(Path filePath) throws DataLoadingException;
+    }
+}
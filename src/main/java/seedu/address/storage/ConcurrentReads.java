@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+
+/**
+ * Runs reads of data files on an executor, and waits for their results, passing on any
+ * {@code DataLoadingException} they throw.
+ */
+class ConcurrentReads {
+
+    /**
+     * Starts {@code read} on {@code executor}.
+     */
+    static <T> CompletableFuture<T> start(DataRead<T> read, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return read.read();
+            } catch (DataLoadingException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Waits for {@code read} to finish and returns its result.
+     *
+     * @throws DataLoadingException if the read threw one, or this thread was interrupted while waiting.
+     */
+    static <T> T await(CompletableFuture<T> read) throws DataLoadingException {
+        try {
+            return read.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataLoadingException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof DataLoadingException) {
+                throw (DataLoadingException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new DataLoadingException((Exception) cause);
+        }
+    }
+
+    /**
+     * Reads the data in a data file.
+     */
+    @FunctionalInterface
+    interface DataRead<T> {
+        T read() throws DataLoadingException;
+    }
+}
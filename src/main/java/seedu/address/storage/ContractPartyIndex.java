@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.model.athlete.Athlete;
+import seedu.address.model.athlete.AthleteIdentity;
+import seedu.address.model.athlete.Name;
+import seedu.address.model.athlete.Sport;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractList;
+import seedu.address.model.contract.ReadOnlyContractList;
+import seedu.address.model.organization.Organization;
+import seedu.address.model.organization.OrganizationName;
+
+/**
+ * Looks up the stored athletes and organizations that contracts refer to by their identity keys.
+ * Athletes are keyed by name and sport, and organizations by name.
+ */
+public class ContractPartyIndex {
+
+    private final Map<AthleteIdentity, Athlete> athletes = new HashMap<>();
+    private final Map<OrganizationName, Organization> organizations = new HashMap<>();
+
+    /**
+     * Creates an index of the given athletes and organizations.
+     */
+    public ContractPartyIndex(Collection<Athlete> athletes, Collection<Organization> organizations) {
+        for (Athlete athlete : athletes) {
+            this.athletes.put(new AthleteIdentity(athlete), athlete);
+        }
+        for (Organization organization : organizations) {
+            this.organizations.put(organization.getName(), organization);
+        }
+    }
+
+    /** Returns the stored athlete with the given name and sport, if any. */
+    public Optional<Athlete> findAthlete(Name name, Sport sport) {
+        return Optional.ofNullable(athletes.get(new AthleteIdentity(name, sport)));
+    }
+
+    /** Returns the stored organization with the given name, if any. */
+    public Optional<Organization> findOrganization(OrganizationName name) {
+        return Optional.ofNullable(organizations.get(name));
+    }
+
+    /**
+     * Returns a copy of {@code contracts} in which every contract refers to the stored athlete and organization
+     * instances, so that the contracts share them instead of holding their own copies.
+     *
+     * @see #intern(Contract)
+     */
+    public ContractList intern(ReadOnlyContractList contracts) {
+        ContractList internedContracts = new ContractList();
+        internedContracts.setContracts(contracts.getContractList().stream()
+                .map(this::intern)
+                .collect(Collectors.toList()));
+        return internedContracts;
+    }
+
+    /**
+     * Returns {@code contract} with its athlete and organization replaced by the stored instances equal to them.
+     * A party without an equal stored instance is kept as it is.
+     * Returns {@code contract} itself if it already refers to the stored instances.
+     */
+    public Contract intern(Contract contract) {
+        Athlete athlete = intern(contract.getAthlete());
+        Organization organization = intern(contract.getOrganization());
+        if (athlete == contract.getAthlete() && organization == contract.getOrganization()) {
+            return contract;
+        }
+
+        // The contract's sport is normally the athlete's, so share that instance too
+        Sport sport = contract.getSport().value.equals(athlete.getSport().value)
+                ? athlete.getSport()
+                : contract.getSport();
+        return new Contract(athlete, sport, organization, contract.getStartDate(), contract.getEndDate(),
+                contract.getAmount());
+    }
+
+    private Athlete intern(Athlete athlete) {
+        return findAthlete(athlete.getName(), athlete.getSport())
+                .filter(athlete::equals)
+                .orElse(athlete);
+    }
+
+    private Organization intern(Organization organization) {
+        return findOrganization(organization.getName())
+                .filter(organization::equals)
+                .orElse(organization);
+    }
+}
@@ -0,0 +1,595 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.athlete.Athlete;
+import seedu.address.model.athlete.AthleteList;
+import seedu.address.model.athlete.ReadOnlyAthleteList;
+import seedu.address.model.athlete.exceptions.DuplicateAthleteException;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractList;
+import seedu.address.model.contract.ReadOnlyContractList;
+import seedu.address.model.contract.exceptions.DuplicateContractException;
+import seedu.address.model.organization.Organization;
+import seedu.address.model.organization.OrganizationList;
+import seedu.address.model.organization.ReadOnlyOrganizationList;
+import seedu.address.model.organization.exceptions.DuplicateOrganizationException;
+import seedu.address.storage.JsonAdaptedJournalEntry.Operation;
+
+/**
+ * Stores athletes, organizations and contracts as a snapshot file plus an append-only journal of changes.
+ * <p>
+ * Each save appends one add or delete record per changed item to the journal, so the cost of a save depends on
+ * the size of the change rather than the size of the data. Once the journal holds {@code compactionThreshold}
+ * records, the data is written to a new snapshot and the journal is cleared. Reading replays the journal onto
+ * the snapshot.
+ * <p>
+ * The records are appended in an order that keeps every part of the journal that a crash can leave loadable:
+ * an athlete or organization is added before the contracts that refer to it, and deleted after them. If the
+ * stored data cannot be read, it is never saved over.
+ * <p>
+ * Until the first snapshot is written, the list files of the wrapped {@code fileStorage} are used as the snapshot,
+ * so existing data is carried over. User preferences and the address book are stored by {@code fileStorage}.
+ */
+public class JournalStorageManager implements Storage {
+
+    public static final String DEFAULT_SNAPSHOT_FILE_NAME = "snapshot.json";
+    public static final String DEFAULT_JOURNAL_FILE_NAME = "journal.jsonl";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+
+    public static final String MESSAGE_UNREADABLE_DATA =
+            "The data in %s and %s could not be read, so it is not saved over";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalStorageManager.class);
+
+    private final Storage fileStorage;
+    private final Path snapshotFilePath;
+    private final Path journalFilePath;
+    private final int compactionThreshold;
+
+    // The data as it was last written, which saves are compared against. Null until first loaded.
+    private Set<Athlete> savedAthletes;
+    private Set<Organization> savedOrganizations;
+    private Set<Contract> savedContracts;
+    // The data as it was last passed to a save, which differs from the written data while a change is held back
+    private Set<Athlete> requestedAthletes;
+    private Set<Organization> requestedOrganizations;
+    private Set<Contract> requestedContracts;
+    private DataLoadingException loadFailure;
+    private boolean isDataFound;
+    private int journalRecordCount;
+    private boolean isCompactionRequired;
+
+    /**
+     * Creates a {@code JournalStorageManager} with the default compaction threshold.
+     */
+    public JournalStorageManager(Storage fileStorage, Path snapshotFilePath, Path journalFilePath) {
+        this(fileStorage, snapshotFilePath, journalFilePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalStorageManager} that compacts the journal into the snapshot every
+     * {@code compactionThreshold} records.
+     */
+    public JournalStorageManager(Storage fileStorage, Path snapshotFilePath, Path journalFilePath,
+                                 int compactionThreshold) {
+        requireNonNull(fileStorage);
+        requireNonNull(snapshotFilePath);
+        requireNonNull(journalFilePath);
+        assert compactionThreshold > 0;
+        this.fileStorage = fileStorage;
+        this.snapshotFilePath = snapshotFilePath;
+        this.journalFilePath = journalFilePath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return fileStorage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return fileStorage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        fileStorage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return fileStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return fileStorage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return fileStorage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        fileStorage.saveAddressBook(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        fileStorage.saveAddressBook(addressBook, filePath);
+    }
+
+    // ================ AthleteList methods ==============================
+    // The methods taking a file path read and write plain list files through fileStorage, bypassing the journal.
+
+    @Override
+    public Path getAthleteListFilePath() {
+        return fileStorage.getAthleteListFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAthleteList> readAthleteList() throws DataLoadingException {
+        load();
+        if (!isDataFound) {
+            return Optional.empty();
+        }
+        AthleteList athletes = new AthleteList();
+        athletes.setAthletes(new ArrayList<>(savedAthletes));
+        return Optional.of(athletes);
+    }
+
+    @Override
+    public Optional<ReadOnlyAthleteList> readAthleteList(Path filePath) throws DataLoadingException {
+        return fileStorage.readAthleteList(filePath);
+    }
+
+    @Override
+    public void saveAthleteList(ReadOnlyAthleteList athletes) throws IOException {
+        requireNonNull(athletes);
+        loadForSave();
+        requestedAthletes = new LinkedHashSet<>(athletes.getAthleteList());
+        writeChanges();
+    }
+
+    @Override
+    public void saveAthleteList(ReadOnlyAthleteList athletes, Path filePath) throws IOException {
+        fileStorage.saveAthleteList(athletes, filePath);
+    }
+
+    // ================ ContractList methods ==============================
+
+    @Override
+    public Path getContractListFilePath() {
+        return fileStorage.getContractListFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyContractList> readContractList() throws DataLoadingException {
+        load();
+        if (!isDataFound) {
+            return Optional.empty();
+        }
+        ContractList contracts = new ContractList();
+        contracts.setContracts(new ArrayList<>(savedContracts));
+        return Optional.of(contracts);
+    }
+
+    @Override
+    public Optional<ReadOnlyContractList> readContractList(Path filePath) throws DataLoadingException {
+        return fileStorage.readContractList(filePath);
+    }
+
+    @Override
+    public void saveContractList(ReadOnlyContractList contracts) throws IOException {
+        requireNonNull(contracts);
+        loadForSave();
+        requestedContracts = new LinkedHashSet<>(contracts.getContractList());
+        writeChanges();
+    }
+
+    @Override
+    public void saveContractList(ReadOnlyContractList contracts, Path filePath) throws IOException {
+        fileStorage.saveContractList(contracts, filePath);
+    }
+
+    // ================ OrganizationList methods ==============================
+
+    @Override
+    public Path getOrganizationListFilePath() {
+        return fileStorage.getOrganizationListFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyOrganizationList> readOrganizationList() throws DataLoadingException {
+        load();
+        if (!isDataFound) {
+            return Optional.empty();
+        }
+        OrganizationList organizations = new OrganizationList();
+        organizations.setOrganizations(new ArrayList<>(savedOrganizations));
+        return Optional.of(organizations);
+    }
+
+    @Override
+    public Optional<ReadOnlyOrganizationList> readOrganizationList(Path filePath) throws DataLoadingException {
+        return fileStorage.readOrganizationList(filePath);
+    }
+
+    @Override
+    public void saveOrganizationList(ReadOnlyOrganizationList organizations) throws IOException {
+        requireNonNull(organizations);
+        loadForSave();
+        requestedOrganizations = new LinkedHashSet<>(organizations.getOrganizationList());
+        writeChanges();
+    }
+
+    @Override
+    public void saveOrganizationList(ReadOnlyOrganizationList organizations, Path filePath) throws IOException {
+        fileStorage.saveOrganizationList(organizations, filePath);
+    }
+
+    // ================ All data files ==============================
+
+    @Override
+    public StoredData readDataFiles() throws DataLoadingException {
+        Optional<ReadOnlyAthleteList> athletes = readAthleteList();
+        Optional<ReadOnlyOrganizationList> organizations = readOrganizationList();
+        Optional<ReadOnlyContractList> contracts = readContractList();
+        // Contracts added by the journal may hold their own copies of the athletes and organizations
+        if (contracts.isPresent()) {
+            contracts = Optional.of(new ContractPartyIndex(savedAthletes, savedOrganizations).intern(contracts.get()));
+        }
+        return new StoredData(athletes, organizations, contracts);
+    }
+
+    // ================ Snapshot and journal ==============================
+
+    /**
+     * Loads the snapshot and replays the journal onto it, if this has not been done yet.
+     *
+     * @throws DataLoadingException if the stored data could not be read, now or on an earlier attempt.
+     */
+    private void load() throws DataLoadingException {
+        if (loadFailure != null) {
+            throw loadFailure;
+        }
+        if (savedAthletes != null) {
+            return;
+        }
+
+        Set<Athlete> athletes = new LinkedHashSet<>();
+        Set<Organization> organizations = new LinkedHashSet<>();
+        Set<Contract> contracts = new LinkedHashSet<>();
+        try {
+            isDataFound = readSnapshot(athletes, organizations, contracts);
+            isDataFound |= replayJournal(athletes, organizations, contracts);
+            dropDanglingContracts(athletes, organizations, contracts);
+            // Reject identity duplicates left by replay in the same way as a list file with duplicates
+            new AthleteList().setAthletes(new ArrayList<>(athletes));
+            new OrganizationList().setOrganizations(new ArrayList<>(organizations));
+            new ContractList().setContracts(new ArrayList<>(contracts));
+        } catch (IllegalValueException | DuplicateAthleteException | DuplicateOrganizationException
+                | DuplicateContractException e) {
+            logger.info("Illegal values found in " + snapshotFilePath + " or " + journalFilePath + ": "
+                    + e.getMessage());
+            loadFailure = new DataLoadingException(e);
+            throw loadFailure;
+        } catch (DataLoadingException e) {
+            loadFailure = e;
+            throw e;
+        }
+
+        savedAthletes = athletes;
+        savedOrganizations = organizations;
+        savedContracts = contracts;
+        requestedAthletes = athletes;
+        requestedOrganizations = organizations;
+        requestedContracts = contracts;
+    }
+
+    /**
+     * Loads the stored data before a save.
+     *
+     * @throws IOException if the stored data cannot be read. The snapshot and journal are then left as they are,
+     *     so that the data in them can still be recovered.
+     */
+    private void loadForSave() throws IOException {
+        try {
+            load();
+        } catch (DataLoadingException e) {
+            throw new IOException(String.format(MESSAGE_UNREADABLE_DATA, snapshotFilePath, journalFilePath), e);
+        }
+    }
+
+    /**
+     * Reads the snapshot into the given sets, falling back to the list files of {@code fileStorage}.
+     * Returns true if any stored data was found.
+     */
+    private boolean readSnapshot(Set<Athlete> athletes, Set<Organization> organizations, Set<Contract> contracts)
+            throws DataLoadingException, IllegalValueException {
+        Optional<JsonSerializableJournalSnapshot> snapshot =
+                JsonUtil.readJsonFile(snapshotFilePath, JsonSerializableJournalSnapshot.class);
+        if (snapshot.isPresent()) {
+            athletes.addAll(snapshot.get().toModelAthletes());
+            organizations.addAll(snapshot.get().toModelOrganizations());
+            contracts.addAll(snapshot.get().toModelContracts(new ContractPartyIndex(athletes, organizations)));
+            return true;
+        }
+
+        StoredData storedData = fileStorage.readDataFiles();
+        Optional<ReadOnlyAthleteList> athleteList = storedData.getAthleteList();
+        Optional<ReadOnlyOrganizationList> organizationList = storedData.getOrganizationList();
+        Optional<ReadOnlyContractList> contractList = storedData.getContractList();
+        athleteList.ifPresent(list -> athletes.addAll(list.getAthleteList()));
+        organizationList.ifPresent(list -> organizations.addAll(list.getOrganizationList()));
+        contractList.ifPresent(list -> contracts.addAll(list.getContractList()));
+        return athleteList.isPresent() || organizationList.isPresent() || contractList.isPresent();
+    }
+
+    /**
+     * Applies every record in the journal to the given sets. Returns true if the journal exists.
+     * A final record that cannot be parsed is taken to be a write cut short by a crash, and is skipped.
+     */
+    private boolean replayJournal(Set<Athlete> athletes, Set<Organization> organizations, Set<Contract> contracts)
+            throws DataLoadingException, IllegalValueException {
+        journalRecordCount = 0;
+        if (!Files.exists(journalFilePath)) {
+            return false;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        int lastRecordLine = lines.size() - 1;
+        while (lastRecordLine >= 0 && lines.get(lastRecordLine).isBlank()) {
+            lastRecordLine--;
+        }
+        for (int i = 0; i <= lastRecordLine; i++) {
+            if (lines.get(i).isBlank()) {
+                continue;
+            }
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry.class);
+            } catch (IOException e) {
+                if (i < lastRecordLine) {
+                    logger.warning("Error reading record " + (i + 1) + " of journal file " + journalFilePath);
+                    throw new DataLoadingException(e);
+                }
+                logger.warning("Skipping incomplete last record of journal file " + journalFilePath);
+                isCompactionRequired = true;
+                break;
+            }
+            entry.applyTo(athletes, organizations, contracts);
+            journalRecordCount++;
+        }
+        return true;
+    }
+
+    /**
+     * Removes the contracts whose athlete or organization is not stored, such as one left by a journal that was
+     * edited by hand, and logs each of them, so that one such contract does not stop the rest of the data loading.
+     */
+    private void dropDanglingContracts(Set<Athlete> athletes, Set<Organization> organizations,
+                                       Set<Contract> contracts) {
+        contracts.removeIf(contract -> {
+            if (athletes.contains(contract.getAthlete()) && organizations.contains(contract.getOrganization())) {
+                return false;
+            }
+            logger.warning("Dropping contract without a stored athlete or organization from " + journalFilePath
+                    + ": " + contract);
+            return true;
+        });
+    }
+
+    /**
+     * Writes the changes from the saved data to the requested data, to the journal or to a new snapshot if the
+     * journal cannot be appended to.
+     * <p>
+     * Contracts are deleted before the athletes and organizations they refer to, and added after them, and an
+     * athlete or organization is deleted before another with the same identity is added. So no part of the journal
+     * that a crash can leave holds a contract without its parties, or two parties with the same identity.
+     * A change that would break this is held back until a later save makes it possible, such as a contract whose
+     * organization is saved after it, or an organization whose contracts are deleted after it.
+     */
+    private void writeChanges() throws IOException {
+        Changes<Athlete> athleteChanges = new Changes<>(savedAthletes, requestedAthletes);
+        Changes<Organization> organizationChanges = new Changes<>(savedOrganizations, requestedOrganizations);
+        Changes<Contract> contractChanges = new Changes<>(savedContracts, requestedContracts);
+
+        if (!athleteChanges.deletes.isEmpty() || !organizationChanges.deletes.isEmpty()) {
+            Set<Athlete> referencedAthletes = new HashSet<>();
+            Set<Organization> referencedOrganizations = new HashSet<>();
+            for (Contract contract : savedContracts) {
+                if (!contractChanges.deletes.contains(contract)) {
+                    referencedAthletes.add(contract.getAthlete());
+                    referencedOrganizations.add(contract.getOrganization());
+                }
+            }
+            athleteChanges.holdBackDeletes(referencedAthletes::contains, Athlete::isSameAthlete);
+            organizationChanges.holdBackDeletes(referencedOrganizations::contains,
+                    Organization::isSameOrganization);
+        }
+        contractChanges.holdBackAdds(contract -> !athleteChanges.isStored(savedAthletes, contract.getAthlete())
+                || !organizationChanges.isStored(savedOrganizations, contract.getOrganization()));
+
+        Set<Athlete> athletes = athleteChanges.apply(savedAthletes, requestedAthletes);
+        Set<Organization> organizations = organizationChanges.apply(savedOrganizations, requestedOrganizations);
+        Set<Contract> contracts = contractChanges.apply(savedContracts, requestedContracts);
+        if (isCompactionRequired) {
+            compact(athletes, organizations, contracts);
+        } else {
+            List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+            contractChanges.addEntries(Operation.DELETE, JsonAdaptedJournalEntry::of, entries);
+            athleteChanges.addEntries(Operation.DELETE, JsonAdaptedJournalEntry::of, entries);
+            organizationChanges.addEntries(Operation.DELETE, JsonAdaptedJournalEntry::of, entries);
+            athleteChanges.addEntries(Operation.ADD, JsonAdaptedJournalEntry::of, entries);
+            organizationChanges.addEntries(Operation.ADD, JsonAdaptedJournalEntry::of, entries);
+            contractChanges.addEntries(Operation.ADD, JsonAdaptedJournalEntry::of, entries);
+            appendToJournal(entries);
+        }
+        savedAthletes = athletes;
+        savedOrganizations = organizations;
+        savedContracts = contracts;
+        compactIfJournalFull();
+    }
+
+    /**
+     * Appends {@code entries} to the journal, one JSON record per line, and forces them to disk.
+     */
+    private void appendToJournal(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        if (entries.isEmpty()) {
+            return;
+        }
+        StringBuilder records = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            records.append(JsonUtil.toSingleLineJsonString(entry)).append('\n');
+        }
+
+        FileUtil.appendToFile(journalFilePath, records.toString().getBytes(StandardCharsets.UTF_8));
+        journalRecordCount += entries.size();
+    }
+
+    private void compactIfJournalFull() {
+        if (journalRecordCount < compactionThreshold) {
+            return;
+        }
+        try {
+            compact(savedAthletes, savedOrganizations, savedContracts);
+        } catch (IOException e) {
+            // The journal still holds every change, so compaction can wait for the next save
+            logger.warning("Failed to compact journal " + journalFilePath + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the given data to a new snapshot, replacing the old one in a single step, then clears the journal.
+     * If the journal cannot be cleared, replaying it onto the new snapshot still gives the same data.
+     */
+    private void compact(Collection<Athlete> athletes, Collection<Organization> organizations,
+                         Collection<Contract> contracts) throws IOException {
+        JsonUtil.saveJsonFile(new JsonSerializableJournalSnapshot(athletes, organizations, contracts),
+                snapshotFilePath);
+        Files.deleteIfExists(journalFilePath);
+
+        journalRecordCount = 0;
+        isCompactionRequired = false;
+        isDataFound = true;
+        logger.fine("Compacted journal " + journalFilePath + " into snapshot " + snapshotFilePath);
+    }
+
+    /**
+     * The items to delete from and add to a saved set to turn it into a requested set, less any held back.
+     */
+    private static class Changes<T> {
+        private final Set<T> deletes = new LinkedHashSet<>();
+        private final Set<T> adds = new LinkedHashSet<>();
+        private boolean isAnyHeldBack;
+
+        Changes(Set<T> saved, Set<T> requested) {
+            if (saved == requested) {
+                return;
+            }
+            for (T item : saved) {
+                if (!requested.contains(item)) {
+                    deletes.add(item);
+                }
+            }
+            for (T item : requested) {
+                if (!saved.contains(item)) {
+                    adds.add(item);
+                }
+            }
+        }
+
+        /**
+         * Holds back the deletes of the items that {@code isReferenced}, and the adds of the items with the same
+         * identity as one of them.
+         */
+        void holdBackDeletes(Predicate<T> isReferenced, BiPredicate<T, T> isSameIdentity) {
+            List<T> heldBack = new ArrayList<>();
+            for (T item : deletes) {
+                if (isReferenced.test(item)) {
+                    heldBack.add(item);
+                }
+            }
+            if (heldBack.isEmpty()) {
+                return;
+            }
+            deletes.removeAll(heldBack);
+            adds.removeIf(item -> heldBack.stream().anyMatch(held -> isSameIdentity.test(held, item)));
+            isAnyHeldBack = true;
+        }
+
+        /**
+         * Holds back the adds of the items that {@code cannotBeAdded}.
+         */
+        void holdBackAdds(Predicate<T> cannotBeAdded) {
+            isAnyHeldBack |= adds.removeIf(cannotBeAdded);
+        }
+
+        /**
+         * Returns true if {@code item} is in {@code saved} once these changes are made to it.
+         */
+        boolean isStored(Set<T> saved, T item) {
+            return adds.contains(item) || saved.contains(item) && !deletes.contains(item);
+        }
+
+        /**
+         * Returns {@code saved} with these changes made to it, which is {@code requested} if none are held back.
+         */
+        Set<T> apply(Set<T> saved, Set<T> requested) {
+            if (!isAnyHeldBack) {
+                return requested;
+            }
+            Set<T> updated = new LinkedHashSet<>(saved);
+            updated.removeAll(deletes);
+            updated.addAll(adds);
+            return updated;
+        }
+
+        void addEntries(Operation operation, BiFunction<Operation, T, JsonAdaptedJournalEntry> toEntry,
+                        List<JsonAdaptedJournalEntry> entries) {
+            for (T item : operation == Operation.DELETE ? deletes : adds) {
+                entries.add(toEntry.apply(operation, item));
+            }
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.athlete.Age;
@@ -44,47 +47,60 @@ class JsonAdaptedAthlete {
         this.email = source.getEmail().value;
     }
 
+    /**
+     * Writes the given {@code Athlete} in the same JSON format as this class, without creating an instance of it.
+     */
+    public static void write(JsonGenerator generator, Athlete source) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", source.getName().fullName);
+        generator.writeStringField("sport", source.getSport().value);
+        generator.writeStringField("age", source.getAge().value);
+        generator.writeStringField("phone", source.getPhone().value);
+        generator.writeStringField("email", source.getEmail().value);
+        generator.writeEndObject();
+    }
+
     /** Converts this Jackson-friendly adapted object into the model's {@code Athlete}. */
     public Athlete toModelType() throws IllegalValueException {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
-        if (!Name.isValidName(name)) {
+        final Name modelName = Name.tryParse(name);
+        if (modelName == null) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
 
         if (sport == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Sport.class.getSimpleName()));
         }
-        if (!Sport.isValidSport(sport)) {
+        final Sport modelSport = Sport.tryParse(sport);
+        if (modelSport == null) {
             throw new IllegalValueException(Sport.MESSAGE_CONSTRAINTS);
         }
-        final Sport modelSport = new Sport(sport);
 
         if (age == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Age.class.getSimpleName()));
         }
-        if (!Age.isValidAge(age)) {
+        final Age modelAge = Age.tryParse(age);
+        if (modelAge == null) {
             throw new IllegalValueException(Age.MESSAGE_CONSTRAINTS);
         }
-        final Age modelAge = new Age(age);
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
         }
-        if (!Phone.isValidPhone(phone)) {
+        final Phone modelPhone = Phone.tryParse(phone);
+        if (modelPhone == null) {
             throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
         }
-        final Phone modelPhone = new Phone(phone);
 
         if (email == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
         }
-        if (!Email.isValidEmail(email)) {
+        final Email modelEmail = Email.tryParse(email);
+        if (modelEmail == null) {
             throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
         }
-        final Email modelEmail = new Email(email);
 
         return new Athlete(modelName, modelSport, modelAge, modelPhone, modelEmail);
     }
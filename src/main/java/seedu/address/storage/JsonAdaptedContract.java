@@ -1,98 +1,229 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.athlete.Athlete;
+import seedu.address.model.athlete.Name;
 import seedu.address.model.athlete.Sport;
 import seedu.address.model.contract.Amount;
 import seedu.address.model.contract.Contract;
 import seedu.address.model.contract.Date8;
 import seedu.address.model.organization.Organization;
+import seedu.address.model.organization.OrganizationName;
 
-/** Jackson-friendly version of {@link Contract}. */
+/**
+ * Jackson-friendly version of {@link Contract}.
+ * The athlete and organization are either embedded in full, or referred to by their keys
+ * (athlete name and sport, organization name) in the normalized format.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 class JsonAdaptedContract {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Contract's %s field is missing!";
+    public static final String MESSAGE_MISSING_ATHLETE = "Athlete does not exist for contract: %s (%s)";
+    public static final String MESSAGE_MISSING_ORGANIZATION = "Organization does not exist for contract: %s";
 
     private final JsonAdaptedAthlete athlete;
+    private final String athleteName;
+    private final String athleteSport;
     private final String sport;
     private final JsonAdaptedOrganization organization;
+    private final String organizationName;
     private final String startDate;
     private final String endDate;
     private final String amount;
 
+    /**
+     * Constructs a {@code JsonAdaptedContract} with the given details, in either format.
+     */
     @JsonCreator
     public JsonAdaptedContract(@JsonProperty("athlete") JsonAdaptedAthlete athlete,
+                               @JsonProperty("athleteName") String athleteName,
+                               @JsonProperty("athleteSport") String athleteSport,
                                @JsonProperty("sport") String sport,
                                @JsonProperty("organization") JsonAdaptedOrganization organization,
+                               @JsonProperty("organizationName") String organizationName,
                                @JsonProperty("startDate") String startDate,
                                @JsonProperty("endDate") String endDate,
                                @JsonProperty("amount") String amount) {
         this.athlete = athlete;
+        this.athleteName = athleteName;
+        this.athleteSport = athleteSport;
         this.sport = sport;
         this.organization = organization;
+        this.organizationName = organizationName;
         this.startDate = startDate;
         this.endDate = endDate;
         this.amount = amount;
     }
 
-    /** Converts a given {@code Contract} into this class for Jackson use. */
+    /**
+     * Constructs a {@code JsonAdaptedContract} that embeds the given athlete and organization.
+     */
+    public JsonAdaptedContract(JsonAdaptedAthlete athlete, String sport, JsonAdaptedOrganization organization,
+                               String startDate, String endDate, String amount) {
+        this(athlete, null, null, sport, organization, null, startDate, endDate, amount);
+    }
+
+    /** Converts a given {@code Contract} into this class for Jackson use, embedding its athlete and organization. */
     public JsonAdaptedContract(Contract source) {
-        this.athlete = new JsonAdaptedAthlete(source.getAthlete());
-        this.sport = source.getSport().value;
-        this.organization = new JsonAdaptedOrganization(source.getOrganization());
-        this.startDate = source.getStartDate().value;
-        this.endDate = source.getEndDate().value;
-        this.amount = String.valueOf(source.getAmount().value);
+        this(new JsonAdaptedAthlete(source.getAthlete()), source.getSport().value,
+                new JsonAdaptedOrganization(source.getOrganization()), source.getStartDate().value,
+                source.getEndDate().value, String.valueOf(source.getAmount().value));
+    }
+
+    /**
+     * Converts a given {@code Contract} into this class for Jackson use,
+     * referring to its athlete and organization by their keys.
+     */
+    public static JsonAdaptedContract normalized(Contract source) {
+        return new JsonAdaptedContract(null, source.getAthlete().getName().fullName,
+                source.getAthlete().getSport().value, source.getSport().value, null,
+                source.getOrganization().getName().fullOrganizationName, source.getStartDate().value,
+                source.getEndDate().value, String.valueOf(source.getAmount().value));
     }
 
-    /** Converts this Jackson-friendly adapted object into the model's {@code Contract}. */
+    /**
+     * Writes the given {@code Contract} in the same JSON format as {@link #normalized(Contract)},
+     * without creating an instance of this class.
+     */
+    public static void writeNormalized(JsonGenerator generator, Contract source) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("athleteName", source.getAthlete().getName().fullName);
+        generator.writeStringField("athleteSport", source.getAthlete().getSport().value);
+        generator.writeStringField("sport", source.getSport().value);
+        generator.writeStringField("organizationName", source.getOrganization().getName().fullOrganizationName);
+        generator.writeStringField("startDate", source.getStartDate().value);
+        generator.writeStringField("endDate", source.getEndDate().value);
+        generator.writeStringField("amount", String.valueOf(source.getAmount().value));
+        generator.writeEndObject();
+    }
+
+    /** Returns true if this contract embeds its athlete or organization instead of referring to them by key. */
+    public boolean hasEmbeddedParties() {
+        return athlete != null || organization != null;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted object into the model's {@code Contract}.
+     * The athlete and organization must be embedded.
+     */
     public Contract toModelType() throws IllegalValueException {
         if (athlete == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Athlete"));
         }
         final Athlete modelAthlete = athlete.toModelType();
+        final Sport modelSport = toModelSport();
 
-        if (sport == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Sport.class.getSimpleName()));
+        if (organization == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Organization"));
+        }
+        final Organization modelOrganization = organization.toModelType();
+
+        return toModelType(modelAthlete, modelSport, modelOrganization);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted object into the model's {@code Contract},
+     * using the athlete and organization in {@code parties} that it refers to.
+     * An embedded athlete or organization must be identical to the one in {@code parties}.
+     */
+    public Contract toModelType(ContractPartyIndex parties) throws IllegalValueException {
+        final Athlete modelAthlete = resolveAthlete(parties);
+        final Sport modelSport = toModelSport();
+        final Organization modelOrganization = resolveOrganization(parties);
+        return toModelType(modelAthlete, modelSport, modelOrganization);
+    }
+
+    private Athlete resolveAthlete(ContractPartyIndex parties) throws IllegalValueException {
+        if (athlete != null) {
+            Athlete embeddedAthlete = athlete.toModelType();
+            return parties.findAthlete(embeddedAthlete.getName(), embeddedAthlete.getSport())
+                    .filter(embeddedAthlete::equals)
+                    .orElseThrow(() -> new IllegalValueException(String.format(MESSAGE_MISSING_ATHLETE,
+                            embeddedAthlete.getName(), embeddedAthlete.getSport())));
         }
-        if (!Sport.isValidSport(sport)) {
+
+        if (athleteName == null || athleteSport == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Athlete"));
+        }
+        final Name modelAthleteName = Name.tryParse(athleteName);
+        if (modelAthleteName == null) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        final Sport modelAthleteSport = Sport.tryParse(athleteSport);
+        if (modelAthleteSport == null) {
             throw new IllegalValueException(Sport.MESSAGE_CONSTRAINTS);
         }
-        final Sport modelSport = new Sport(sport);
+        return parties.findAthlete(modelAthleteName, modelAthleteSport)
+                .orElseThrow(() -> new IllegalValueException(
+                        String.format(MESSAGE_MISSING_ATHLETE, athleteName, athleteSport)));
+    }
+
+    private Organization resolveOrganization(ContractPartyIndex parties) throws IllegalValueException {
+        if (organization != null) {
+            Organization embeddedOrganization = organization.toModelType();
+            return parties.findOrganization(embeddedOrganization.getName())
+                    .filter(embeddedOrganization::equals)
+                    .orElseThrow(() -> new IllegalValueException(
+                            String.format(MESSAGE_MISSING_ORGANIZATION, embeddedOrganization.getName())));
+        }
 
-        if (organization == null) {
+        if (organizationName == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Organization"));
         }
-        final Organization modelOrganization = organization.toModelType();
+        final OrganizationName modelOrganizationName = OrganizationName.tryParse(organizationName);
+        if (modelOrganizationName == null) {
+            throw new IllegalValueException(OrganizationName.MESSAGE_CONSTRAINTS);
+        }
+        return parties.findOrganization(modelOrganizationName)
+                .orElseThrow(() -> new IllegalValueException(
+                        String.format(MESSAGE_MISSING_ORGANIZATION, organizationName)));
+    }
 
+    private Sport toModelSport() throws IllegalValueException {
+        if (sport == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Sport.class.getSimpleName()));
+        }
+        final Sport modelSport = Sport.tryParse(sport);
+        if (modelSport == null) {
+            throw new IllegalValueException(Sport.MESSAGE_CONSTRAINTS);
+        }
+        return modelSport;
+    }
+
+    private Contract toModelType(Athlete modelAthlete, Sport modelSport, Organization modelOrganization)
+            throws IllegalValueException {
         if (startDate == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "StartDate"));
         }
-        if (!Date8.isValidDate8(startDate)) {
+        final Date8 modelStartDate = Date8.tryParse(startDate);
+        if (modelStartDate == null) {
             throw new IllegalValueException(Date8.MESSAGE_CONSTRAINTS);
         }
-        final Date8 modelStartDate = new Date8(startDate);
 
         if (endDate == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "EndDate"));
         }
-        if (!Date8.isValidDate8(endDate)) {
+        final Date8 modelEndDate = Date8.tryParse(endDate);
+        if (modelEndDate == null) {
             throw new IllegalValueException(Date8.MESSAGE_CONSTRAINTS);
         }
-        final Date8 modelEndDate = new Date8(endDate);
 
         if (amount == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Amount"));
         }
-        if (!Amount.isValidAmount(amount)) {
+        final Amount modelAmount = Amount.tryParse(amount);
+        if (modelAmount == null) {
             throw new IllegalValueException(Amount.MESSAGE_CONSTRAINTS);
         }
-        final Amount modelAmount = new Amount(Long.parseLong(amount));
 
         return new Contract(modelAthlete, modelSport, modelOrganization, modelStartDate, modelEndDate, modelAmount);
     }
 }
-
@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.athlete.Athlete;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.organization.Organization;
+
+/**
+ * Jackson-friendly version of one record in the storage journal.
+ * Each record adds or deletes exactly one athlete, organization or contract.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String MISSING_OPERATION_MESSAGE = "Journal entry's operation field is missing!";
+    public static final String INVALID_RECORD_MESSAGE =
+            "Journal entry must contain exactly one athlete, organization or contract.";
+
+    /** The change recorded by a journal entry. */
+    enum Operation {
+        ADD, DELETE
+    }
+
+    private final Operation operation;
+    private final JsonAdaptedAthlete athlete;
+    private final JsonAdaptedOrganization organization;
+    private final JsonAdaptedContract contract;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("operation") Operation operation,
+                                   @JsonProperty("athlete") JsonAdaptedAthlete athlete,
+                                   @JsonProperty("organization") JsonAdaptedOrganization organization,
+                                   @JsonProperty("contract") JsonAdaptedContract contract) {
+        this.operation = operation;
+        this.athlete = athlete;
+        this.organization = organization;
+        this.contract = contract;
+    }
+
+    /** Creates a journal entry recording {@code operation} on {@code athlete}. */
+    public static JsonAdaptedJournalEntry of(Operation operation, Athlete athlete) {
+        return new JsonAdaptedJournalEntry(operation, new JsonAdaptedAthlete(athlete), null, null);
+    }
+
+    /** Creates a journal entry recording {@code operation} on {@code organization}. */
+    public static JsonAdaptedJournalEntry of(Operation operation, Organization organization) {
+        return new JsonAdaptedJournalEntry(operation, null, new JsonAdaptedOrganization(organization), null);
+    }
+
+    /** Creates a journal entry recording {@code operation} on {@code contract}. */
+    public static JsonAdaptedJournalEntry of(Operation operation, Contract contract) {
+        return new JsonAdaptedJournalEntry(operation, null, null, new JsonAdaptedContract(contract));
+    }
+
+    /**
+     * Applies this entry to the matching set.
+     * Adding an item that is already present, or deleting one that is absent, has no effect,
+     * so replaying an entry that is already reflected in a snapshot is harmless.
+     *
+     * @throws IllegalValueException if this entry is incomplete or holds invalid data.
+     */
+    public void applyTo(Set<Athlete> athletes, Set<Organization> organizations, Set<Contract> contracts)
+            throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(MISSING_OPERATION_MESSAGE);
+        }
+        int recordCount = (athlete == null ? 0 : 1) + (organization == null ? 0 : 1) + (contract == null ? 0 : 1);
+        if (recordCount != 1) {
+            throw new IllegalValueException(INVALID_RECORD_MESSAGE);
+        }
+
+        if (athlete != null) {
+            apply(athletes, athlete.toModelType());
+        } else if (organization != null) {
+            apply(organizations, organization.toModelType());
+        } else {
+            apply(contracts, contract.toModelType());
+        }
+    }
+
+    private <T> void apply(Set<T> items, T item) {
+        if (operation == Operation.ADD) {
+            items.add(item);
+        } else {
+            items.remove(item);
+        }
+    }
+}
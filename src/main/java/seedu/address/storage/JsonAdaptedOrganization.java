@@ -1,7 +1,10 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.organization.Organization;
@@ -39,6 +42,17 @@ class JsonAdaptedOrganization {
         this.email = source.getEmail().value;
     }
 
+    /**
+     * Writes the given {@code Organization} in the same JSON format as this class, without creating an instance of it.
+     */
+    public static void write(JsonGenerator generator, Organization source) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", source.getName().fullOrganizationName);
+        generator.writeStringField("phone", source.getPhone().value);
+        generator.writeStringField("email", source.getEmail().value);
+        generator.writeEndObject();
+    }
+
     /**
      * Converts this Jackson-friendly adapted object into the model's {@code Organization}.
      */
@@ -47,28 +61,28 @@ class JsonAdaptedOrganization {
             throw new IllegalValueException(
                     String.format(MISSING_FIELD_MESSAGE_FORMAT, OrganizationName.class.getSimpleName()));
         }
-        if (!OrganizationName.isValidName(name)) {
+        final OrganizationName modelName = OrganizationName.tryParse(name);
+        if (modelName == null) {
             throw new IllegalValueException(OrganizationName.MESSAGE_CONSTRAINTS);
         }
-        final OrganizationName modelName = new OrganizationName(name);
 
         if (phone == null) {
             throw new IllegalValueException(
                     String.format(MISSING_FIELD_MESSAGE_FORMAT, OrganizationPhone.class.getSimpleName()));
         }
-        if (!OrganizationPhone.isValidPhone(phone)) {
+        final OrganizationPhone modelPhone = OrganizationPhone.tryParse(phone);
+        if (modelPhone == null) {
             throw new IllegalValueException(OrganizationPhone.MESSAGE_CONSTRAINTS);
         }
-        final OrganizationPhone modelPhone = new OrganizationPhone(phone);
 
         if (email == null) {
             throw new IllegalValueException(
                     String.format(MISSING_FIELD_MESSAGE_FORMAT, OrganizationEmail.class.getSimpleName()));
         }
-        if (!OrganizationEmail.isValidEmail(email)) {
+        final OrganizationEmail modelEmail = OrganizationEmail.tryParse(email);
+        if (modelEmail == null) {
             throw new IllegalValueException(OrganizationEmail.MESSAGE_CONSTRAINTS);
         }
-        final OrganizationEmail modelEmail = new OrganizationEmail(email);
 
         return new Organization(modelName, modelPhone, modelEmail);
     }
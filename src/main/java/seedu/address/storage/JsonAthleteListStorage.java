@@ -10,8 +10,6 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.athlete.ReadOnlyAthleteList;
 
 /**
@@ -63,15 +61,12 @@ public class JsonAthleteListStorage implements AthleteListStorage {
     @Override
     public Optional<ReadOnlyAthleteList> readAthleteList(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
+        return BackupFallbackReader.read(filePath, this::readAthleteListFile);
+    }
 
-        Optional<JsonSerializableAthleteList> json = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAthleteList.class);
-        if (!json.isPresent()) {
-            return Optional.empty();
-        }
-
+    private Optional<ReadOnlyAthleteList> readAthleteListFile(Path filePath) throws DataLoadingException {
         try {
-            return Optional.of(json.get().toModelType());
+            return JsonSerializableAthleteList.readModelType(filePath);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -91,7 +86,7 @@ public class JsonAthleteListStorage implements AthleteListStorage {
 
     /**
      * Saves the given athlete list data to the specified JSON file path.
-     * Creates the file if it does not exist.
+     * Creates the file if it does not exist, and keeps the file it replaces as a backup.
      *
      * @param athletes The athlete list data to save. Cannot be null.
      * @param filePath The location of the data file. Cannot be null.
@@ -101,7 +96,6 @@ public class JsonAthleteListStorage implements AthleteListStorage {
     public void saveAthleteList(ReadOnlyAthleteList athletes, Path filePath) throws IOException {
         requireNonNull(athletes);
         requireNonNull(filePath);
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAthleteList(athletes), filePath);
+        JsonSerializableAthleteList.saveModelType(athletes, filePath);
     }
 }
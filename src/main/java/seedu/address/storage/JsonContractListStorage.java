@@ -4,23 +4,21 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.athlete.Athlete;
-import seedu.address.model.athlete.AthleteList;
 import seedu.address.model.athlete.ReadOnlyAthleteList;
-import seedu.address.model.contract.Contract;
 import seedu.address.model.contract.ReadOnlyContractList;
 import seedu.address.model.organization.Organization;
-import seedu.address.model.organization.OrganizationList;
 import seedu.address.model.organization.ReadOnlyOrganizationList;
 
 /**
@@ -69,6 +67,7 @@ public class JsonContractListStorage implements ContractListStorage {
 
     /**
      * Similar to {@link #readContractList()}.
+     * The athlete and organization files are read as well, to check the contracts against.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -77,82 +76,77 @@ public class JsonContractListStorage implements ContractListStorage {
     public Optional<ReadOnlyContractList> readContractList(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableContractList> json = JsonUtil.readJsonFile(
-                filePath, JsonSerializableContractList.class);
-
-        Optional<JsonSerializableAthleteList> jsonAthletes = JsonUtil.readJsonFile(
-                this.athletesFilePath, JsonSerializableAthleteList.class);
+        if (!isContractListStored(filePath)) {
+            return Optional.empty();
+        }
 
-        Optional<JsonSerializableOrganizationList> jsonOrganizations = JsonUtil.readJsonFile(
-                organizationsFilePath, JsonSerializableOrganizationList.class);
+        List<Athlete> athletes = new JsonAthleteListStorage(athletesFilePath).readAthleteList()
+                .<List<Athlete>>map(ReadOnlyAthleteList::getAthleteList)
+                .orElse(List.of());
+        List<Organization> organizations = new JsonOrganizationListStorage(organizationsFilePath)
+                .readOrganizationList()
+                .<List<Organization>>map(ReadOnlyOrganizationList::getOrganizationList)
+                .orElse(List.of());
+        return readContractList(filePath,
+                CompletableFuture.completedFuture(new ContractPartyIndex(athletes, organizations)));
+    }
 
-        if (!json.isPresent()) {
+    /**
+     * Similar to {@link #readContractList()}, but checks the contracts against the athletes and organizations
+     * in {@code parties} instead of reading their files again.
+     * {@code parties} may still be being read on another thread, so the contracts can be read at the same time.
+     *
+     * @throws DataLoadingException if loading the data from storage failed, or {@code parties} could not be read.
+     */
+    Optional<ReadOnlyContractList> readContractList(CompletableFuture<ContractPartyIndex> parties)
+            throws DataLoadingException {
+        requireNonNull(parties);
+        if (!isContractListStored(filePath)) {
             return Optional.empty();
         }
+        return readContractList(filePath, parties);
+    }
+
+    private static boolean isContractListStored(Path filePath) {
+        return FileUtil.isFileExists(filePath) || FileUtil.isFileExists(FileUtil.getBackupPath(filePath));
+    }
 
+    private Optional<ReadOnlyContractList> readContractList(Path filePath,
+            CompletableFuture<ContractPartyIndex> parties) throws DataLoadingException {
+        AtomicBoolean hasEmbeddedParties = new AtomicBoolean();
+        Optional<ReadOnlyContractList> contracts = BackupFallbackReader.read(filePath, path ->
+                readContractListFile(path, parties, () -> hasEmbeddedParties.set(true)));
+        if (contracts.isPresent() && hasEmbeddedParties.get()) {
+            migrateToNormalizedFormat(contracts.get(), filePath);
+        }
+        return contracts;
+    }
 
+    private Optional<ReadOnlyContractList> readContractListFile(Path filePath,
+            CompletableFuture<ContractPartyIndex> parties, Runnable onEmbeddedParties) throws DataLoadingException {
         try {
-            ReadOnlyContractList contractsRo = json.get().toModelType();
-
-            ReadOnlyAthleteList athletesRo = jsonAthletes
-                    .map(j -> {
-                        try {
-                            return j.toModelType();
-                        } catch (IllegalValueException e) {
-                            throw new RuntimeException(e);
-                        }
-                    })
-                    .orElseGet(() -> new AthleteList());
-
-            ReadOnlyOrganizationList orgsRo = jsonOrganizations
-                    .map(j -> {
-                        try {
-                            return j.toModelType();
-                        } catch (IllegalValueException e) {
-                            throw new RuntimeException(e);
-                        }
-                    })
-                    .orElseGet(() -> new OrganizationList());
-
-            List<Athlete> athletes = new ArrayList<>(athletesRo.getAthleteList());
-            List<Organization> orgs = new ArrayList<>(orgsRo.getOrganizationList());
-
-            // Check every contract: throw if its athlete/org not found
-            for (Contract c : contractsRo.getContractList()) {
-                boolean athleteExists = athletes.stream().anyMatch(a ->
-                    a.getName().equals(c.getAthlete().getName())
-                    && a.getSport().equals(c.getAthlete().getSport())
-                    && a.getPhone().equals(c.getAthlete().getPhone())
-                    && a.getEmail().equals(c.getAthlete().getEmail())
-                    && a.getAge().equals(c.getAthlete().getAge())
-                );
-
-                boolean orgExists = orgs.stream().anyMatch(o ->
-                    o.getName().equals(c.getOrganization().getName())
-                    && o.getPhone().equals(c.getOrganization().getPhone())
-                    && o.getEmail().equals(c.getOrganization().getEmail())
-                );
-
-                if (!athleteExists) {
-                    String msg = "Athlete does not exist for contract: " + c.toString();
-                    logger.info(String.format("Data validation failed — %s (file: %s)", msg, filePath));
-                    throw new DataLoadingException(new IllegalValueException(msg));
-                }
-
-                if (!orgExists) {
-                    String msg = "Organization does not exist for contract: " + c.toString();
-                    logger.info(String.format("Data validation failed — %s (file: %s)", msg, filePath));
-                    throw new DataLoadingException(new IllegalValueException(msg));
-                }
-            }
-
-            return Optional.of(contractsRo);
+            // Each contract is checked against the stored athletes and organizations by key as it is read
+            return JsonSerializableContractList.readModelType(filePath, parties, onEmbeddedParties);
         } catch (IllegalValueException ive) {
             logger.info(String.format("Illegal values found in %s: %s", filePath, ive.getMessage()));
             throw new DataLoadingException(ive);
         }
     }
 
+    /**
+     * Rewrites a contract list file that embeds athletes and organizations in the normalized format.
+     * The contracts have already been read, so a failure here is only logged.
+     */
+    private void migrateToNormalizedFormat(ReadOnlyContractList contracts, Path filePath) {
+        try {
+            saveContractList(contracts, filePath);
+            logger.info("Migrated " + filePath + " to the normalized contract format");
+        } catch (IOException ioe) {
+            logger.warning("Could not migrate " + filePath + " to the normalized contract format: "
+                    + StringUtil.getDetails(ioe));
+        }
+    }
+
     /**
      * Saves the given contract list data to the default JSON file path.
      *
@@ -166,7 +160,7 @@ public class JsonContractListStorage implements ContractListStorage {
 
     /**
      * Saves the given contract list data to the specified JSON file path.
-     * Creates the file if it does not exist.
+     * Creates the file if it does not exist, and keeps the file it replaces as a backup.
      *
      * @param contracts The contract list data to save. Cannot be null.
      * @param filePath  The location of the data file. Cannot be null.
@@ -176,7 +170,6 @@ public class JsonContractListStorage implements ContractListStorage {
     public void saveContractList(ReadOnlyContractList contracts, Path filePath) throws IOException {
         requireNonNull(contracts);
         requireNonNull(filePath);
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableContractList(contracts), filePath);
+        JsonSerializableContractList.saveModelType(contracts, filePath);
     }
 }
@@ -10,8 +10,6 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.organization.ReadOnlyOrganizationList;
 
 /**
@@ -63,15 +61,12 @@ public class JsonOrganizationListStorage implements OrganizationListStorage {
     @Override
     public Optional<ReadOnlyOrganizationList> readOrganizationList(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
+        return BackupFallbackReader.read(filePath, this::readOrganizationListFile);
+    }
 
-        Optional<JsonSerializableOrganizationList> json = JsonUtil.readJsonFile(
-                filePath, JsonSerializableOrganizationList.class);
-        if (!json.isPresent()) {
-            return Optional.empty();
-        }
-
+    private Optional<ReadOnlyOrganizationList> readOrganizationListFile(Path filePath) throws DataLoadingException {
         try {
-            return Optional.of(json.get().toModelType());
+            return JsonSerializableOrganizationList.readModelType(filePath);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -91,7 +86,7 @@ public class JsonOrganizationListStorage implements OrganizationListStorage {
 
     /**
      * Saves the given organization list data to the specified JSON file path.
-     * Creates the file if it does not exist.
+     * Creates the file if it does not exist, and keeps the file it replaces as a backup.
      *
      * @param organizations The organization list data to save. Cannot be null.
      * @param filePath      The location of the data file. Cannot be null.
@@ -101,7 +96,6 @@ public class JsonOrganizationListStorage implements OrganizationListStorage {
     public void saveOrganizationList(ReadOnlyOrganizationList organizations, Path filePath) throws IOException {
         requireNonNull(organizations);
         requireNonNull(filePath);
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableOrganizationList(organizations), filePath);
+        JsonSerializableOrganizationList.saveModelType(organizations, filePath);
     }
 }
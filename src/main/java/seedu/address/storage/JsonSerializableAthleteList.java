@@ -1,14 +1,19 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.athlete.Athlete;
 import seedu.address.model.athlete.AthleteList;
 import seedu.address.model.athlete.ReadOnlyAthleteList;
@@ -21,13 +26,15 @@ class JsonSerializableAthleteList {
 
     public static final String MESSAGE_DUPLICATE_ATHLETE = "Athletes list contains duplicate athlete(s).";
 
+    private static final String ATHLETES_FIELD = "athletes";
+
     private final List<JsonAdaptedAthlete> athletes = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonSerializableAthleteList} with the given athletes.
      */
     @JsonCreator
-    public JsonSerializableAthleteList(@JsonProperty("athletes") List<JsonAdaptedAthlete> athletes) {
+    public JsonSerializableAthleteList(@JsonProperty(ATHLETES_FIELD) List<JsonAdaptedAthlete> athletes) {
         this.athletes.addAll(athletes);
     }
 
@@ -48,12 +55,41 @@ class JsonSerializableAthleteList {
     public AthleteList toModelType() throws IllegalValueException {
         AthleteList list = new AthleteList();
         for (JsonAdaptedAthlete jsonAthlete : athletes) {
-            Athlete athlete = jsonAthlete.toModelType();
-            if (list.hasAthlete(athlete)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ATHLETE);
-            }
-            list.addAthlete(athlete);
+            addAthlete(list, jsonAthlete.toModelType());
         }
         return list;
     }
+
+    /**
+     * Reads the athlete list in the JSON file at {@code filePath} into the model's {@code AthleteList}.
+     * Each athlete is converted as soon as it is read, so the adapted athletes are never all held in memory.
+     * Returns {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataLoadingException if the file could not be read as an athlete list.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static Optional<ReadOnlyAthleteList> readModelType(Path filePath)
+            throws DataLoadingException, IllegalValueException {
+        AthleteList list = new AthleteList();
+        boolean isFound = JsonUtil.readJsonArrayElements(filePath, ATHLETES_FIELD, JsonAdaptedAthlete.class,
+                jsonAthlete -> addAthlete(list, jsonAthlete.toModelType()));
+        return isFound ? Optional.of(list) : Optional.empty();
+    }
+
+    /**
+     * Saves the given athlete list to the JSON file at {@code filePath} in the same format as this class,
+     * writing each athlete straight from the model instead of converting the list into this class first.
+     *
+     * @throws IOException if there was an error during writing to the file.
+     */
+    public static void saveModelType(ReadOnlyAthleteList source, Path filePath) throws IOException {
+        JsonUtil.saveJsonArray(filePath, ATHLETES_FIELD, source.getAthleteList(), JsonAdaptedAthlete::write);
+    }
+
+    private static void addAthlete(AthleteList list, Athlete athlete) throws IllegalValueException {
+        if (list.hasAthlete(athlete)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ATHLETE);
+        }
+        list.addAthlete(athlete);
+    }
 }
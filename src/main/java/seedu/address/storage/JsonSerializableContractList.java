@@ -1,25 +1,35 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.contract.Contract;
 import seedu.address.model.contract.ContractList;
 import seedu.address.model.contract.ReadOnlyContractList;
 
 /**
  * An Immutable ContractList that is serializable to JSON format.
+ * Contracts are written in the normalized format, which refers to athletes and organizations by key.
  */
 @JsonRootName(value = "contractlist")
 class JsonSerializableContractList {
 
-    public static final String MESSAGE_DUPLICATE_CONTRACT = "Contracts list contains duplicate contract(s).";
+    public static final String MESSAGE_DUPLICATE_CONTRACT = "Contracts list contains duplicate contract(s): "
+            + "more than one contract of %1$s (%2$s) with %3$s in %4$s, from %5$s to %6$s for %7$s.";
+
+    private static final String CONTRACTS_FIELD = "contracts";
 
     private final List<JsonAdaptedContract> contracts = new ArrayList<>();
 
@@ -28,7 +38,7 @@ class JsonSerializableContractList {
      */
     @JsonCreator
     public JsonSerializableContractList(
-            @JsonProperty("contracts") List<JsonAdaptedContract> contracts) {
+            @JsonProperty(CONTRACTS_FIELD) List<JsonAdaptedContract> contracts) {
         this.contracts.addAll(contracts);
     }
 
@@ -38,23 +48,155 @@ class JsonSerializableContractList {
      */
     public JsonSerializableContractList(ReadOnlyContractList source) {
         contracts.addAll(source.getContractList().stream()
-                .map(JsonAdaptedContract::new)
+                .map(JsonAdaptedContract::normalized)
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Returns true if any contract embeds its athlete or organization, as in files written before
+     * the normalized format was introduced.
+     */
+    public boolean hasEmbeddedParties() {
+        return contracts.stream().anyMatch(JsonAdaptedContract::hasEmbeddedParties);
+    }
+
     /**
      * Converts this list into the model's {@code ContractList} object.
+     * Every contract must embed its athlete and organization.
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public ContractList toModelType() throws IllegalValueException {
         ContractList list = new ContractList();
         for (JsonAdaptedContract jsonContract : contracts) {
-            Contract contract = jsonContract.toModelType();
-            if (list.hasContract(contract)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_CONTRACT);
-            }
-            list.addContract(contract);
+            addContract(list, jsonContract.toModelType());
+        }
+        return list;
+    }
+
+    /**
+     * Converts this list into the model's {@code ContractList} object,
+     * using the athletes and organizations in {@code parties} that the contracts refer to.
+     * @throws IllegalValueException if there were any data constraints violated,
+     *     or a contract refers to an athlete or organization that is not in {@code parties}.
+     */
+    public ContractList toModelType(ContractPartyIndex parties) throws IllegalValueException {
+        ContractList list = new ContractList();
+        for (JsonAdaptedContract jsonContract : contracts) {
+            addContract(list, jsonContract.toModelType(parties));
         }
         return list;
     }
+
+    /**
+     * Reads the contract list in the JSON file at {@code filePath} into the model's {@code ContractList},
+     * using the athletes and organizations in {@code parties} that the contracts refer to.
+     * Each contract is converted as soon as it is read, so the adapted contracts are never all held in memory.
+     * {@code onEmbeddedParties} is run for every contract that embeds its athlete or organization.
+     * Returns {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataLoadingException if the file could not be read as a contract list.
+     * @throws IllegalValueException if there were any data constraints violated,
+     *     or a contract refers to an athlete or organization that is not in {@code parties}.
+     */
+    public static Optional<ReadOnlyContractList> readModelType(Path filePath, ContractPartyIndex parties,
+            Runnable onEmbeddedParties) throws DataLoadingException, IllegalValueException {
+        return readModelType(filePath, CompletableFuture.completedFuture(parties), onEmbeddedParties);
+    }
+
+    /**
+     * Similar to {@link #readModelType(Path, ContractPartyIndex, Runnable)}, but {@code parties} may still be
+     * being read on another thread. Contracts read before it completes are held, and converted once it does.
+     *
+     * @throws DataLoadingException if the file could not be read as a contract list, or {@code parties}
+     *     could not be read.
+     */
+    public static Optional<ReadOnlyContractList> readModelType(Path filePath,
+            CompletableFuture<ContractPartyIndex> parties, Runnable onEmbeddedParties)
+            throws DataLoadingException, IllegalValueException {
+        ContractConverter converter = new ContractConverter(parties);
+        boolean isFound = JsonUtil.readJsonArrayElements(filePath, CONTRACTS_FIELD, JsonAdaptedContract.class,
+                jsonContract -> {
+                    if (jsonContract.hasEmbeddedParties()) {
+                        onEmbeddedParties.run();
+                    }
+                    converter.add(jsonContract);
+                });
+        return isFound ? Optional.of(converter.finish()) : Optional.empty();
+    }
+
+    /**
+     * Saves the given contract list to the JSON file at {@code filePath} in the same format as this class,
+     * writing each contract straight from the model instead of converting the list into this class first.
+     *
+     * @throws IOException if there was an error during writing to the file.
+     */
+    public static void saveModelType(ReadOnlyContractList source, Path filePath) throws IOException {
+        JsonUtil.saveJsonArray(filePath, CONTRACTS_FIELD, source.getContractList(),
+                JsonAdaptedContract::writeNormalized);
+    }
+
+    private static void addContract(ContractList list, Contract contract) throws IllegalValueException {
+        if (list.hasContract(contract)) {
+            throw new IllegalValueException(getDuplicateMessage(contract));
+        }
+        list.addContract(contract);
+    }
+
+    /**
+     * Returns the message for a duplicate of {@code contract}, naming the identity fields the contracts share.
+     */
+    static String getDuplicateMessage(Contract contract) {
+        return String.format(MESSAGE_DUPLICATE_CONTRACT, contract.getAthlete().getName(),
+                contract.getAthlete().getSport(), contract.getOrganization().getName(), contract.getSport(),
+                contract.getStartDate(), contract.getEndDate(), contract.getAmount());
+    }
+
+    /**
+     * Converts adapted contracts into a {@code ContractList} in the order they are added,
+     * holding those added before the athletes and organizations they refer to have been read.
+     */
+    private static class ContractConverter {
+        private final CompletableFuture<ContractPartyIndex> pendingParties;
+        private final ContractList list = new ContractList();
+        private final List<JsonAdaptedContract> waiting = new ArrayList<>();
+        private ContractPartyIndex parties;
+
+        ContractConverter(CompletableFuture<ContractPartyIndex> pendingParties) {
+            this.pendingParties = pendingParties;
+        }
+
+        void add(JsonAdaptedContract jsonContract) throws IllegalValueException {
+            if (parties == null) {
+                // A failed read is left to finish(), which can report it
+                if (!pendingParties.isDone() || pendingParties.isCompletedExceptionally()) {
+                    waiting.add(jsonContract);
+                    return;
+                }
+                convertWaiting(pendingParties.join());
+            }
+            addContract(list, jsonContract.toModelType(parties));
+        }
+
+        ContractList finish() throws DataLoadingException, IllegalValueException {
+            if (parties == null) {
+                ContractPartyIndex readParties;
+                try {
+                    readParties = ConcurrentReads.await(pendingParties);
+                } catch (DataLoadingException e) {
+                    // Wrapped, as the same failure is seen again if the backup file is read next
+                    throw new DataLoadingException(e);
+                }
+                convertWaiting(readParties);
+            }
+            return list;
+        }
+
+        private void convertWaiting(ContractPartyIndex parties) throws IllegalValueException {
+            this.parties = parties;
+            for (JsonAdaptedContract jsonContract : waiting) {
+                addContract(list, jsonContract.toModelType(parties));
+            }
+            waiting.clear();
+        }
+    }
 }
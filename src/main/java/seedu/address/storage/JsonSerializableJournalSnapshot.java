@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.athlete.Athlete;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.organization.Organization;
+
+/**
+ * A snapshot of all athletes, organizations and contracts that is serializable to JSON format.
+ * Used by {@link JournalStorageManager} as the base that its journal is replayed onto.
+ */
+@JsonRootName(value = "snapshot")
+class JsonSerializableJournalSnapshot {
+
+    private final List<JsonAdaptedAthlete> athletes = new ArrayList<>();
+    private final List<JsonAdaptedOrganization> organizations = new ArrayList<>();
+    private final List<JsonAdaptedContract> contracts = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableJournalSnapshot} with the given records.
+     */
+    @JsonCreator
+    public JsonSerializableJournalSnapshot(@JsonProperty("athletes") List<JsonAdaptedAthlete> athletes,
+                                           @JsonProperty("organizations") List<JsonAdaptedOrganization> organizations,
+                                           @JsonProperty("contracts") List<JsonAdaptedContract> contracts) {
+        this.athletes.addAll(athletes);
+        this.organizations.addAll(organizations);
+        this.contracts.addAll(contracts);
+    }
+
+    /**
+     * Converts the given model objects into this class for Jackson use.
+     */
+    public JsonSerializableJournalSnapshot(Collection<Athlete> athletes, Collection<Organization> organizations,
+                                           Collection<Contract> contracts) {
+        this.athletes.addAll(athletes.stream().map(JsonAdaptedAthlete::new).collect(Collectors.toList()));
+        this.organizations.addAll(organizations.stream().map(JsonAdaptedOrganization::new)
+                .collect(Collectors.toList()));
+        this.contracts.addAll(contracts.stream().map(JsonAdaptedContract::normalized).collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts the athletes in this snapshot into the model's {@code Athlete} objects.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public List<Athlete> toModelAthletes() throws IllegalValueException {
+        List<Athlete> modelAthletes = new ArrayList<>();
+        for (JsonAdaptedAthlete athlete : athletes) {
+            modelAthletes.add(athlete.toModelType());
+        }
+        return modelAthletes;
+    }
+
+    /**
+     * Converts the organizations in this snapshot into the model's {@code Organization} objects.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public List<Organization> toModelOrganizations() throws IllegalValueException {
+        List<Organization> modelOrganizations = new ArrayList<>();
+        for (JsonAdaptedOrganization organization : organizations) {
+            modelOrganizations.add(organization.toModelType());
+        }
+        return modelOrganizations;
+    }
+
+    /**
+     * Converts the contracts in this snapshot into the model's {@code Contract} objects,
+     * using the athletes and organizations in {@code parties} that they refer to.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public List<Contract> toModelContracts(ContractPartyIndex parties) throws IllegalValueException {
+        List<Contract> modelContracts = new ArrayList<>();
+        for (JsonAdaptedContract contract : contracts) {
+            modelContracts.add(contract.toModelType(parties));
+        }
+        return modelContracts;
+    }
+}
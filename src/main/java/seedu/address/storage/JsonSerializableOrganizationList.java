@@ -1,14 +1,19 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.organization.Organization;
 import seedu.address.model.organization.OrganizationList;
 import seedu.address.model.organization.ReadOnlyOrganizationList;
@@ -22,6 +27,8 @@ class JsonSerializableOrganizationList {
     public static final String MESSAGE_DUPLICATE_ORGANIZATION =
         "Organizations list contains duplicate organization(s).";
 
+    private static final String ORGANIZATIONS_FIELD = "organizations";
+
     private final List<JsonAdaptedOrganization> organizations = new ArrayList<>();
 
     /**
@@ -29,7 +36,7 @@ class JsonSerializableOrganizationList {
      */
     @JsonCreator
     public JsonSerializableOrganizationList(
-            @JsonProperty("organizations") List<JsonAdaptedOrganization> organizations) {
+            @JsonProperty(ORGANIZATIONS_FIELD) List<JsonAdaptedOrganization> organizations) {
         this.organizations.addAll(organizations);
     }
 
@@ -50,12 +57,43 @@ class JsonSerializableOrganizationList {
     public OrganizationList toModelType() throws IllegalValueException {
         OrganizationList list = new OrganizationList();
         for (JsonAdaptedOrganization jsonOrganization : organizations) {
-            Organization organization = jsonOrganization.toModelType();
-            if (list.hasOrganization(organization)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ORGANIZATION);
-            }
-            list.addOrganization(organization);
+            addOrganization(list, jsonOrganization.toModelType());
         }
         return list;
     }
+
+    /**
+     * Reads the organization list in the JSON file at {@code filePath} into the model's {@code OrganizationList}.
+     * Each organization is converted as soon as it is read, so the adapted organizations are never all held
+     * in memory. Returns {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataLoadingException if the file could not be read as an organization list.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static Optional<ReadOnlyOrganizationList> readModelType(Path filePath)
+            throws DataLoadingException, IllegalValueException {
+        OrganizationList list = new OrganizationList();
+        boolean isFound = JsonUtil.readJsonArrayElements(filePath, ORGANIZATIONS_FIELD, JsonAdaptedOrganization.class,
+                jsonOrganization -> addOrganization(list, jsonOrganization.toModelType()));
+        return isFound ? Optional.of(list) : Optional.empty();
+    }
+
+    /**
+     * Saves the given organization list to the JSON file at {@code filePath} in the same format as this class,
+     * writing each organization straight from the model instead of converting the list into this class first.
+     *
+     * @throws IOException if there was an error during writing to the file.
+     */
+    public static void saveModelType(ReadOnlyOrganizationList source, Path filePath) throws IOException {
+        JsonUtil.saveJsonArray(filePath, ORGANIZATIONS_FIELD, source.getOrganizationList(),
+                JsonAdaptedOrganization::write);
+    }
+
+    private static void addOrganization(OrganizationList list, Organization organization)
+            throws IllegalValueException {
+        if (list.hasOrganization(organization)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ORGANIZATION);
+        }
+        list.addOrganization(organization);
+    }
 }
@@ -59,4 +59,13 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, AthleteLi
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Reads the athlete, organization and contract lists, reading each data file only once.
+     * The contracts refer to the same athlete and organization instances as the lists returned with them.
+     *
+     * @return The lists read, each empty if its data is not found.
+     * @throws DataLoadingException if any of the lists could not be read.
+     */
+    StoredData readDataFiles() throws DataLoadingException;
+
 }
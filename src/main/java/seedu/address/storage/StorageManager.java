@@ -2,7 +2,11 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -10,8 +14,10 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.athlete.Athlete;
 import seedu.address.model.athlete.ReadOnlyAthleteList;
 import seedu.address.model.contract.ReadOnlyContractList;
+import seedu.address.model.organization.Organization;
 import seedu.address.model.organization.ReadOnlyOrganizationList;
 
 /**
@@ -20,6 +26,9 @@ import seedu.address.model.organization.ReadOnlyOrganizationList;
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
+    // The athlete and organization files are read on these threads while the contract file is read on the caller's
+    private static final int DATA_FILE_READER_COUNT = 2;
+
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
     private AthleteListStorage athleteListStorage;
@@ -177,4 +186,62 @@ public class StorageManager implements Storage {
         organizationListStorage.saveOrganizationList(organizations, filePath);
     }
 
+    // ================ All data files ==============================
+
+    /**
+     * Reads the three data files at the same time, so that the time taken approaches that of the largest file.
+     * The contracts are checked against the athletes and organizations as soon as those have been read,
+     * instead of the contract storage reading their files again.
+     */
+    @Override
+    public StoredData readDataFiles() throws DataLoadingException {
+        ExecutorService executor = Executors.newFixedThreadPool(DATA_FILE_READER_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "data-file-reader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            CompletableFuture<Optional<ReadOnlyAthleteList>> athletes =
+                    ConcurrentReads.start(this::readAthleteList, executor);
+            CompletableFuture<Optional<ReadOnlyOrganizationList>> organizations =
+                    ConcurrentReads.start(this::readOrganizationList, executor);
+            CompletableFuture<ContractPartyIndex> parties = athletes.thenCombine(organizations,
+                    (athleteList, organizationList) -> new ContractPartyIndex(
+                            athleteList.<List<Athlete>>map(ReadOnlyAthleteList::getAthleteList).orElse(List.of()),
+                            organizationList.<List<Organization>>map(ReadOnlyOrganizationList::getOrganizationList)
+                                    .orElse(List.of())));
+
+            Optional<ReadOnlyContractList> contracts;
+            try {
+                contracts = readContractList(parties);
+            } catch (DataLoadingException e) {
+                // A failure to read the athletes or organizations is reported over the contract failure it causes
+                ConcurrentReads.await(athletes);
+                ConcurrentReads.await(organizations);
+                throw e;
+            }
+            return new StoredData(ConcurrentReads.await(athletes), ConcurrentReads.await(organizations), contracts);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Reads the contract list and points its contracts at the athletes and organizations in {@code parties}.
+     * A JSON contract file is checked against {@code parties} while they are still being read. Any other contract
+     * storage checks the contracts itself, and they are pointed at {@code parties} once both have been read.
+     */
+    private Optional<ReadOnlyContractList> readContractList(CompletableFuture<ContractPartyIndex> parties)
+            throws DataLoadingException {
+        logger.fine("Attempting to read data from file: " + contractListStorage.getContractListFilePath());
+        if (contractListStorage instanceof JsonContractListStorage) {
+            return ((JsonContractListStorage) contractListStorage).readContractList(parties);
+        }
+
+        Optional<ReadOnlyContractList> contracts = contractListStorage.readContractList();
+        if (contracts.isEmpty()) {
+            return contracts;
+        }
+        return Optional.of(ConcurrentReads.await(parties).intern(contracts.get()));
+    }
 }
@@ -0,0 +1,43 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Optional;
+
+import seedu.address.model.athlete.ReadOnlyAthleteList;
+import seedu.address.model.contract.ReadOnlyContractList;
+import seedu.address.model.organization.ReadOnlyOrganizationList;
+
+/**
+ * The athlete, organization and contract lists read from storage together.
+ * Each list is empty if its data file was not found.
+ */
+public class StoredData {
+
+    private final Optional<ReadOnlyAthleteList> athleteList;
+    private final Optional<ReadOnlyOrganizationList> organizationList;
+    private final Optional<ReadOnlyContractList> contractList;
+
+    /**
+     * Constructs a {@code StoredData} with the given lists.
+     */
+    public StoredData(Optional<ReadOnlyAthleteList> athleteList, Optional<ReadOnlyOrganizationList> organizationList,
+            Optional<ReadOnlyContractList> contractList) {
+        requireAllNonNull(athleteList, organizationList, contractList);
+        this.athleteList = athleteList;
+        this.organizationList = organizationList;
+        this.contractList = contractList;
+    }
+
+    public Optional<ReadOnlyAthleteList> getAthleteList() {
+        return athleteList;
+    }
+
+    public Optional<ReadOnlyOrganizationList> getOrganizationList() {
+        return organizationList;
+    }
+
+    public Optional<ReadOnlyContractList> getContractList() {
+        return contractList;
+    }
+}
@@ -1,9 +1,9 @@
 package seedu.address.ui;
 
 import java.text.NumberFormat;
+import java.util.List;
 import java.util.Locale;
 
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
 import javafx.scene.control.Label;
@@ -11,7 +11,7 @@ import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.athlete.Athlete;
-import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractAggregateIndex;
 import seedu.address.model.organization.Organization;
 
 /** An UI component that displays information of a {@code Athlete}. */
@@ -33,7 +33,7 @@ public class AthleteCard extends UiPart<Region> {
     @FXML private FlowPane badgeRow;
 
     /** Creates a {@code AthleteCard} with the given {@code Athlete} and index to display. */
-    public AthleteCard(Athlete athlete, int displayedIndex, ObservableList<Contract> allContracts) {
+    public AthleteCard(Athlete athlete, int displayedIndex, ContractAggregateIndex contractAggregates) {
         super(FXML);
         this.athlete = athlete;
 
@@ -45,14 +45,14 @@ public class AthleteCard extends UiPart<Region> {
         email.setText(athlete.getEmail().value);
 
         // --- Total Contract Value tag ---
-        long totalAmount = athlete.getTotalContractAmount(allContracts);
+        long totalAmount = contractAggregates.getTotalContractAmount(athlete);
         String formattedAmount = NumberFormat.getNumberInstance(Locale.US).format(totalAmount);
 
         badgeRow.getChildren().clear();
         badgeRow.getChildren().add(makeTag("$" + formattedAmount, "tag", "tag-contract"));
 
         // --- Organization tags ---
-        ObservableList<Organization> orgs = athlete.getOrganizations(allContracts);
+        List<Organization> orgs = contractAggregates.getOrganizations(athlete);
         if (orgs.isEmpty()) {
             badgeRow.getChildren().add(makeTag("No Org", "tag", "tag-muted"));
         } else {
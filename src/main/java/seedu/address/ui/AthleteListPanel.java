@@ -10,7 +10,7 @@ import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.athlete.Athlete;
-import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractAggregateIndex;
 
 /**
  * Panel containing the list of athletes.
@@ -21,30 +21,27 @@ public class AthleteListPanel extends UiPart<Region> {
 
     @FXML
     private ListView<Athlete> athleteListView;
-    private final ObservableList<Contract> allContracts;
-    private final ObservableList<Contract> allNonFilteredContracts;
+    private final ContractAggregateIndex contractAggregates;
 
     /**
      * Creates a {@code AthleteListPanel} with the given {@code ObservableList}.
      */
-    public AthleteListPanel(ObservableList<Athlete> athleteList,
-        ObservableList<Contract> contractList, ObservableList<Contract> nonFilteredContractList) {
+    public AthleteListPanel(ObservableList<Athlete> athleteList, ContractAggregateIndex contractAggregates) {
         super(FXML);
-        this.allContracts = contractList;
-        this.allNonFilteredContracts = nonFilteredContractList;
+        this.contractAggregates = contractAggregates;
         athleteListView.setItems(athleteList);
-        athleteListView.setCellFactory(listView -> new AthleteListViewCell(allContracts));
+        athleteListView.setCellFactory(listView -> new AthleteListViewCell());
+        // The cards show totals over the contracts, which change without the list itself changing
+        contractAggregates.revisionProperty().addListener((observable, oldRevision, newRevision) ->
+                athleteListView.refresh());
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Athlete} using a {@code AthleteCard}.
      */
     class AthleteListViewCell extends ListCell<Athlete> {
-        private final ObservableList<Contract> allContracts;
-
-        AthleteListViewCell(ObservableList<Contract> allContracts) {
-            this.allContracts = allContracts;
 
+        AthleteListViewCell() {
             // Toggle select/deselect on click
             addEventFilter(MouseEvent.MOUSE_PRESSED, e -> {
                 if (isEmpty()) {
@@ -74,7 +71,7 @@ public class AthleteListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new AthleteCard(athlete, getIndex() + 1, allNonFilteredContracts).getRoot());
+                setGraphic(new AthleteCard(athlete, getIndex() + 1, contractAggregates).getRoot());
             }
         }
     }
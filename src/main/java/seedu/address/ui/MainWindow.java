@@ -29,6 +29,12 @@ public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
 
+    private static final String MESSAGE_DATA_LOADING =
+            "Loading your data in the background. Commands that change data will be available once it has loaded.";
+    private static final String MESSAGE_DATA_LOADED = "Loaded %d athletes, %d organizations and %d contracts.";
+    private static final String MESSAGE_DATA_LOAD_FAILED = "Your data could not be loaded. Commands that change "
+            + "data are disabled so that your data files are not overwritten. See the log file for details.";
+
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
@@ -173,11 +179,11 @@ public class MainWindow extends UiPart<Stage> {
      */
     void fillInnerParts() {
         athleteListPanel = new AthleteListPanel(logic.getFilteredAthleteList(),
-        logic.getFilteredContractList(), logic.getAllContractList());
+                logic.getContractAggregateIndex());
         athleteListPanelPlaceholder.getChildren().add(athleteListPanel.getRoot());
 
         organizationListPanel = new OrganizationListPanel(logic.getFilteredOrganizationList(),
-                logic.getFilteredContractList(), logic.getAllContractList());
+                logic.getContractAggregateIndex());
         organizationListPanelPlaceholder.getChildren().add(organizationListPanel.getRoot());
 
         contractListPanel = new ContractListPanel(logic.getFilteredContractList());
@@ -186,9 +192,23 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath(),
+                logic.dataLoadingProperty());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
+        if (logic.dataLoadingProperty().get()) {
+            resultDisplay.setFeedbackToUser(MESSAGE_DATA_LOADING);
+        }
+        logic.dataLoadingProperty().addListener((observable, wasLoading, isLoading) -> {
+            if (wasLoading && !isLoading && logic.dataLoadFailedProperty().get()) {
+                resultDisplay.setFeedbackToUser(MESSAGE_DATA_LOAD_FAILED);
+            } else if (wasLoading && !isLoading) {
+                resultDisplay.setFeedbackToUser(String.format(MESSAGE_DATA_LOADED,
+                        logic.getAllAthleteList().size(), logic.getAllOrganizationList().size(),
+                        logic.getAllContractList().size()));
+            }
+        });
+
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
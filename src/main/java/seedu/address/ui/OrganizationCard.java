@@ -1,9 +1,9 @@
 package seedu.address.ui;
 
 import java.text.NumberFormat;
+import java.util.List;
 import java.util.Locale;
 
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
 import javafx.scene.control.Label;
@@ -11,7 +11,7 @@ import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.athlete.Athlete;
-import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractAggregateIndex;
 import seedu.address.model.organization.Organization;
 
 /** An UI component that displays information of a {@code Organization}. */
@@ -31,7 +31,8 @@ public class OrganizationCard extends UiPart<Region> {
     @FXML private FlowPane tagRow;
 
     /** Creates a {@code OrganizationCard} with the given {@code Organization} and index to display. */
-    public OrganizationCard(Organization organization, int displayedIndex, ObservableList<Contract> allContracts) {
+    public OrganizationCard(Organization organization, int displayedIndex,
+            ContractAggregateIndex contractAggregates) {
         super(FXML);
         this.organization = organization;
 
@@ -44,12 +45,12 @@ public class OrganizationCard extends UiPart<Region> {
         tagRow.getChildren().clear();
 
         // Total Contract Tag
-        long totalAmount = organization.getTotalContractAmount(allContracts);
+        long totalAmount = contractAggregates.getTotalContractAmount(organization);
         String formattedAmount = NumberFormat.getNumberInstance(Locale.US).format(totalAmount);
         tagRow.getChildren().add(makeTag("$" + formattedAmount, "tag", "tag-contract"));
 
         // Athlete Tags
-        ObservableList<Athlete> athletes = organization.getAthletes(allContracts);
+        List<Athlete> athletes = contractAggregates.getAthletes(organization);
         if (athletes.isEmpty()) {
             tagRow.getChildren().add(makeTag("No Athletes", "tag", "tag-muted"));
         } else {
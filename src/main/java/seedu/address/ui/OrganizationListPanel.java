@@ -9,7 +9,7 @@ import javafx.scene.control.ListView;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractAggregateIndex;
 import seedu.address.model.organization.Organization;
 
 /**
@@ -22,19 +22,20 @@ public class OrganizationListPanel extends UiPart<Region> {
     @FXML
     private ListView<Organization> organizationListView;
 
-    private final ObservableList<Contract> allContracts;
-    private final ObservableList<Contract> allNonFilteredContracts;
+    private final ContractAggregateIndex contractAggregates;
 
     /**
      * Creates a {@code OrganizationListPanel} with the given {@code ObservableList}.
      */
     public OrganizationListPanel(ObservableList<Organization> organizationList,
-        ObservableList<Contract> allContracts, ObservableList<Contract> allNonFilteredContracts) {
+        ContractAggregateIndex contractAggregates) {
         super(FXML);
-        this.allContracts = allContracts;
-        this.allNonFilteredContracts = allNonFilteredContracts;
+        this.contractAggregates = contractAggregates;
         organizationListView.setItems(organizationList);
         organizationListView.setCellFactory(listView -> new OrganizationListViewCell());
+        // The cards show totals over the contracts, which change without the list itself changing
+        contractAggregates.revisionProperty().addListener((observable, oldRevision, newRevision) ->
+                organizationListView.refresh());
     }
 
     /**
@@ -71,7 +72,7 @@ public class OrganizationListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new OrganizationCard(organization, getIndex() + 1, allNonFilteredContracts).getRoot());
+                setGraphic(new OrganizationCard(organization, getIndex() + 1, contractAggregates).getRoot());
             }
         }
     }
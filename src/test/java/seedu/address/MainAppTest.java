@@ -37,6 +37,7 @@ import seedu.address.storage.JsonContractListStorage;
 import seedu.address.storage.JsonOrganizationListStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
+import seedu.address.storage.StoredData;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.ui.Ui;
 
@@ -57,6 +58,7 @@ class MainAppTest {
         Config expectedConfig = new Config();
         expectedConfig.setLogLevel(Level.WARNING);
         expectedConfig.setUserPrefsFilePath(tempDir.resolve("customPrefs.json"));
+        expectedConfig.setMetricsFilePath(tempDir.resolve("metrics.txt"));
         ConfigUtil.saveConfig(expectedConfig, configPath);
 
         Config actualConfig = mainApp.initConfig(configPath);
@@ -312,6 +314,11 @@ class MainAppTest {
             throw new DataLoadingException(new IOException("contract list error"));
         }
 
+        @Override
+        public StoredData readDataFiles() throws DataLoadingException {
+            throw new DataLoadingException(new IOException("athlete list error"));
+        }
+
         @Override
         public void saveContractList(ReadOnlyContractList contracts) {
             throw new UnsupportedOperationException();
@@ -12,7 +12,12 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", writeBehindDelayMillis=" + config.getWriteBehindDelayMillis()
+                + ", useJournalStorage=" + config.shouldUseJournalStorage()
+                + ", useFastStart=" + config.shouldUseFastStart()
+                + ", metricsFilePath=" + config.getMetricsFilePath()
+                + ", metricsDumpIntervalSeconds=" + config.getMetricsDumpIntervalSeconds() + "}";
         assertEquals(expected, config.toString());
     }
 
@@ -0,0 +1,36 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class StartupTimelineTest {
+
+    @Test
+    public void getPhaseSummaries_phasesEnded_inOrderOfEnding() {
+        StartupTimeline timeline = new StartupTimeline();
+        StartupTimeline.Phase readConfig = timeline.startPhase("read config");
+        StartupTimeline.Phase readData = timeline.startPhase("read data");
+        readData.end();
+        readConfig.end();
+
+        List<String> summaries = timeline.getPhaseSummaries();
+        assertEquals(2, summaries.size());
+        assertTrue(summaries.get(0).matches("read data \\d+ ms"));
+        assertTrue(summaries.get(1).matches("read config \\d+ ms"));
+    }
+
+    @Test
+    public void end_calledTwice_recordedOnce() {
+        StartupTimeline timeline = new StartupTimeline();
+        StartupTimeline.Phase phase = timeline.startPhase("show UI");
+        phase.end();
+        phase.end();
+        timeline.finish();
+
+        assertEquals(1, timeline.getPhaseSummaries().size());
+    }
+}
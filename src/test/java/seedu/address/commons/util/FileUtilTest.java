@@ -1,13 +1,24 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +31,60 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_newFileInMissingFolder_writesContent() throws Exception {
+        Path file = testFolder.resolve("folder").resolve("file.json");
+        FileUtil.writeAtomically(file, out -> out.write(bytes("content")));
+
+        assertEquals("content", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getBackupPath(file)));
+        assertEquals(1, countFiles(file.getParent()));
+    }
+
+    @Test
+    public void writeAtomically_writeFails_keepsExistingFile() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFile(file, "old content");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write(bytes("partial"));
+            throw new IOException("disk full");
+        }));
+        assertEquals("old content", FileUtil.readFromFile(file));
+        assertEquals(1, countFiles(testFolder));
+    }
+
+    @Test
+    public void writeAtomicallyWithBackup_existingFile_keepsItAsBackup() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeAtomicallyWithBackup(file, out -> out.write(bytes("first")));
+        assertFalse(Files.exists(FileUtil.getBackupPath(file)));
+
+        FileUtil.writeAtomicallyWithBackup(file, out -> out.write(bytes("second")));
+        FileUtil.writeAtomicallyWithBackup(file, out -> out.write(bytes("third")));
+        assertEquals("third", FileUtil.readFromFile(file));
+        assertEquals("second", FileUtil.readFromFile(FileUtil.getBackupPath(file)));
+    }
+
+    @Test
+    public void appendToFile_newFileInMissingFolder_appendsAndCountsBytes() throws Exception {
+        Path file = testFolder.resolve("folder").resolve("journal.txt");
+        long bytesWrittenBefore = FileUtil.getBytesWritten();
+
+        FileUtil.appendToFile(file, bytes("first\n"));
+        FileUtil.appendToFile(file, bytes("second\n"));
+
+        assertEquals("first\nsecond\n", FileUtil.readFromFile(file));
+        assertTrue(FileUtil.getBytesWritten() - bytesWrittenBefore >= 13);
+    }
+
+    private static long countFiles(Path folder) throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            return files.count();
+        }
+    }
+
+    private static byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
 }
@@ -1,12 +1,19 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.testutil.SerializableTestClass;
 import seedu.address.testutil.TestUtil;
 
@@ -39,6 +46,52 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void readJsonArrayElements_arrayField_readsEachElement() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
+
+        List<String> elements = new ArrayList<>();
+        assertTrue(JsonUtil.readJsonArrayElements(SERIALIZATION_FILE, "listOfLocalDateTimes", String.class,
+                elements::add));
+        assertEquals(List.of("-999999999-01-01T00:00:00", "+999999999-12-31T23:59:59.999999999",
+                "0001-01-01T01:01:00"), elements);
+    }
+
+    @Test
+    public void readJsonArrayElements_missingFieldOrFile_readsNothing() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
+        List<String> elements = new ArrayList<>();
+
+        assertTrue(JsonUtil.readJsonArrayElements(SERIALIZATION_FILE, "missing", String.class, elements::add));
+        assertFalse(JsonUtil.readJsonArrayElements(TestUtil.getFilePathInSandboxFolder("missing.json"), "missing",
+                String.class, elements::add));
+        assertTrue(elements.isEmpty());
+    }
+
+    @Test
+    public void readJsonArrayElements_invalidJson_throwsDataLoadingException() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "[ \"not an object\" ]");
+        assertThrows(DataLoadingException.class, () -> JsonUtil.readJsonArrayElements(SERIALIZATION_FILE,
+                "list", String.class, element -> { }));
+
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"list\" : [ \"first\", ");
+        assertThrows(DataLoadingException.class, () -> JsonUtil.readJsonArrayElements(SERIALIZATION_FILE,
+                "list", String.class, element -> { }));
+    }
+
+    @Test
+    public void readJsonArrayElements_elementRejected_throwsIllegalValueException() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"list\" : [ \"first\", \"second\" ] }");
+        List<String> elements = new ArrayList<>();
+
+        assertThrows(IllegalValueException.class, "rejected", () -> JsonUtil.readJsonArrayElements(
+                SERIALIZATION_FILE, "list", String.class, element -> {
+                    elements.add(element);
+                    throw new IllegalValueException("rejected");
+                }));
+        assertEquals(List.of("first"), elements);
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
@@ -1,10 +1,13 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -140,4 +143,32 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    //---------------- Tests for normaliseWhitespace --------------------------------------
+
+    @Test
+    public void normaliseWhitespace() {
+        assertThrows(NullPointerException.class, () -> StringUtil.normaliseWhitespace(null));
+        assertEquals("", StringUtil.normaliseWhitespace(" \t "));
+        assertEquals("a b c", StringUtil.normaliseWhitespace("  a \t b\n\nc  "));
+
+        // already normalised -> same instance
+        String normalised = "Lionel Messi";
+        assertSame(normalised, StringUtil.normaliseWhitespace(normalised));
+    }
+
+    @Test
+    public void normaliseWhitespace_matchesRegexReplacement() {
+        Random random = new Random(18);
+        String alphabet = "ab \t\n\r\u000B\f\u0001";
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder candidate = new StringBuilder();
+            int length = random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                candidate.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String test = candidate.toString();
+            assertEquals(test.trim().replaceAll("\\s+", " "), StringUtil.normaliseWhitespace(test));
+        }
+    }
+
 }
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -17,8 +18,10 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.organization.AddOrganizationCommand;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
@@ -43,6 +46,7 @@ import seedu.address.storage.JsonOrganizationListStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.StoredData;
 
 public class LogicManagerTest {
     private static final String VALID_ORG_NAME = "Acme Sports";
@@ -124,6 +128,132 @@ public class LogicManagerTest {
                 buildOrganization(VALID_ORG_NAME, VALID_ORG_PHONE, VALID_ORG_EMAIL)));
     }
 
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        CountingStorageStub storage = new CountingStorageStub();
+        logic = new LogicManager(model, storage);
+
+        logic.execute(HelpCommand.COMMAND_WORD);
+
+        assertEquals(0, storage.addressBookSaves + storage.athleteListSaves + storage.contractListSaves
+                + storage.organizationListSaves);
+    }
+
+    @Test
+    public void execute_addOrganization_savesOnlyChangedFiles() throws Exception {
+        CountingStorageStub storage = new CountingStorageStub();
+        logic = new LogicManager(model, storage);
+
+        logic.execute(VALID_ADD_ORG_COMMAND);
+
+        assertEquals(1, storage.addressBookSaves);
+        assertEquals(1, storage.organizationListSaves);
+        assertEquals(0, storage.athleteListSaves);
+        assertEquals(0, storage.contractListSaves);
+    }
+
+    @Test
+    public void execute_previousSaveFailed_retriesUnsavedFiles() throws Exception {
+        CountingStorageStub storage = new CountingStorageStub();
+        storage.failNextOrganizationListSave = true;
+        logic = new LogicManager(model, storage);
+
+        assertThrows(CommandException.class, () -> logic.execute(VALID_ADD_ORG_COMMAND));
+        assertEquals(0, storage.organizationListSaves);
+
+        logic.execute(HelpCommand.COMMAND_WORD);
+        assertEquals(1, storage.organizationListSaves);
+        assertEquals(1, storage.lastSavedOrganizationCount);
+    }
+
+    @Test
+    public void execute_addAndDeleteContract_savesOnlyContractFile() throws Exception {
+        CountingStorageStub storage = new CountingStorageStub();
+        logic = new LogicManager(model, storage);
+        logic.execute("add-a n/Lebron James s/Basketball a/40 p/91234567 e/lebron@example.com");
+        logic.execute(VALID_ADD_ORG_COMMAND);
+        storage.resetSaveCounts();
+
+        logic.execute("add-c n/Lebron James s/Basketball o/" + VALID_ORG_NAME
+                + " sd/01012024 ed/01012025 am/50000000");
+        assertEquals(1, storage.addressBookSaves);
+        assertEquals(1, storage.contractListSaves);
+        assertEquals(0, storage.athleteListSaves);
+        assertEquals(0, storage.organizationListSaves);
+
+        logic.execute("delete-c n/Lebron James s/Basketball o/" + VALID_ORG_NAME
+                + " sd/01012024 ed/01012025 am/50000000");
+        assertEquals(2, storage.addressBookSaves);
+        assertEquals(2, storage.contractListSaves);
+        assertEquals(0, storage.athleteListSaves);
+        assertEquals(0, storage.organizationListSaves);
+    }
+
+    @Test
+    public void flushPendingSaves_writeBehind_coalescesChanges() throws Exception {
+        CountingStorageStub storage = new CountingStorageStub();
+        logic = new LogicManager(model, storage, 60_000);
+
+        logic.execute(VALID_ADD_ORG_COMMAND);
+        logic.execute("add-o o/Beta Sports p/88887777 e/contact@beta.com");
+        assertEquals(0, storage.organizationListSaves);
+
+        logic.flushPendingSaves();
+        assertEquals(1, storage.addressBookSaves);
+        assertEquals(1, storage.organizationListSaves);
+        assertEquals(2, storage.lastSavedOrganizationCount);
+        assertEquals(0, storage.athleteListSaves);
+    }
+
+    @Test
+    public void execute_dataLoading_rejectsCommandsThatChangeData() throws Exception {
+        CountingStorageStub storage = new CountingStorageStub();
+        logic = new LogicManager(model, storage);
+        logic.setDataLoading(true);
+
+        assertCommandException(VALID_ADD_ORG_COMMAND, LogicManager.MESSAGE_DATA_LOADING);
+        assertTrue(model.getFilteredOrganizationList().isEmpty());
+        logic.execute(HelpCommand.COMMAND_WORD);
+
+        // The loaded data is already in storage, so it is not saved again
+        model.addOrganization(buildOrganization(VALID_ORG_NAME, VALID_ORG_PHONE, VALID_ORG_EMAIL));
+        logic.setDataLoading(false);
+        logic.execute(HelpCommand.COMMAND_WORD);
+        assertEquals(0, storage.organizationListSaves);
+
+        logic.execute("add-o o/Beta Sports p/88887777 e/contact@beta.com");
+        assertEquals(1, storage.organizationListSaves);
+    }
+
+    @Test
+    public void execute_dataLoadFailed_rejectsCommandsThatChangeData() throws Exception {
+        CountingStorageStub storage = new CountingStorageStub();
+        logic = new LogicManager(model, storage);
+        logic.setDataLoading(true);
+
+        logic.setDataLoadFailed();
+        assertTrue(logic.dataLoadFailedProperty().get());
+        assertFalse(logic.dataLoadingProperty().get());
+        assertCommandException(VALID_ADD_ORG_COMMAND, LogicManager.MESSAGE_DATA_LOAD_FAILED);
+        assertTrue(model.getFilteredOrganizationList().isEmpty());
+        logic.execute(HelpCommand.COMMAND_WORD);
+        assertEquals(0, storage.organizationListSaves);
+    }
+
+    @Test
+    public void execute_withMetrics_recordsEachCommandWord() throws Exception {
+        CommandMetrics metrics = new CommandMetrics();
+        logic = new LogicManager(model, new CountingStorageStub(), 0, metrics);
+
+        logic.execute(VALID_ADD_ORG_COMMAND);
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+
+        String report = metrics.format();
+        assertTrue(report.contains("add-o: 1 runs"));
+        assertTrue(report.contains("2 saves"));
+        assertTrue(report.contains(CommandMetrics.INVALID_COMMAND + ": 1 runs"));
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -266,6 +396,11 @@ public class LogicManagerTest {
             return readContractList();
         }
 
+        @Override
+        public StoredData readDataFiles() throws DataLoadingException {
+            return new StoredData(readAthleteList(), readOrganizationList(), readContractList());
+        }
+
         @Override
         public void saveContractList(ReadOnlyContractList contracts) throws IOException {
             // default no-op
@@ -302,6 +437,47 @@ public class LogicManagerTest {
         }
     }
 
+    private static class CountingStorageStub extends BaseStorageStub {
+        private int addressBookSaves;
+        private int athleteListSaves;
+        private int contractListSaves;
+        private int organizationListSaves;
+        private int lastSavedOrganizationCount;
+        private boolean failNextOrganizationListSave;
+
+        private void resetSaveCounts() {
+            addressBookSaves = 0;
+            athleteListSaves = 0;
+            contractListSaves = 0;
+            organizationListSaves = 0;
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+            addressBookSaves++;
+        }
+
+        @Override
+        public void saveAthleteList(ReadOnlyAthleteList athletes) {
+            athleteListSaves++;
+        }
+
+        @Override
+        public void saveContractList(ReadOnlyContractList contracts) {
+            contractListSaves++;
+        }
+
+        @Override
+        public void saveOrganizationList(ReadOnlyOrganizationList organizations) throws IOException {
+            if (failNextOrganizationListSave) {
+                failNextOrganizationListSave = false;
+                throw new IOException("disk full");
+            }
+            organizationListSaves++;
+            lastSavedOrganizationCount = organizations.getOrganizationList().size();
+        }
+    }
+
     private static class AccessDeniedStorageStub extends BaseStorageStub {
         private final Path blockedPath;
 
@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -47,4 +48,9 @@ public class CommandTest {
 
         assertThrows(CommandException.class, () -> command.execute(null));
     }
+
+    @Test
+    public void isReadOnly_default_returnsFalse() {
+        assertFalse(new DummyCommand("Success!", false).isReadOnly());
+    }
 }
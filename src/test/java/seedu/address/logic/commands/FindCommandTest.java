@@ -1,12 +1,17 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand.SearchScope;
+import seedu.address.logic.parser.FindCommandParser;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -14,6 +19,8 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.athlete.AthleteList;
 import seedu.address.model.contract.ContractList;
 import seedu.address.model.organization.OrganizationList;
+import seedu.address.model.search.FuzzyClause;
+import seedu.address.model.search.SearchQuery;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.TypicalOrganizations;
 import seedu.address.testutil.athlete.TypicalAthletes;
@@ -89,6 +96,42 @@ public class FindCommandTest {
         assertTrue(expectedModel.getFilteredAthleteList().isEmpty());
     }
 
+    @Test
+    public void execute_compoundContractQuery_filtersContracts() throws Exception {
+        FindCommand command = new FindCommandParser().parse("cs/ football am/ 5500000- | co/ uniqlo");
+
+        command.execute(model);
+
+        assertEquals(List.of(TypicalContracts.RONALDO_ALNASSR, TypicalContracts.FEDERER_UNIQLO),
+                model.getFilteredContractList());
+    }
+
+    @Test
+    public void execute_dateRangeQuery_filtersContracts() throws Exception {
+        FindCommand command = new FindCommandParser().parse("sd/ 01012024- ed/ -31122024");
+
+        command.execute(model);
+
+        assertEquals(List.of(TypicalContracts.MESSI_MIAMI), model.getFilteredContractList());
+    }
+
+    @Test
+    public void equals() {
+        FindCommand findAlice = new FindCommand(SearchScope.ATHLETE_NAME, "Alice");
+
+        // same scope, keyword differs in casing -> returns true
+        assertTrue(findAlice.equals(new FindCommand(SearchScope.ATHLETE_NAME, "alice")));
+
+        // same query built from clauses -> returns true
+        assertTrue(findAlice.equals(FindCommand.ofAthletes(SearchQuery.of(FuzzyClause.athleteName("ALICE")), "")));
+
+        // different scope -> returns false
+        assertFalse(findAlice.equals(new FindCommand(SearchScope.CONTRACT_ATHLETE, "Alice")));
+
+        // different keyword -> returns false
+        assertFalse(findAlice.equals(new FindCommand(SearchScope.ATHLETE_NAME, "Bob")));
+    }
+
     private AddressBook buildPopulatedAddressBook() {
         AddressBookBuilder builder = new AddressBookBuilder();
         TypicalAthletes.getTypicalAthletes().forEach(builder::withAthlete);
@@ -13,14 +13,18 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.ModelData;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.athlete.Athlete;
 import seedu.address.model.athlete.ReadOnlyAthleteList;
 import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractAggregateIndex;
+import seedu.address.model.contract.ContractRangeIndex;
 import seedu.address.model.contract.ReadOnlyContractList;
 import seedu.address.model.organization.Organization;
 import seedu.address.model.organization.ReadOnlyOrganizationList;
+import seedu.address.model.search.SearchIndex;
 
 /**
  * Unit tests for {@link RefreshCommand}.
@@ -130,6 +134,21 @@ public class RefreshCommandTest {
             throw new AssertionError("Should not be called");
         }
 
+        @Override
+        public ContractAggregateIndex getContractAggregateIndex() {
+            throw new AssertionError("Should not be called");
+        }
+
+        @Override
+        public ContractRangeIndex getContractRangeIndex() {
+            throw new AssertionError("Should not be called");
+        }
+
+        @Override
+        public SearchIndex getSearchIndex() {
+            throw new AssertionError("Should not be called");
+        }
+
         @Override
         public Path getAddressBookFilePath() {
             throw new AssertionError("Should not be called");
@@ -195,6 +214,11 @@ public class RefreshCommandTest {
             throw new AssertionError("Should not be called");
         }
 
+        @Override
+        public void setAddressBook(ModelData data) {
+            throw new AssertionError("Should not be called");
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             throw new AssertionError("Should not be called");
@@ -0,0 +1,39 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.model.ModelManager;
+
+/**
+ * Unit tests for {@link StatsCommand}.
+ */
+public class StatsCommandTest {
+
+    @Test
+    public void execute_showsMetrics() {
+        CommandMetrics metrics = new CommandMetrics();
+        StatsCommand statsCommand = new StatsCommand(metrics);
+
+        CommandResult result = statsCommand.execute(new ModelManager());
+        assertEquals(CommandMetrics.MESSAGE_NO_COMMANDS, result.getFeedbackToUser());
+
+        metrics.recordParse("list", 1_000_000);
+        assertTrue(statsCommand.execute(new ModelManager()).getFeedbackToUser().contains("list: 1 runs"));
+    }
+
+    @Test
+    public void equals() {
+        CommandMetrics metrics = new CommandMetrics();
+        StatsCommand statsCommand = new StatsCommand(metrics);
+
+        assertTrue(statsCommand.equals(statsCommand));
+        assertTrue(statsCommand.equals(new StatsCommand(metrics)));
+        assertFalse(statsCommand.equals(new StatsCommand(new CommandMetrics())));
+        assertFalse(statsCommand.equals(null));
+    }
+}
@@ -21,14 +21,18 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.ModelData;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.athlete.Athlete;
 import seedu.address.model.athlete.ReadOnlyAthleteList;
 import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractAggregateIndex;
+import seedu.address.model.contract.ContractRangeIndex;
 import seedu.address.model.contract.ReadOnlyContractList;
 import seedu.address.model.organization.Organization;
 import seedu.address.model.organization.ReadOnlyOrganizationList;
+import seedu.address.model.search.SearchIndex;
 import seedu.address.testutil.athlete.AthleteBuilder;
 
 /**
@@ -169,6 +173,21 @@ public class AddAthleteCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ContractAggregateIndex getContractAggregateIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ContractRangeIndex getContractRangeIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SearchIndex getSearchIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         // ===== File/prefs/gui =====
         @Override
         public Path getAddressBookFilePath() {
@@ -237,6 +256,11 @@ public class AddAthleteCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setAddressBook(ModelData data) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             throw new AssertionError("This method should not be called.");
@@ -18,6 +18,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.ModelData;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.athlete.Athlete;
@@ -26,11 +27,14 @@ import seedu.address.model.athlete.ReadOnlyAthleteList;
 import seedu.address.model.athlete.Sport;
 import seedu.address.model.contract.Amount;
 import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractAggregateIndex;
+import seedu.address.model.contract.ContractRangeIndex;
 import seedu.address.model.contract.Date8;
 import seedu.address.model.contract.ReadOnlyContractList;
 import seedu.address.model.organization.Organization;
 import seedu.address.model.organization.OrganizationName;
 import seedu.address.model.organization.ReadOnlyOrganizationList;
+import seedu.address.model.search.SearchIndex;
 import seedu.address.testutil.OrganizationBuilder;
 import seedu.address.testutil.athlete.AthleteBuilder;
 
@@ -223,6 +227,21 @@ public class AddContractCommandTest {
             throw new AssertionError("Should not be called");
         }
 
+        @Override
+        public ContractAggregateIndex getContractAggregateIndex() {
+            throw new AssertionError("Should not be called");
+        }
+
+        @Override
+        public ContractRangeIndex getContractRangeIndex() {
+            throw new AssertionError("Should not be called");
+        }
+
+        @Override
+        public SearchIndex getSearchIndex() {
+            throw new AssertionError("Should not be called");
+        }
+
         @Override
         public Path getAddressBookFilePath() {
             throw new AssertionError("Should not be called");
@@ -288,6 +307,11 @@ public class AddContractCommandTest {
             throw new AssertionError("Should not be called");
         }
 
+        @Override
+        public void setAddressBook(ModelData data) {
+            throw new AssertionError("Should not be called");
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             throw new AssertionError("Should not be called");
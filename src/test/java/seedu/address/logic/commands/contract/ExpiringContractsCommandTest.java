@@ -0,0 +1,108 @@
+package seedu.address.logic.commands.contract;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.contract.TypicalContracts.FEDERER_UNIQLO;
+import static seedu.address.testutil.contract.TypicalContracts.MESSI_MIAMI;
+import static seedu.address.testutil.contract.TypicalContracts.RONALDO_ALNASSR;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.athlete.AthleteList;
+import seedu.address.model.contract.ContractList;
+import seedu.address.model.organization.OrganizationList;
+import seedu.address.testutil.contract.ContractBuilder;
+import seedu.address.testutil.contract.TypicalContracts;
+
+/**
+ * Contains integration tests for {@link ExpiringContractsCommand}.
+ */
+public class ExpiringContractsCommandTest {
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(TypicalContracts.getTypicalAddressBookWithContracts(), new UserPrefs(),
+                new AthleteList(), new ContractList(), new OrganizationList());
+    }
+
+    @Test
+    public void execute_contractsEndingInRange_filtersContracts() {
+        ExpiringContractsCommand command = new ExpiringContractsCommand(
+                LocalDate.of(2024, 12, 31), LocalDate.of(2025, 2, 28));
+
+        CommandResult result = command.execute(model);
+
+        assertEquals(String.format(ExpiringContractsCommand.MESSAGE_SUCCESS, 3, "contracts", "31122024", "28022025"),
+                result.getFeedbackToUser());
+        assertEquals(Optional.of(CommandResult.UiTab.CONTRACTS), result.getTabToShow());
+        assertEquals(List.of(MESSI_MIAMI, RONALDO_ALNASSR, FEDERER_UNIQLO), model.getFilteredContractList());
+    }
+
+    @Test
+    public void execute_noContractsEndingInRange_emptyList() {
+        ExpiringContractsCommand command = new ExpiringContractsCommand(
+                LocalDate.of(2030, 1, 1), LocalDate.of(2030, 12, 31));
+
+        command.execute(model);
+
+        assertTrue(model.getFilteredContractList().isEmpty());
+    }
+
+    @Test
+    public void execute_contractAddedAfterIndexBuilt_isListed() {
+        model.addContract(new ContractBuilder().withStartDate("01012030").withEndDate("15062030").build());
+        ExpiringContractsCommand command = new ExpiringContractsCommand(
+                LocalDate.of(2030, 1, 1), LocalDate.of(2030, 12, 31));
+
+        CommandResult result = command.execute(model);
+
+        assertEquals(String.format(ExpiringContractsCommand.MESSAGE_SUCCESS, 1, "contract", "01012030", "31122030"),
+                result.getFeedbackToUser());
+        assertEquals(1, model.getFilteredContractList().size());
+        assertEquals("15062030", model.getFilteredContractList().get(0).getEndDate().value);
+    }
+
+    @Test
+    public void execute_contractAddedWhileListed_isListed() {
+        new ExpiringContractsCommand(LocalDate.of(2030, 1, 1), LocalDate.of(2030, 12, 31)).execute(model);
+        assertTrue(model.getFilteredContractList().isEmpty());
+
+        model.addContract(new ContractBuilder().withStartDate("01012030").withEndDate("15062030").build());
+        model.addContract(new ContractBuilder().withAthlete(TypicalContracts.MESSI_MIAMI.getAthlete())
+                .withStartDate("01012030").withEndDate("15062031").build());
+
+        assertEquals(1, model.getFilteredContractList().size());
+        assertEquals("15062030", model.getFilteredContractList().get(0).getEndDate().value);
+    }
+
+    @Test
+    public void equals() {
+        LocalDate today = LocalDate.of(2025, 1, 1);
+        ExpiringContractsCommand command = new ExpiringContractsCommand(today, today.plusDays(30));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new ExpiringContractsCommand(today, today.plusDays(30))));
+        assertEquals(command.hashCode(), new ExpiringContractsCommand(today, today.plusDays(30)).hashCode());
+
+        // different range -> returns false
+        assertFalse(command.equals(new ExpiringContractsCommand(today, today.plusDays(60))));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+    }
+}
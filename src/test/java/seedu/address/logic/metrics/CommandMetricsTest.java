@@ -0,0 +1,46 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CommandMetrics}.
+ */
+public class CommandMetricsTest {
+
+    @Test
+    public void format_noCommands_returnsNoCommandsMessage() {
+        assertEquals(CommandMetrics.MESSAGE_NO_COMMANDS, new CommandMetrics().format());
+    }
+
+    @Test
+    public void format_recordedCommands_oneLinePerCommandWordInOrder() {
+        CommandMetrics metrics = new CommandMetrics();
+        metrics.recordParse("list", 1_000_000);
+        metrics.recordExecute("list", 2_000_000);
+        metrics.recordParse("add-o", 1_000_000);
+        metrics.recordSave("add-o", 3_000_000, 4096);
+        metrics.recordAllocation("add-o", 2048);
+
+        String[] lines = metrics.format().split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[1].startsWith("add-o: 1 runs, parse"));
+        assertTrue(lines[1].contains("1 saves"));
+        assertTrue(lines[1].contains("writing 4 KB in total"));
+        assertTrue(lines[1].contains("allocated 2 / 2 KB"));
+        assertTrue(lines[2].startsWith("list: 1 runs, parse"));
+        assertTrue(lines[2].contains("execute 2.00 / 2.00 ms"));
+    }
+
+    @Test
+    public void getRecordCount_changesWithEachRecord() {
+        CommandMetrics metrics = new CommandMetrics();
+        assertEquals(0, metrics.getRecordCount());
+        metrics.recordParse("list", 1);
+        metrics.recordExecute("list", 1);
+        metrics.recordSave(CommandMetrics.WRITE_BEHIND, 1, 1);
+        assertEquals(3, metrics.getRecordCount());
+    }
+}
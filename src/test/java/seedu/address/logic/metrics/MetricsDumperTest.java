@@ -0,0 +1,35 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link MetricsDumper}.
+ */
+public class MetricsDumperTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void dump_onlyWhenSomethingWasRecorded() throws Exception {
+        CommandMetrics metrics = new CommandMetrics();
+        Path metricsFile = temporaryFolder.resolve("logs").resolve("metrics.txt");
+        MetricsDumper dumper = new MetricsDumper(metrics, metricsFile, 60);
+
+        assertFalse(dumper.dump());
+        assertFalse(Files.exists(metricsFile));
+
+        metrics.recordParse("list", 1_000);
+        assertTrue(dumper.dump());
+        assertTrue(Files.readString(metricsFile).contains("list: 1 runs"));
+
+        assertFalse(dumper.dump());
+    }
+}
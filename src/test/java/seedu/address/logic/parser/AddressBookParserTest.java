@@ -7,10 +7,12 @@ import static seedu.address.testutil.Assert.assertThrows;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.athlete.AddAthleteCommand;
 import seedu.address.logic.commands.athlete.DeleteAthleteCommand;
 import seedu.address.logic.commands.contract.AddContractCommand;
 import seedu.address.logic.commands.contract.DeleteContractCommand;
+import seedu.address.logic.commands.contract.ExpiringContractsCommand;
 import seedu.address.logic.commands.organization.AddOrganizationCommand;
 import seedu.address.logic.commands.organization.DeleteOrganizationCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -79,12 +81,23 @@ public class AddressBookParserTest {
                 instanceof DeleteContractCommand);
     }
 
+    @Test
+    public void parseCommand_expiringContracts() throws Exception {
+        assertTrue(parser.parseCommand(ExpiringContractsCommand.COMMAND_WORD + " 30")
+                instanceof ExpiringContractsCommand);
+    }
+
     @Test
     public void parseCommand_find() throws Exception {
         String args = " an/ Alice";
         assertTrue(parser.parseCommand(FindCommand.COMMAND_WORD + args) instanceof FindCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+    }
+
     // ============================================================
     // Error handling
     // ============================================================
@@ -3,11 +3,18 @@ package seedu.address.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindCommand.SearchScope;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.contract.Amount;
+import seedu.address.model.contract.Date8;
+import seedu.address.model.search.ContractRangeClause;
+import seedu.address.model.search.FuzzyClause;
+import seedu.address.model.search.SearchQuery;
 
 /**
  * Unit tests for {@link FindCommandParser}.
@@ -42,4 +49,61 @@ public class FindCommandParserTest {
     public void parse_unknownFlag_throwsParseException() {
         assertThrows(ParseException.class, () -> parser.parse("xx/ something"));
     }
+
+    @Test
+    public void parse_severalFlags_returnsConjunction() throws Exception {
+        FindCommand expected = FindCommand.ofContracts(new SearchQuery<>(List.of(List.of(
+                FuzzyClause.contractOrganizationName("nike"), FuzzyClause.contractSport("basketball"),
+                ContractRangeClause.amount(new Amount(1000000), null)))), "");
+        assertEquals(expected, parser.parse("cs/ Basketball am/ 1000000- co/ Nike"));
+    }
+
+    @Test
+    public void parse_alternatives_returnsDisjunction() throws Exception {
+        FindCommand expected = FindCommand.ofContracts(new SearchQuery<>(List.of(
+                List.of(FuzzyClause.contractOrganizationName("nike")),
+                List.of(ContractRangeClause.startDate(new Date8("01012024"), new Date8("31122024")),
+                        ContractRangeClause.endDate(null, new Date8("01012025")))
+        )), "");
+        assertEquals(expected, parser.parse("co/ Nike | sd/ 01012024-31122024 ed/ -01012025"));
+    }
+
+    @Test
+    public void parse_singleValueRange_returnsExactRange() throws Exception {
+        FindCommand expected = FindCommand.ofContracts(SearchQuery.of(
+                ContractRangeClause.amount(new Amount(500), new Amount(500))), "");
+        assertEquals(expected, parser.parse("am/ 500"));
+    }
+
+    @Test
+    public void parse_flagsForDifferentLists_throwsParseException() {
+        assertThrows(ParseException.class, FindCommandParser.MESSAGE_MIXED_TARGETS, () ->
+                parser.parse("an/ alice co/ nike"));
+        assertThrows(ParseException.class, FindCommandParser.MESSAGE_MIXED_TARGETS, () ->
+                parser.parse("an/ alice | am/ 100-"));
+    }
+
+    @Test
+    public void parse_invalidRange_throwsParseException() {
+        assertThrows(ParseException.class, FindCommandParser.MESSAGE_INVALID_RANGE, () -> parser.parse("am/ -"));
+        assertThrows(ParseException.class, FindCommandParser.MESSAGE_INVALID_RANGE, () ->
+                parser.parse("am/ 500-100"));
+        assertThrows(ParseException.class, FindCommandParser.MESSAGE_INVALID_RANGE, () ->
+                parser.parse("am/ 1-2-3"));
+        assertThrows(ParseException.class, Date8.MESSAGE_CONSTRAINTS, () -> parser.parse("sd/ 32012024-"));
+        assertThrows(ParseException.class, FindCommandParser.MESSAGE_INVALID_RANGE, () ->
+                parser.parse("sd/ 31122024-01012024"));
+        assertThrows(ParseException.class, FindCommandParser.MESSAGE_INVALID_RANGE, () ->
+                parser.parse("ed/ 02012025-01012025"));
+    }
+
+    @Test
+    public void parse_singleDayDateRange_success() throws Exception {
+        assertEquals(parser.parse("sd/ 01012024"), parser.parse("sd/ 01012024-01012024"));
+    }
+
+    @Test
+    public void parse_emptyAlternative_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse("co/ nike |"));
+    }
 }
@@ -0,0 +1,39 @@
+package seedu.address.logic.parser.contract;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.contract.ExpiringContractsCommand;
+
+/**
+ * Contains unit tests for {@link ExpiringContractsCommandParser}.
+ */
+public class ExpiringContractsCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExpiringContractsCommand.MESSAGE_USAGE);
+
+    private final ExpiringContractsCommandParser parser = new ExpiringContractsCommandParser();
+
+    @Test
+    public void parse_validDays_success() {
+        LocalDate today = LocalDate.now();
+        assertParseSuccess(parser, " 30 ", new ExpiringContractsCommand(today, today.plusDays(30)));
+        assertParseSuccess(parser, "0", new ExpiringContractsCommand(today, today));
+    }
+
+    @Test
+    public void parse_invalidDays_failure() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "-1", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "thirty", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "30 60", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, String.valueOf(ExpiringContractsCommandParser.MAX_DAYS + 1),
+                MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -8,15 +8,22 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.athlete.Athlete;
+import seedu.address.model.athlete.AthleteList;
 import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractList;
 import seedu.address.model.organization.Organization;
+import seedu.address.model.organization.OrganizationList;
 import seedu.address.testutil.OrganizationBuilder;
 import seedu.address.testutil.athlete.AthleteBuilder;
 import seedu.address.testutil.contract.ContractBuilder;
@@ -166,6 +173,107 @@ public class ModelManagerTest {
         assertTrue(orgs.isEmpty());
     }
 
+    @Test
+    public void updateFilteredAthleteList_largeList_testsAddedAthlete() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 10_000; i++) {
+            addressBook.addAthlete(new AthleteBuilder().withName("Athlete " + toLetters(i)).build());
+        }
+        ModelManager model = new ModelManager(addressBook, new UserPrefs(), new AthleteList(), new ContractList(),
+                new OrganizationList());
+
+        Predicate<Athlete> endsWithA = athlete -> athlete.getName().fullName.endsWith("a");
+        long expectedSize = addressBook.getAthleteList().stream().filter(endsWithA).count();
+        model.updateFilteredAthleteList(endsWithA);
+        assertEquals(expectedSize, model.getFilteredAthleteList().size());
+
+        // an athlete added while the filter is active is still tested against it
+        model.addAthlete(new AthleteBuilder().withName("Zeta Zeta").build());
+        assertEquals(expectedSize + 1, model.getFilteredAthleteList().size());
+    }
+
+    @Test
+    public void addAndDeleteContract_activeFilters_testsOnlyTheContract() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 500; i++) {
+            addressBook.addAthlete(new AthleteBuilder().withName("Athlete " + toLetters(i)).build());
+            addressBook.addOrganization(new OrganizationBuilder().withName("Organization " + toLetters(i)).build());
+        }
+        ModelManager model = new ModelManager(addressBook, new UserPrefs(), new AthleteList(), new ContractList(),
+                new OrganizationList());
+        Athlete athlete = model.getFilteredAthleteList().get(42);
+        Organization organization = model.getFilteredOrganizationList().get(7);
+
+        AtomicInteger athleteTests = new AtomicInteger();
+        AtomicInteger organizationTests = new AtomicInteger();
+        AtomicInteger contractTests = new AtomicInteger();
+        model.updateFilteredAthleteList(a -> athleteTests.incrementAndGet() > 0);
+        model.updateFilteredOrganizationList(o -> organizationTests.incrementAndGet() > 0);
+        model.updateFilteredContractList(c -> contractTests.incrementAndGet() > 0);
+        athleteTests.set(0);
+        organizationTests.set(0);
+        contractTests.set(0);
+
+        List<ListChangeListener.Change<? extends Athlete>> athleteChanges = new ArrayList<>();
+        model.getAthleteList().getAthleteList().addListener(
+                (ListChangeListener<Athlete>) change -> athleteChanges.add(change));
+        long revision = model.getContractAggregateIndex().revisionProperty().get();
+
+        // The cards are redrawn through the aggregate revision, without the athlete or organization lists changing
+        Contract contract = new ContractBuilder().withAthlete(athlete).withOrganization(organization).build();
+        model.addContract(contract);
+        assertEquals(1, contractTests.get());
+        assertEquals(0, athleteTests.get());
+        assertEquals(0, organizationTests.get());
+        assertEquals(revision + 1, model.getContractAggregateIndex().revisionProperty().get());
+
+        model.deleteContract(contract);
+        assertEquals(1, contractTests.get());
+        assertEquals(0, athleteTests.get());
+        assertEquals(0, organizationTests.get());
+        assertEquals(revision + 2, model.getContractAggregateIndex().revisionProperty().get());
+        assertTrue(athleteChanges.isEmpty());
+        assertEquals(500, model.getFilteredAthleteList().size());
+    }
+
+    @Test
+    public void setAddressBook_modelData_takesOverBuiltData() {
+        Athlete athlete = new AthleteBuilder().build();
+        Organization organization = new OrganizationBuilder().build();
+        Contract contract = new ContractBuilder().withAthlete(athlete).withOrganization(organization).build();
+        AddressBook loaded = new AddressBook();
+        loaded.addAthlete(athlete);
+        loaded.addOrganization(organization);
+        loaded.addContract(contract);
+        ModelData data = new ModelData(loaded);
+
+        ModelManager model = new ModelManager();
+        List<ListChangeListener.Change<? extends Athlete>> athleteChanges = new ArrayList<>();
+        model.getAthleteList().getAthleteList().addListener(
+                (ListChangeListener<Athlete>) change -> athleteChanges.add(change));
+        long revision = model.getContractAggregateIndex().revisionProperty().get();
+        model.setAddressBook(data);
+
+        assertEquals(1, athleteChanges.size());
+        assertEquals(List.of(athlete), model.getFilteredAthleteList());
+        assertEquals(List.of(organization), model.getFilteredOrganizationList());
+        assertEquals(List.of(contract), model.getFilteredContractList());
+        assertTrue(model.hasAthlete(athlete));
+        assertTrue(model.hasOrganization(organization));
+        assertTrue(model.hasContract(contract));
+        assertEquals(contract.getAmount().value, model.getContractAggregateIndex().getTotalContractAmount(athlete));
+        assertEquals(revision + 1, model.getContractAggregateIndex().revisionProperty().get());
+        assertEquals(1, model.getContractRangeIndex().size());
+        assertEquals(1, model.getSearchIndex().getAthleteNames().size());
+
+        // The data taken over is no longer held by what was loaded
+        assertTrue(loaded.getAthleteList().isEmpty());
+        assertTrue(loaded.getContractList().isEmpty());
+        assertFalse(loaded.hasAthlete(athlete));
+        assertEquals(0, data.getSearchIndex().getAthleteNames().size());
+        assertEquals(0, data.getContractAggregateIndex().getTotalContractAmount(athlete));
+    }
+
     // ============================================================
     // Helper
     // ============================================================
@@ -173,4 +281,15 @@ public class ModelManagerTest {
     private <T> void setPredicate(ObservableList<T> list, Predicate<T> predicate) {
         // no-op
     }
+
+    /** Returns {@code number} in base 26 written with the letters a to z, lowest digit last. */
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        int remaining = number;
+        do {
+            letters.insert(0, (char) ('a' + remaining % 26));
+            remaining /= 26;
+        } while (remaining > 0);
+        return letters.toString();
+    }
 }
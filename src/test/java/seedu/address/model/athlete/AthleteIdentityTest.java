@@ -0,0 +1,51 @@
+package seedu.address.model.athlete;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.athlete.TypicalAthletes.ALICE;
+import static seedu.address.testutil.athlete.TypicalAthletes.BENSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.athlete.AthleteBuilder;
+
+public class AthleteIdentityTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AthleteIdentity(null, ALICE.getSport()));
+        assertThrows(NullPointerException.class, () -> new AthleteIdentity(ALICE.getName(), null));
+    }
+
+    @Test
+    public void equals_matchesIsSameAthlete() {
+        AthleteIdentity alice = new AthleteIdentity(ALICE);
+
+        // same object -> returns true
+        assertTrue(alice.equals(alice));
+
+        // null -> returns false
+        assertFalse(alice.equals(null));
+
+        // different type -> returns false
+        assertFalse(alice.equals(ALICE));
+
+        // same name and sport, all other attributes different -> returns true
+        Athlete editedAlice = new AthleteBuilder(ALICE).withAge("18").withPhone("99999999")
+                .withEmail("bob@example.com").build();
+        assertTrue(alice.equals(new AthleteIdentity(editedAlice)));
+        assertEquals(alice.hashCode(), new AthleteIdentity(editedAlice).hashCode());
+        assertTrue(alice.equals(new AthleteIdentity(ALICE.getName(), ALICE.getSport())));
+
+        // different name or sport -> returns false
+        assertFalse(alice.equals(new AthleteIdentity(new AthleteBuilder(ALICE).withName("Bob").build())));
+        assertFalse(alice.equals(new AthleteIdentity(new AthleteBuilder(ALICE).withSport("Chess").build())));
+        assertFalse(alice.equals(new AthleteIdentity(BENSON)));
+
+        // name differs in case -> returns false, as for isSameAthlete
+        Athlete editedBenson = new AthleteBuilder(BENSON).withName("benson").build();
+        assertFalse(new AthleteIdentity(BENSON).equals(new AthleteIdentity(editedBenson)));
+    }
+}
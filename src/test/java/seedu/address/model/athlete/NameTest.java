@@ -1,9 +1,14 @@
 package seedu.address.model.athlete;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -66,4 +71,23 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void tryParse() {
+        assertThrows(NullPointerException.class, () -> Name.tryParse(null));
+        assertNull(Name.tryParse(" "));
+        assertNull(Name.tryParse("peter*"));
+        assertEquals("Peter Jack", Name.tryParse("  Peter \t Jack ").fullName);
+        assertEquals(new Name("Peter Jack"), Name.tryParse("Peter Jack"));
+    }
+
+    @Test
+    public void getSearchKey() {
+        Name name = new Name("Lionel  O'Neil-Messi");
+        assertEquals("lionel o'neil-messi", name.getSearchKey().getLowerCase());
+        assertEquals(List.of("lionel", "o", "neil", "messi"), name.getSearchKey().getWords());
+
+        // computed once
+        assertSame(name.getSearchKey(), name.getSearchKey());
+    }
 }
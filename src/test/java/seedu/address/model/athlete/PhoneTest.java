@@ -1,6 +1,8 @@
 package seedu.address.model.athlete;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -58,4 +60,10 @@ public class PhoneTest {
         // different values -> returns false
         assertFalse(phone.equals(new Phone("92637465")));
     }
+
+    @Test
+    public void tryParse() {
+        assertNull(Phone.tryParse("9312 1534"));
+        assertEquals(new Phone("93121534"), Phone.tryParse("93121534"));
+    }
 }
@@ -108,6 +108,60 @@ public class UniqueAthleteListTest {
         assertThrows(DuplicateAthleteException.class, () -> uniqueAthleteList.setAthletes(listWithDuplicateAthletes));
     }
 
+    @Test
+    public void remove_athleteWithSameIdentityButDifferentFields_throwsAthleteNotFoundException() {
+        uniqueAthleteList.add(ALICE);
+        Athlete editedAlice = new AthleteBuilder(ALICE).withAge("40").build();
+        assertThrows(AthleteNotFoundException.class, () -> uniqueAthleteList.remove(editedAlice));
+        assertTrue(uniqueAthleteList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_afterMixedOperations_indexMatchesList() {
+        Athlete differentSport = new AthleteBuilder(ALICE).withSport("Tennis").build();
+        uniqueAthleteList.add(ALICE);
+        uniqueAthleteList.add(BENSON);
+        uniqueAthleteList.add(differentSport);
+        assertIndexMatchesList(ALICE, BENSON, differentSport);
+
+        uniqueAthleteList.remove(BENSON);
+        assertIndexMatchesList(ALICE, BENSON, differentSport);
+
+        uniqueAthleteList.setAthletes(Arrays.asList(BENSON, differentSport));
+        assertIndexMatchesList(ALICE, BENSON, differentSport);
+
+        UniqueAthleteList replacement = new UniqueAthleteList();
+        replacement.add(ALICE);
+        uniqueAthleteList.setAthletes(replacement);
+        assertIndexMatchesList(ALICE, BENSON, differentSport);
+
+        // a failed bulk replacement must leave both list and index untouched
+        assertThrows(DuplicateAthleteException.class, () -> uniqueAthleteList.setAthletes(Arrays.asList(BENSON,
+                BENSON)));
+        assertIndexMatchesList(ALICE, BENSON, differentSport);
+
+        // the index is keyed on identity fields, which are case-insensitive
+        Athlete upperCaseAlice = new AthleteBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        assertTrue(uniqueAthleteList.contains(upperCaseAlice));
+    }
+
+    private void assertIndexMatchesList(Athlete... candidates) {
+        for (Athlete candidate : candidates) {
+            boolean inList = uniqueAthleteList.asUnmodifiableObservableList().stream()
+                    .anyMatch(candidate::isSameAthlete);
+            assertEquals(inList, uniqueAthleteList.contains(candidate));
+        }
+    }
+
+    @Test
+    public void setAthletes_listWithDuplicateAthletes_reportsCollidingAthletes() {
+        Athlete upperCaseAlice = new AthleteBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        List<Athlete> listWithDuplicateAthletes = Arrays.asList(ALICE, BENSON, upperCaseAlice);
+        assertThrows(DuplicateAthleteException.class,
+                new DuplicateAthleteException(ALICE, upperCaseAlice).getMessage(), () ->
+                uniqueAthleteList.setAthletes(listWithDuplicateAthletes));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -3,9 +3,12 @@ package seedu.address.model.contract;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 class AmountTest {
@@ -30,6 +33,42 @@ class AmountTest {
         assertTrue(Amount.isValidAmount("  42  "));
     }
 
+    @Test
+    void tryParse() {
+        assertThrows(NullPointerException.class, () -> Amount.tryParse(null));
+        assertNull(Amount.tryParse(""));
+        assertNull(Amount.tryParse("+"));
+        assertNull(Amount.tryParse("-10"));
+        assertNull(Amount.tryParse("0"));
+        assertNull(Amount.tryParse("1,000"));
+        assertNull(Amount.tryParse("9223372036854775808")); // Long.MAX_VALUE + 1
+
+        assertEquals(new Amount(42), Amount.tryParse("  42  "));
+        assertEquals(new Amount(7), Amount.tryParse("+007"));
+        assertEquals(new Amount(Long.MAX_VALUE), Amount.tryParse("9223372036854775807"));
+    }
+
+    @Test
+    void isValidAmount_matchesLongParsing() {
+        Random random = new Random(18);
+        String alphabet = "0123456789+- x";
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder candidate = new StringBuilder();
+            int length = random.nextInt(21);
+            for (int j = 0; j < length; j++) {
+                candidate.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String test = candidate.toString();
+            boolean expected;
+            try {
+                expected = Long.parseLong(test.trim()) > 0;
+            } catch (NumberFormatException e) {
+                expected = false;
+            }
+            assertEquals(expected, Amount.isValidAmount(test), test);
+        }
+    }
+
     @Test
     void equalsAndHashCode() {
         Amount a = new Amount(10);
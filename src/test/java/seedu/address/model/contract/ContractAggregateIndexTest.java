@@ -0,0 +1,117 @@
+package seedu.address.model.contract;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.athlete.Athlete;
+import seedu.address.model.organization.Organization;
+import seedu.address.testutil.OrganizationBuilder;
+import seedu.address.testutil.athlete.AthleteBuilder;
+import seedu.address.testutil.contract.ContractBuilder;
+
+class ContractAggregateIndexTest {
+
+    private static final Athlete LEBRON = new AthleteBuilder().withName("LeBron James").withSport("Basketball").build();
+    private static final Athlete MESSI = new AthleteBuilder().withName("Lionel Messi").withSport("Football").build();
+    private static final Organization NIKE = new OrganizationBuilder().withName("Nike").build();
+    private static final Organization ADIDAS = new OrganizationBuilder().withName("Adidas").build();
+
+    private static final Contract LEBRON_NIKE = new ContractBuilder().withAthlete(LEBRON).withOrganization(NIKE)
+            .withAmount(1000L).build();
+    private static final Contract LEBRON_NIKE_RENEWAL = new ContractBuilder().withAthlete(LEBRON)
+            .withOrganization(NIKE).withAmount(2000L).withEndDate("31122025").build();
+    private static final Contract LEBRON_ADIDAS = new ContractBuilder().withAthlete(LEBRON).withOrganization(ADIDAS)
+            .withAmount(300L).build();
+    private static final Contract MESSI_ADIDAS = new ContractBuilder().withAthlete(MESSI).withOrganization(ADIDAS)
+            .withAmount(50L).build();
+
+    @Test
+    void add_nullContract_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ContractAggregateIndex().add(null));
+    }
+
+    @Test
+    void emptyIndex_returnsNoAggregates() {
+        ContractAggregateIndex index = new ContractAggregateIndex();
+        assertEquals(0, index.getTotalContractAmount(LEBRON));
+        assertEquals(0, index.getTotalContractAmount(NIKE));
+        assertTrue(index.getOrganizations(LEBRON).isEmpty());
+        assertTrue(index.getAthletes(NIKE).isEmpty());
+    }
+
+    @Test
+    void add_multipleContracts_matchesContractListScan() {
+        ContractAggregateIndex index = new ContractAggregateIndex();
+        ObservableList<Contract> contracts = FXCollections.observableArrayList();
+        for (Contract contract : List.of(LEBRON_NIKE, LEBRON_ADIDAS, LEBRON_NIKE_RENEWAL, MESSI_ADIDAS)) {
+            index.add(contract);
+            contracts.add(contract);
+            assertIndexMatchesScan(index, contracts);
+        }
+        assertEquals(List.of(NIKE, ADIDAS), index.getOrganizations(LEBRON));
+        assertEquals(List.of(LEBRON, MESSI), index.getAthletes(ADIDAS));
+    }
+
+    @Test
+    void remove_contracts_matchesContractListScan() {
+        ObservableList<Contract> contracts = FXCollections.observableArrayList(
+                LEBRON_NIKE, LEBRON_ADIDAS, LEBRON_NIKE_RENEWAL, MESSI_ADIDAS);
+        ContractAggregateIndex index = new ContractAggregateIndex(contracts);
+
+        // a counterparty with another contract remaining is kept
+        index.remove(LEBRON_NIKE);
+        contracts.remove(LEBRON_NIKE);
+        assertIndexMatchesScan(index, contracts);
+        assertEquals(List.of(NIKE, ADIDAS), index.getOrganizations(LEBRON));
+
+        // the last contract between a pair removes the counterparty
+        index.remove(LEBRON_ADIDAS);
+        contracts.remove(LEBRON_ADIDAS);
+        assertIndexMatchesScan(index, contracts);
+        assertEquals(List.of(MESSI), index.getAthletes(ADIDAS));
+
+        index.remove(LEBRON_NIKE_RENEWAL);
+        index.remove(MESSI_ADIDAS);
+        assertEquals(0, index.getTotalContractAmount(LEBRON));
+        assertTrue(index.getAthletes(ADIDAS).isEmpty());
+    }
+
+    @Test
+    void getTotalContractAmount_sameIdentityDifferentCase_returnsAggregate() {
+        ContractAggregateIndex index = new ContractAggregateIndex(List.of(LEBRON_NIKE));
+        Athlete lebronLowerCase = new AthleteBuilder(LEBRON).withName("lebron james").withPhone("99999999").build();
+        Organization nikeLowerCase = new OrganizationBuilder(NIKE).withName("nike").build();
+        assertEquals(1000L, index.getTotalContractAmount(lebronLowerCase));
+        assertEquals(1000L, index.getTotalContractAmount(nikeLowerCase));
+    }
+
+    @Test
+    void resetData_replacesAggregates() {
+        ContractAggregateIndex index = new ContractAggregateIndex(List.of(LEBRON_NIKE));
+        index.resetData(List.of(MESSI_ADIDAS));
+        assertEquals(0, index.getTotalContractAmount(LEBRON));
+        assertEquals(50L, index.getTotalContractAmount(MESSI));
+        assertEquals(List.of(MESSI), index.getAthletes(ADIDAS));
+    }
+
+    private static void assertIndexMatchesScan(ContractAggregateIndex index, ObservableList<Contract> contracts) {
+        for (Athlete athlete : List.of(LEBRON, MESSI)) {
+            assertEquals(athlete.getTotalContractAmount(contracts), index.getTotalContractAmount(athlete));
+            assertEquals(new HashSet<>(athlete.getOrganizations(contracts)),
+                    new HashSet<>(index.getOrganizations(athlete)));
+        }
+        for (Organization organization : List.of(NIKE, ADIDAS)) {
+            assertEquals(organization.getTotalContractAmount(contracts), index.getTotalContractAmount(organization));
+            assertEquals(new HashSet<>(organization.getAthletes(contracts)),
+                    new HashSet<>(index.getAthletes(organization)));
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.address.model.contract;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.contract.ContractRangeIndex.Field;
+import seedu.address.testutil.athlete.AthleteBuilder;
+import seedu.address.testutil.contract.ContractBuilder;
+
+public class ContractRangeIndexTest {
+
+    private static final Contract SMALL = contract("Amy", "01012024", "31122024", 1000L);
+    private static final Contract MEDIUM = contract("Bob", "01062024", "30062025", 5000L);
+    private static final Contract LARGE = contract("Cat", "01012023", "31122024", 9000L);
+
+    @Test
+    public void findInRange_amount_returnsAscendingMatches() {
+        UniqueContractList list = new UniqueContractList();
+        list.setContracts(Arrays.asList(LARGE, SMALL, MEDIUM));
+        ContractRangeIndex index = list.getRangeIndex();
+
+        assertEquals(List.of(SMALL, MEDIUM), index.findInRange(Field.AMOUNT, 0, 5000));
+        assertEquals(List.of(MEDIUM, LARGE), index.findInRange(Field.AMOUNT, 5000, Long.MAX_VALUE));
+        assertEquals(2, index.countInRange(Field.AMOUNT, 1000, 5000, Integer.MAX_VALUE));
+        assertTrue(index.findInRange(Field.AMOUNT, 9001, 8000).isEmpty());
+        assertEquals(0, index.countInRange(Field.AMOUNT, 9001, 8000, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void countInRange_moreThanLimit_returnsLimit() {
+        UniqueContractList list = new UniqueContractList();
+        list.setContracts(Arrays.asList(LARGE, SMALL, MEDIUM));
+        ContractRangeIndex index = list.getRangeIndex();
+
+        assertEquals(2, index.countInRange(Field.AMOUNT, 0, Long.MAX_VALUE, 2));
+        assertEquals(1, index.countInRange(Field.AMOUNT, 0, 1000, 2));
+    }
+
+    @Test
+    public void findInRange_sameEndDate_returnsBoth() {
+        UniqueContractList list = new UniqueContractList();
+        list.setContracts(Arrays.asList(SMALL, MEDIUM, LARGE));
+        long endOf2024 = new Date8("31122024").toEpochDay();
+
+        assertEquals(List.of(SMALL, LARGE), list.getRangeIndex().findInRange(Field.END_DATE, endOf2024, endOf2024));
+    }
+
+    @Test
+    public void mutations_indexMatchesScan() {
+        Random random = new Random(16);
+        UniqueContractList list = new UniqueContractList();
+        for (int i = 0; i < 200; i++) {
+            Contract contract = randomContract(random, i);
+            int operation = random.nextInt(4);
+            if (operation == 0 && list.asUnmodifiableObservableList().size() > 0) {
+                list.remove(randomElement(random, list));
+            } else if (operation == 1 && list.asUnmodifiableObservableList().size() > 0) {
+                list.setContract(randomElement(random, list), contract);
+            } else {
+                list.add(contract);
+            }
+            if (i % 50 == 49) {
+                list.setContracts(List.copyOf(list.asUnmodifiableObservableList()));
+            }
+            assertIndexMatchesScan(list, random);
+        }
+    }
+
+    private static void assertIndexMatchesScan(UniqueContractList list, Random random) {
+        ContractRangeIndex index = list.getRangeIndex();
+        assertEquals(list.asUnmodifiableObservableList().size(), index.size());
+        for (Field field : Field.values()) {
+            long min = randomValue(random, field);
+            long max = min + random.nextInt(field == Field.AMOUNT ? 50_000 : 400);
+            List<Contract> expected = list.asUnmodifiableObservableList().stream()
+                    .filter(contract -> field.valueOf(contract) >= min && field.valueOf(contract) <= max)
+                    .sorted(Comparator.comparingLong(field::valueOf))
+                    .collect(Collectors.toList());
+            List<Contract> actual = index.findInRange(field, min, max);
+            assertEquals(expected.stream().map(field::valueOf).collect(Collectors.toList()),
+                    actual.stream().map(field::valueOf).collect(Collectors.toList()));
+            assertEquals(new HashSet<>(expected), new HashSet<>(actual));
+            assertEquals(expected.size(), index.countInRange(field, min, max, Integer.MAX_VALUE));
+        }
+    }
+
+    private static Contract randomElement(Random random, UniqueContractList list) {
+        List<Contract> contracts = list.asUnmodifiableObservableList();
+        return contracts.get(random.nextInt(contracts.size()));
+    }
+
+    private static long randomValue(Random random, Field field) {
+        return field == Field.AMOUNT
+                ? random.nextInt(100_000)
+                : new Date8("01012020").toEpochDay() + random.nextInt(2000);
+    }
+
+    private static Contract randomContract(Random random, int id) {
+        String startDate = String.format("%02d%02d%04d", 1 + random.nextInt(28), 1 + random.nextInt(12),
+                2020 + random.nextInt(3));
+        String endDate = String.format("%02d%02d%04d", 1 + random.nextInt(28), 1 + random.nextInt(12),
+                2023 + random.nextInt(3));
+        return contract("Athlete " + (char) ('a' + id % 26) + (char) ('a' + id / 26),
+                startDate, endDate, (long) random.nextInt(100_000));
+    }
+
+    private static Contract contract(String athleteName, String startDate, String endDate, long amount) {
+        return new ContractBuilder()
+                .withAthlete(new AthleteBuilder().withName(athleteName).build())
+                .withStartDate(startDate)
+                .withEndDate(endDate)
+                .withAmount(amount)
+                .build();
+    }
+}
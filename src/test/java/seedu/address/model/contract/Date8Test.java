@@ -3,10 +3,15 @@ package seedu.address.model.contract;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -34,12 +39,61 @@ class Date8Test {
         assertFalse(Date8.isValidDate8("31022025"));
         assertTrue(Date8.isValidDate8("01012025"));
         assertTrue(Date8.isValidDate8("29022024")); // leap day
+        assertFalse(Date8.isValidDate8("29021900")); // century that is not a leap year
+        assertTrue(Date8.isValidDate8("29022000")); // century that is a leap year
+        assertFalse(Date8.isValidDate8("00012025")); // day zero
+        assertFalse(Date8.isValidDate8("01132025")); // month 13
+        assertFalse(Date8.isValidDate8("0101202\u0665")); // non-ASCII digit
+    }
+
+    @Test
+    void isValidDate8_matchesStrictFormatter() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("ddMMuuuu").withResolverStyle(ResolverStyle.STRICT);
+        Random random = new Random(17);
+        for (int i = 0; i < 20_000; i++) {
+            String candidate = String.format("%02d%02d%04d", random.nextInt(33), random.nextInt(14),
+                    random.nextInt(10_000));
+            boolean isParsable;
+            try {
+                LocalDate expected = LocalDate.parse(candidate, formatter);
+                assertEquals(expected.toEpochDay(), new Date8(candidate).toEpochDay());
+                assertEquals(expected, new Date8(candidate).toLocalDate());
+                isParsable = true;
+            } catch (DateTimeParseException e) {
+                isParsable = false;
+            }
+            assertEquals(isParsable, Date8.isValidDate8(candidate), candidate);
+        }
+    }
+
+    @Test
+    void tryParse() {
+        assertThrows(NullPointerException.class, () -> Date8.tryParse(null));
+        assertNull(Date8.tryParse("31022025"));
+        assertNull(Date8.tryParse("01-01-2025"));
+        assertEquals(new Date8("01012025"), Date8.tryParse(" 01012025 "));
+        assertEquals("01012025", Date8.tryParse(" 01012025 ").value);
+    }
+
+    @Test
+    void compareTo_ordersByDate() {
+        Date8 earlier = new Date8("31122024");
+        Date8 later = new Date8("01012025");
+
+        assertTrue(earlier.compareTo(later) < 0);
+        assertTrue(later.compareTo(earlier) > 0);
+        assertEquals(0, earlier.compareTo(new Date8("31122024")));
+        assertTrue(later.isAfter(earlier));
+        assertFalse(earlier.isAfter(later));
+        assertFalse(earlier.isAfter(earlier));
     }
 
     @Test
     void toLocalDate_ok() {
         Date8 d = new Date8("01012025");
         assertEquals(LocalDate.of(2025, 1, 1), d.toLocalDate());
+        assertEquals(LocalDate.of(2025, 1, 1).toEpochDay(), d.toEpochDay());
+        assertEquals(LocalDate.of(0, 1, 1), new Date8("01010000").toLocalDate());
     }
 
     @Test
@@ -15,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import javafx.collections.ObservableList;
 import seedu.address.model.contract.exceptions.ContractNotFoundException;
 import seedu.address.model.contract.exceptions.DuplicateContractException;
+import seedu.address.testutil.athlete.AthleteBuilder;
 import seedu.address.testutil.contract.ContractBuilder;
 
 class UniqueContractListTest {
@@ -139,6 +140,66 @@ class UniqueContractListTest {
         assertThrows(DuplicateContractException.class, () -> list.setContracts(withDupes));
     }
 
+    @Test
+    void contains_afterMixedOperations_indexMatchesList() {
+        UniqueContractList list = new UniqueContractList();
+        Contract c1 = new ContractBuilder().withAmount(100L).build();
+        Contract c2 = new ContractBuilder().withAmount(200L).build();
+        Contract c3 = new ContractBuilder().withEndDate("30062025").build();
+        List<Contract> candidates = Arrays.asList(c1, c2, c3);
+
+        list.add(c1);
+        list.add(c2);
+        assertIndexMatchesList(list, candidates);
+
+        list.setContract(c2, c3);
+        assertIndexMatchesList(list, candidates);
+
+        list.remove(c1);
+        assertIndexMatchesList(list, candidates);
+
+        list.setContracts(Arrays.asList(c1, c2));
+        assertIndexMatchesList(list, candidates);
+
+        UniqueContractList replacement = new UniqueContractList();
+        replacement.add(c3);
+        list.setContracts(replacement);
+        assertIndexMatchesList(list, candidates);
+    }
+
+    @Test
+    void remove_sameIdentityDifferentFields_throwsContractNotFoundException() {
+        UniqueContractList list = new UniqueContractList();
+        Contract c = new ContractBuilder().build();
+        list.add(c);
+        Contract otherPhone = new ContractBuilder(c)
+                .withAthlete(new AthleteBuilder(c.getAthlete()).withPhone("99999999").build())
+                .build();
+        assertTrue(list.contains(otherPhone));
+        assertThrows(ContractNotFoundException.class, () -> list.remove(otherPhone));
+        assertTrue(list.contains(c));
+    }
+
+    private void assertIndexMatchesList(UniqueContractList list, List<Contract> candidates) {
+        for (Contract candidate : candidates) {
+            boolean inList = list.asUnmodifiableObservableList().stream().anyMatch(candidate::isSameContract);
+            assertEquals(inList, list.contains(candidate));
+        }
+    }
+
+    @Test
+    void setContracts_withDuplicates_reportsCollidingContracts() {
+        UniqueContractList list = new UniqueContractList();
+        Contract c1 = new ContractBuilder().withAmount(100L).build();
+        Contract c2 = new ContractBuilder().withAmount(200L).build();
+        Contract c1Copy = new ContractBuilder(c1).build();
+        DuplicateContractException e = assertThrows(DuplicateContractException.class, () ->
+                list.setContracts(Arrays.asList(c1, c2, c1Copy)));
+        assertTrue(e.getMessage().contains(c1.toString()));
+        assertTrue(e.getMessage().contains(c1Copy.toString()));
+        assertTrue(list.asUnmodifiableObservableList().isEmpty());
+    }
+
     @Test
     void asUnmodifiableObservableList_modification_throwsUnsupportedOperationException() {
         UniqueContractList list = new UniqueContractList();
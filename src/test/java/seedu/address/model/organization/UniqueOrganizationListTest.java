@@ -181,6 +181,54 @@ public class UniqueOrganizationListTest {
                 -> uniqueOrganizationList.setOrganizations(duplicates));
     }
 
+    @Test
+    public void setOrganizations_listWithCollidingOrganizations_reportsCollidingOrganizations() {
+        Organization otherNike = new OrganizationBuilder(nike).withPhone("91234567").build();
+        List<Organization> listWithCollidingOrganizations = Arrays.asList(nike, adidas, otherNike);
+        assertThrows(DuplicateOrganizationException.class,
+                new DuplicateOrganizationException(nike, otherNike).getMessage(), ()
+                -> uniqueOrganizationList.setOrganizations(listWithCollidingOrganizations));
+        assertTrue(uniqueOrganizationList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void contains_afterMixedOperations_indexMatchesList() {
+        Organization puma = new OrganizationBuilder().withName("Puma").build();
+        uniqueOrganizationList.add(nike);
+        uniqueOrganizationList.add(adidas);
+        assertIndexMatchesList(nike, adidas, puma);
+
+        uniqueOrganizationList.setOrganization(adidas, puma);
+        assertIndexMatchesList(nike, adidas, puma);
+
+        uniqueOrganizationList.remove(nike);
+        assertIndexMatchesList(nike, adidas, puma);
+
+        // an organization with the same name but different fields is not removed
+        Organization editedPuma = new OrganizationBuilder(puma).withPhone("91234567").build();
+        assertThrows(OrganizationNotFoundException.class, () -> uniqueOrganizationList.remove(editedPuma));
+        assertIndexMatchesList(nike, adidas, puma);
+
+        uniqueOrganizationList.setOrganizations(Arrays.asList(nike, adidas));
+        assertIndexMatchesList(nike, adidas, puma);
+
+        UniqueOrganizationList replacement = new UniqueOrganizationList();
+        replacement.add(puma);
+        uniqueOrganizationList.setOrganizations(replacement);
+        assertIndexMatchesList(nike, adidas, puma);
+
+        Organization lowerCasePuma = new OrganizationBuilder(puma).withName("puma").build();
+        assertTrue(uniqueOrganizationList.contains(lowerCasePuma));
+    }
+
+    private void assertIndexMatchesList(Organization... candidates) {
+        for (Organization candidate : candidates) {
+            boolean inList = uniqueOrganizationList.asUnmodifiableObservableList().stream()
+                    .anyMatch(candidate::isSameOrganization);
+            assertEquals(inList, uniqueOrganizationList.contains(candidate));
+        }
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,130 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+class FuzzyIndexTest {
+
+    private static final List<String> VALUES = List.of("Lionel Messi", "LeBron James", "Cristiano Ronaldo",
+            "Serena Williams", "Roger Federer", "Basketball", "Football", "Swimming", "Nike", "Adidas",
+            "Under Armour", "Inter Miami", "Al", "O'Neil-Smith Jr", "Li Na");
+    private static final List<String> KEYWORDS = List.of("a", "li", "al", "nik", "nkie", "mesi", "messy",
+            "lebron", "jmaes", "ronaldo", "crstiano", "basketbal", "footbal", "swiming", "armor", "miami",
+            "serena williams", "roger federrer", "cristiano ronald", "oneil", "smith", "zzz", "xyzxyzxyzxyz");
+
+    @Test
+    void findMatches_variousKeywords_matchesFuzzyMatcher() {
+        FuzzyIndex index = new FuzzyIndex();
+        VALUES.forEach(value -> index.add(new SearchKey(value)));
+        assertIndexMatchesScan(index, VALUES);
+    }
+
+    @Test
+    void remove_values_matchesFuzzyMatcher() {
+        FuzzyIndex index = new FuzzyIndex();
+        List<String> indexed = new ArrayList<>(VALUES);
+        VALUES.forEach(value -> index.add(new SearchKey(value)));
+        for (String value : VALUES) {
+            index.remove(new SearchKey(value));
+            indexed.remove(value);
+            assertIndexMatchesScan(index, indexed);
+        }
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void remove_manyValues_rebuildsTreesAndMatchesFuzzyMatcher() {
+        FuzzyIndex index = new FuzzyIndex();
+        List<String> indexed = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            String value = VALUES.get(i % VALUES.size()) + " " + i;
+            index.add(new SearchKey(value));
+            indexed.add(value);
+        }
+        for (int i = 0; i < 250; i++) {
+            index.remove(new SearchKey(indexed.remove(0)));
+        }
+        assertIndexMatchesScan(index, indexed);
+    }
+
+    @Test
+    void remove_duplicateValue_keptUntilLastOccurrenceRemoved() {
+        FuzzyIndex index = new FuzzyIndex();
+        index.add(new SearchKey("Nike"));
+        index.add(new SearchKey("NIKE"));
+        index.remove(new SearchKey("Nike"));
+        assertEquals(Set.of("nike"), index.findMatches("nike"));
+
+        index.remove(new SearchKey("nike"));
+        assertTrue(index.findMatches("nike").isEmpty());
+
+        // removing a value that is not indexed does nothing
+        index.remove(new SearchKey("Adidas"));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void matcher_valueAddedAfterQuery_comparedDirectly() {
+        FuzzyIndex index = new FuzzyIndex();
+        index.add(new SearchKey("Nike"));
+        Predicate<SearchKey> matcher = index.matcher("nike");
+        index.add(new SearchKey("Nikee"));
+        index.remove(new SearchKey("Nike"));
+        index.add(new SearchKey("Adidas"));
+
+        assertTrue(matcher.test(new SearchKey("Nike")));
+        assertTrue(matcher.test(new SearchKey("Nikee")));
+        assertFalse(matcher.test(new SearchKey("Adidas")));
+        assertTrue(matcher.test(new SearchKey("NIKE Inc")));
+    }
+
+    @Test
+    void takeContentsOf_matcherCreatedBefore_comparesTakenOverValuesDirectly() {
+        FuzzyIndex index = new FuzzyIndex();
+        index.add(new SearchKey("Adidas"));
+        Predicate<SearchKey> matcher = index.matcher("nike");
+        FuzzyIndex loaded = new FuzzyIndex();
+        VALUES.forEach(value -> loaded.add(new SearchKey(value)));
+
+        index.takeContentsOf(loaded);
+        assertEquals(0, loaded.size());
+        assertIndexMatchesScan(index, VALUES);
+        assertTrue(matcher.test(new SearchKey("Nike")));
+        assertFalse(matcher.test(new SearchKey("Adidas")));
+    }
+
+    @Test
+    void clear_removesAllValues() {
+        FuzzyIndex index = new FuzzyIndex();
+        VALUES.forEach(value -> index.add(new SearchKey(value)));
+        index.clear();
+        assertEquals(0, index.size());
+        assertTrue(index.findMatches("messi").isEmpty());
+    }
+
+    private static void assertIndexMatchesScan(FuzzyIndex index, List<String> values) {
+        for (String keyword : KEYWORDS) {
+            Set<String> expected = new HashSet<>();
+            for (String value : values) {
+                if (FuzzyMatcher.matches(value.toLowerCase(), keyword)) {
+                    expected.add(value.toLowerCase());
+                }
+            }
+            assertEquals(expected, index.findMatches(keyword), "keyword: " + keyword);
+
+            Predicate<SearchKey> matcher = index.matcher(keyword);
+            for (String value : values) {
+                assertEquals(FuzzyMatcher.matches(value.toLowerCase(), keyword), matcher.test(new SearchKey(value)));
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+class FuzzyMatcherTest {
+
+    private static final Pattern WORD_PATTERN = Pattern.compile("[\\p{Alnum}]+");
+    private static final String ALPHABET = "abcde -'1";
+
+    @Test
+    void levenshteinDistance_knownPairs() {
+        assertEquals(0, FuzzyMatcher.levenshteinDistance("messi", "messi"));
+        assertEquals(3, FuzzyMatcher.levenshteinDistance("kitten", "sitting"));
+        assertEquals(5, FuzzyMatcher.levenshteinDistance("", "messi"));
+        assertEquals(5, FuzzyMatcher.levenshteinDistance("messi", ""));
+    }
+
+    @Test
+    void boundedDistance_knownPairs() {
+        assertEquals(3, FuzzyMatcher.boundedDistance("kitten", "sitting", 3));
+        assertEquals(3, FuzzyMatcher.boundedDistance("kitten", "sitting", 2));
+        assertEquals(2, FuzzyMatcher.boundedDistance("a", "abcdef", 1));
+        assertTrue(FuzzyMatcher.isWithinDistance("lionel", "lionle", 2));
+        assertFalse(FuzzyMatcher.isWithinDistance("lionel", "messi", 4));
+    }
+
+    @Test
+    void boundedDistance_randomPairs_matchesFullDistance() {
+        Random random = new Random(2103);
+        for (int trial = 0; trial < 5000; trial++) {
+            String left = randomString(random, 12);
+            String right = randomString(random, 12);
+            int fullDistance = FuzzyMatcher.levenshteinDistance(left, right);
+            for (int maxDistance = 0; maxDistance <= 4; maxDistance++) {
+                assertEquals(Math.min(fullDistance, maxDistance + 1),
+                        FuzzyMatcher.boundedDistance(left, right, maxDistance), left + " / " + right);
+            }
+        }
+    }
+
+    @Test
+    void matches_randomPairs_matchesUnboundedMatching() {
+        Random random = new Random(2113);
+        for (int trial = 0; trial < 5000; trial++) {
+            String haystack = randomString(random, 20);
+            String needle = randomString(random, 13).trim();
+            boolean expected = matchesUnbounded(haystack, needle);
+            assertEquals(expected, FuzzyMatcher.matches(haystack, needle), haystack + " / " + needle);
+            assertEquals(expected, FuzzyMatcher.matches(new SearchKey(haystack), needle), haystack + " / " + needle);
+        }
+    }
+
+    @Test
+    void words_splitsOnNonAlphanumericCharacters() {
+        assertEquals(List.of("o", "neil", "smith", "jr2"),
+                List.copyOf(FuzzyMatcher.words("o'neil-smith  jr2.")));
+    }
+
+    /** The matching rules computed with the full distance and a regex tokenizer. */
+    private static boolean matchesUnbounded(String haystack, String needle) {
+        if (haystack.contains(needle)) {
+            return true;
+        }
+        int allowedDistance = FuzzyMatcher.allowableDistance(needle.length());
+        if (allowedDistance == 0) {
+            return false;
+        }
+        if (FuzzyMatcher.levenshteinDistance(haystack, needle) <= allowedDistance) {
+            return true;
+        }
+        Matcher matcher = WORD_PATTERN.matcher(haystack);
+        while (matcher.find()) {
+            if (FuzzyMatcher.levenshteinDistance(matcher.group(), needle) <= allowedDistance) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String randomString(Random random, int maxLength) {
+        int length = random.nextInt(maxLength + 1);
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalOrganizations.ADIDAS;
+import static seedu.address.testutil.TypicalOrganizations.NIKE;
+import static seedu.address.testutil.athlete.TypicalAthletes.ALICE;
+import static seedu.address.testutil.athlete.TypicalAthletes.BENSON;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.athlete.Athlete;
+import seedu.address.testutil.athlete.AthleteBuilder;
+
+class SearchIndexTest {
+
+    @Test
+    void addAthlete_nullAthlete_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SearchIndex().addAthlete(null));
+    }
+
+    @Test
+    void resetData_replacesIndexedValues() {
+        SearchIndex index = new SearchIndex(List.of(ALICE), List.of(NIKE));
+        index.resetData(List.of(BENSON), List.of(ADIDAS));
+
+        assertTrue(index.getAthleteNames().findMatches("alice").isEmpty());
+        assertEquals(Set.of(BENSON.getName().fullName.toLowerCase()),
+                index.getAthleteNames().findMatches("benson"));
+        assertTrue(index.getOrganizationNames().findMatches("nike").isEmpty());
+        assertEquals(1, index.getOrganizationNames().size());
+    }
+
+    @Test
+    void removeAthlete_sharedSport_keptUntilLastAthleteRemoved() {
+        Athlete aliceSwimmer = new AthleteBuilder(ALICE).withSport("Swimming").build();
+        Athlete bensonSwimmer = new AthleteBuilder(BENSON).withSport("Swimming").build();
+        SearchIndex index = new SearchIndex(List.of(aliceSwimmer, bensonSwimmer), List.of());
+
+        index.removeAthlete(aliceSwimmer);
+        assertEquals(Set.of("swimming"), index.getAthleteSports().findMatches("swim"));
+        assertEquals(1, index.getAthleteNames().size());
+
+        index.removeAthlete(bensonSwimmer);
+        assertTrue(index.getAthleteSports().findMatches("swim").isEmpty());
+    }
+}
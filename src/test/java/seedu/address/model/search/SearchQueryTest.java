@@ -0,0 +1,175 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+class SearchQueryTest {
+
+    private final Model model = new ModelManager();
+
+    @Test
+    void constructor_emptyAlternative_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SearchQuery<Integer>(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new SearchQuery<Integer>(List.of(List.of())));
+    }
+
+    @Test
+    void plan_conjunction_testsCheapSelectiveClausesFirst() {
+        CountingClause expensive = new CountingClause(i -> i % 2 == 0, 0.01, true);
+        CountingClause cheapBroad = new CountingClause(i -> i < 90, 0.9, false);
+        CountingClause cheapNarrow = new CountingClause(i -> i < 10, 0.1, false);
+        Predicate<Integer> predicate = new SearchQuery<>(List.of(List.<SearchClause<Integer>>of(
+                expensive, cheapBroad, cheapNarrow))).plan(model);
+
+        int matches = 0;
+        for (int i = 0; i < 100; i++) {
+            if (predicate.test(i)) {
+                matches++;
+            }
+        }
+
+        assertEquals(5, matches);
+        assertEquals(100, cheapNarrow.tests.get());
+        assertEquals(10, cheapBroad.tests.get());
+        assertEquals(10, expensive.tests.get());
+    }
+
+    @Test
+    void plan_selectiveIndexedClause_testsOtherClausesOnlyOnCandidates() {
+        // Values outside the Integer cache, so that equal values can be distinct entities
+        List<Integer> elements = IntStream.range(1000, 1100).boxed().collect(Collectors.toList());
+        CountingClause indexed = new CountingClause(i -> i < 1010, 0.1, false, elements.subList(0, 10));
+        CountingClause expensive = new CountingClause(i -> i % 2 == 0, 0.5, true);
+        Predicate<Integer> predicate = new SearchQuery<>(List.of(List.<SearchClause<Integer>>of(
+                expensive, indexed))).plan(model);
+        assertEquals(1, indexed.candidateLookups.get());
+        assertEquals(10, expensive.tests.get());
+
+        long matches = elements.stream().filter(predicate).count();
+        assertEquals(5, matches);
+        assertEquals(10, expensive.tests.get());
+
+        // An entity added after planning is tested against the clauses
+        Integer added = Integer.valueOf(1004);
+        assertTrue(predicate.test(added));
+        assertEquals(11, expensive.tests.get());
+        assertFalse(predicate.test(Integer.valueOf(1003)));
+    }
+
+    @Test
+    void plan_manyCandidates_matchesSequentialEvaluation() {
+        int size = SearchQuery.PARALLEL_CANDIDATE_THRESHOLD * 5;
+        List<Integer> elements = IntStream.range(0, size).boxed().collect(Collectors.toList());
+        List<Integer> multiplesOfFive = elements.stream().filter(i -> i % 5 == 0).collect(Collectors.toList());
+        CountingClause indexed = new CountingClause(i -> i % 5 == 0, 0.2, false, multiplesOfFive);
+        CountingClause expensive = new CountingClause(i -> i % 7 == 0, 0.1, true);
+        Predicate<Integer> predicate = new SearchQuery<>(List.of(List.<SearchClause<Integer>>of(
+                expensive, indexed))).plan(model);
+
+        assertEquals(multiplesOfFive.size(), expensive.tests.get());
+        for (Integer element : elements) {
+            assertEquals(element % 35 == 0, predicate.test(element));
+        }
+    }
+
+    @Test
+    void plan_broadIndexedClause_testsEveryEntity() {
+        List<Integer> elements = IntStream.range(1000, 1100).boxed().collect(Collectors.toList());
+        CountingClause indexed = new CountingClause(i -> i < 1090, 0.9, false, elements.subList(0, 90));
+        CountingClause expensive = new CountingClause(i -> i % 2 == 0, 0.5, true);
+        Predicate<Integer> predicate = new SearchQuery<>(List.of(List.<SearchClause<Integer>>of(
+                expensive, indexed))).plan(model);
+
+        assertEquals(45, elements.stream().filter(predicate).count());
+        assertEquals(0, indexed.candidateLookups.get());
+        assertEquals(100, indexed.tests.get());
+    }
+
+    @Test
+    void plan_disjunction_matchesAnyAlternative() {
+        CountingClause small = new CountingClause(i -> i < 3, 0.03, false);
+        CountingClause large = new CountingClause(i -> i > 96, 0.03, false);
+        CountingClause even = new CountingClause(i -> i % 2 == 0, 0.5, false);
+        Predicate<Integer> predicate = new SearchQuery<>(List.of(
+                List.<SearchClause<Integer>>of(small),
+                List.<SearchClause<Integer>>of(large, even))).plan(model);
+
+        assertTrue(predicate.test(1));
+        assertTrue(predicate.test(98));
+        assertFalse(predicate.test(97));
+        assertFalse(predicate.test(50));
+    }
+
+    @Test
+    void equals() {
+        SearchQuery<?> nikeQuery = SearchQuery.of(FuzzyClause.organizationName("Nike"));
+
+        // same object -> returns true
+        assertTrue(nikeQuery.equals(nikeQuery));
+
+        // keyword differs in casing -> returns true
+        assertTrue(nikeQuery.equals(SearchQuery.of(FuzzyClause.organizationName("NIKE"))));
+
+        // different field -> returns false
+        assertFalse(nikeQuery.equals(SearchQuery.of(FuzzyClause.contractOrganizationName("Nike"))));
+
+        // different clause type -> returns false
+        assertFalse(nikeQuery.equals(SearchQuery.of(ContractRangeClause.amount(null, null))));
+
+        // null -> returns false
+        assertFalse(nikeQuery.equals(null));
+    }
+
+    /**
+     * A clause with a fixed plan that counts how many times its predicate is tested, and how many times its
+     * candidates are listed if it is indexed.
+     */
+    private static class CountingClause implements SearchClause<Integer> {
+        private final AtomicInteger tests = new AtomicInteger();
+        private final AtomicInteger candidateLookups = new AtomicInteger();
+        private final Predicate<Integer> predicate;
+        private final double selectivity;
+        private final boolean isExpensive;
+        private final List<Integer> candidates;
+
+        CountingClause(Predicate<Integer> predicate, double selectivity, boolean isExpensive) {
+            this(predicate, selectivity, isExpensive, null);
+        }
+
+        CountingClause(Predicate<Integer> predicate, double selectivity, boolean isExpensive,
+                       List<Integer> candidates) {
+            this.predicate = predicate;
+            this.selectivity = selectivity;
+            this.isExpensive = isExpensive;
+            this.candidates = candidates;
+        }
+
+        @Override
+        public PlannedClause<Integer> plan(Model model) {
+            Predicate<Integer> countingPredicate = i -> {
+                tests.incrementAndGet();
+                return predicate.test(i);
+            };
+            if (candidates == null) {
+                return new PlannedClause<>(countingPredicate, selectivity, isExpensive);
+            }
+            return new PlannedClause<>(countingPredicate, selectivity, isExpensive, () -> {
+                candidateLookups.incrementAndGet();
+                return candidates;
+            });
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.athlete.Athlete;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.organization.Organization;
+
+public class SyntheticDataGeneratorTest {
+
+    @Test
+    public void generate_sameSeed_sameData() {
+        SyntheticDataGenerator first = new SyntheticDataGenerator(42);
+        SyntheticDataGenerator second = new SyntheticDataGenerator(42);
+
+        List<Athlete> athletes = first.generateAthletes(100);
+        List<Organization> organizations = first.generateOrganizations(10);
+        assertEquals(athletes, second.generateAthletes(100));
+        assertEquals(organizations, second.generateOrganizations(10));
+        assertEquals(first.generateContracts(200, athletes, organizations),
+                second.generateContracts(200, athletes, organizations));
+    }
+
+    @Test
+    public void generate_differentSeed_differentData() {
+        assertNotEquals(new SyntheticDataGenerator(1).generateAthletes(100),
+                new SyntheticDataGenerator(2).generateAthletes(100));
+    }
+
+    @Test
+    public void generate_manyEntities_validAddressBook() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(7);
+        // More athletes and organizations than there are name combinations, so that suffixes are needed
+        List<Athlete> athletes = generator.generateAthletes(5000);
+        List<Organization> organizations = generator.generateOrganizations(500);
+        List<Contract> contracts = generator.generateContracts(10000, athletes, organizations);
+
+        // The unique lists reject duplicates, so this checks that all the entities are distinct
+        AddressBook addressBook = new AddressBook();
+        addressBook.setAthletes(athletes);
+        addressBook.setOrganizations(organizations);
+        addressBook.setContracts(contracts);
+        assertEquals(5000, addressBook.getAthleteList().size());
+        assertEquals(500, addressBook.getOrganizationList().size());
+        assertEquals(10000, addressBook.getContractList().size());
+
+        for (Contract contract : contracts) {
+            assertEquals(contract.getAthlete().getSport(), contract.getSport());
+            assertFalse(contract.getStartDate().isAfter(contract.getEndDate()));
+        }
+    }
+}
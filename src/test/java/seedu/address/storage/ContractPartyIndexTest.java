@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.TypicalOrganizations.ADIDAS;
+import static seedu.address.testutil.TypicalOrganizations.NIKE;
+import static seedu.address.testutil.athlete.TypicalAthletes.ALICE;
+import static seedu.address.testutil.athlete.TypicalAthletes.BENSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.athlete.Athlete;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractList;
+import seedu.address.model.organization.Organization;
+import seedu.address.testutil.OrganizationBuilder;
+import seedu.address.testutil.athlete.AthleteBuilder;
+import seedu.address.testutil.contract.ContractBuilder;
+
+public class ContractPartyIndexTest {
+
+    private final ContractPartyIndex index = new ContractPartyIndex(List.of(ALICE, BENSON), List.of(NIKE, ADIDAS));
+
+    @Test
+    public void findAthlete() {
+        Athlete aliceCopy = new AthleteBuilder(ALICE).build();
+        assertSame(ALICE, index.findAthlete(aliceCopy.getName(), aliceCopy.getSport()).get());
+        assertFalse(index.findAthlete(ALICE.getName(), BENSON.getSport()).isPresent());
+    }
+
+    @Test
+    public void findOrganization() {
+        Organization nikeCopy = new OrganizationBuilder(NIKE).build();
+        assertSame(NIKE, index.findOrganization(nikeCopy.getName()).get());
+    }
+
+    @Test
+    public void intern_copiesOfStoredParties_returnsContractWithStoredInstances() {
+        Contract contract = new ContractBuilder().withAthlete(new AthleteBuilder(ALICE).build())
+                .withOrganization(new OrganizationBuilder(NIKE).build()).build();
+
+        Contract interned = index.intern(contract);
+        assertEquals(contract, interned);
+        assertSame(ALICE, interned.getAthlete());
+        assertSame(NIKE, interned.getOrganization());
+    }
+
+    @Test
+    public void intern_storedParties_returnsSameContract() {
+        Contract contract = new ContractBuilder().withAthlete(ALICE).withOrganization(NIKE).build();
+        assertSame(contract, index.intern(contract));
+    }
+
+    @Test
+    public void intern_partyDiffersFromStored_keepsParty() {
+        Athlete editedAlice = new AthleteBuilder(ALICE).withPhone("99999999").build();
+        Contract contract = new ContractBuilder().withAthlete(editedAlice).withOrganization(NIKE).build();
+
+        Contract interned = index.intern(contract);
+        assertSame(editedAlice, interned.getAthlete());
+        assertNotSame(ALICE, interned.getAthlete());
+    }
+
+    @Test
+    public void intern_contractList_internsEveryContract() {
+        ContractList contracts = new ContractList();
+        contracts.addContract(new ContractBuilder().withAthlete(new AthleteBuilder(ALICE).build())
+                .withOrganization(NIKE).build());
+        contracts.addContract(new ContractBuilder().withAthlete(new AthleteBuilder(BENSON).build())
+                .withOrganization(new OrganizationBuilder(ADIDAS).build()).build());
+
+        ContractList interned = index.intern(contracts);
+        assertEquals(contracts.getContractList(), interned.getContractList());
+        assertSame(ALICE, interned.getContractList().get(0).getAthlete());
+        assertSame(BENSON, interned.getContractList().get(1).getAthlete());
+        assertSame(ADIDAS, interned.getContractList().get(1).getOrganization());
+    }
+}
@@ -0,0 +1,299 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalOrganizations.ADIDAS;
+import static seedu.address.testutil.TypicalOrganizations.NIKE;
+import static seedu.address.testutil.athlete.TypicalAthletes.ALICE;
+import static seedu.address.testutil.athlete.TypicalAthletes.BENSON;
+import static seedu.address.testutil.athlete.TypicalAthletes.CARL;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.athlete.Athlete;
+import seedu.address.model.athlete.AthleteList;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractList;
+import seedu.address.model.organization.Organization;
+import seedu.address.model.organization.OrganizationList;
+import seedu.address.testutil.OrganizationBuilder;
+import seedu.address.testutil.contract.ContractBuilder;
+
+public class JournalStorageManagerTest {
+
+    private static final Contract ALICE_NIKE = new ContractBuilder().withAthlete(ALICE).withOrganization(NIKE).build();
+
+    @TempDir
+    public Path testFolder;
+
+    private StorageManager fileStorage;
+    private Path snapshotFile;
+    private Path journalFile;
+
+    @BeforeEach
+    public void setUp() {
+        fileStorage = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("ab")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonAthleteListStorage(testFolder.resolve("athletes")),
+                new JsonContractListStorage(testFolder.resolve("contracts"),
+                        testFolder.resolve("athletes"), testFolder.resolve("organizations")),
+                new JsonOrganizationListStorage(testFolder.resolve("organizations")));
+        snapshotFile = testFolder.resolve("snapshot.json");
+        journalFile = testFolder.resolve("journal.jsonl");
+    }
+
+    private JournalStorageManager createStorage(int compactionThreshold) {
+        return new JournalStorageManager(fileStorage, snapshotFile, journalFile, compactionThreshold);
+    }
+
+    @Test
+    public void read_noStoredData_returnsEmpty() throws Exception {
+        JournalStorageManager storage = createStorage(100);
+        assertFalse(storage.readAthleteList().isPresent());
+        assertFalse(storage.readContractList().isPresent());
+        assertFalse(storage.readOrganizationList().isPresent());
+    }
+
+    @Test
+    public void save_changedLists_appendsOnlyChanges() throws Exception {
+        JournalStorageManager storage = createStorage(100);
+        storage.saveAthleteList(athletes(ALICE, BENSON));
+        storage.saveOrganizationList(organizations(NIKE));
+        assertEquals(3, countJournalRecords());
+
+        // unchanged list writes nothing
+        storage.saveAthleteList(athletes(ALICE, BENSON));
+        assertEquals(3, countJournalRecords());
+
+        // one deletion and one addition
+        storage.saveAthleteList(athletes(ALICE, CARL));
+        assertEquals(5, countJournalRecords());
+        assertFalse(Files.exists(snapshotFile));
+    }
+
+    @Test
+    public void read_afterSaves_replaysJournal() throws Exception {
+        JournalStorageManager storage = createStorage(100);
+        storage.saveAthleteList(athletes(ALICE, BENSON));
+        storage.saveOrganizationList(organizations(NIKE, ADIDAS));
+        storage.saveContractList(contracts(ALICE_NIKE));
+        storage.saveAthleteList(athletes(ALICE));
+        storage.saveOrganizationList(organizations(NIKE));
+
+        JournalStorageManager reopened = createStorage(100);
+        assertEquals(List.of(ALICE), reopened.readAthleteList().get().getAthleteList());
+        assertEquals(List.of(NIKE), reopened.readOrganizationList().get().getOrganizationList());
+        assertEquals(List.of(ALICE_NIKE), reopened.readContractList().get().getContractList());
+    }
+
+    @Test
+    public void readDataFiles_afterSaves_contractsShareListedParties() throws Exception {
+        JournalStorageManager storage = createStorage(100);
+        storage.saveAthleteList(athletes(ALICE, BENSON));
+        storage.saveOrganizationList(organizations(NIKE));
+        storage.saveContractList(contracts(ALICE_NIKE));
+
+        StoredData storedData = createStorage(100).readDataFiles();
+        Athlete alice = storedData.getAthleteList().get().getAthleteList().get(0);
+        Organization nike = storedData.getOrganizationList().get().getOrganizationList().get(0);
+        Contract contract = storedData.getContractList().get().getContractList().get(0);
+        assertEquals(ALICE_NIKE, contract);
+        assertSame(alice, contract.getAthlete());
+        assertSame(nike, contract.getOrganization());
+    }
+
+    @Test
+    public void save_journalReachesThreshold_compactsIntoSnapshot() throws Exception {
+        JournalStorageManager storage = createStorage(3);
+        storage.saveAthleteList(athletes(ALICE, BENSON));
+        assertFalse(Files.exists(snapshotFile));
+
+        storage.saveOrganizationList(organizations(NIKE));
+        assertTrue(Files.exists(snapshotFile));
+        assertFalse(Files.exists(journalFile));
+
+        storage.saveContractList(contracts(ALICE_NIKE));
+        assertEquals(1, countJournalRecords());
+
+        JournalStorageManager reopened = createStorage(3);
+        assertEquals(List.of(ALICE, BENSON), reopened.readAthleteList().get().getAthleteList());
+        assertEquals(List.of(ALICE_NIKE), reopened.readContractList().get().getContractList());
+    }
+
+    @Test
+    public void read_noSnapshot_usesExistingListFiles() throws Exception {
+        fileStorage.saveAthleteList(athletes(ALICE));
+        fileStorage.saveOrganizationList(organizations(NIKE));
+        fileStorage.saveContractList(contracts(ALICE_NIKE));
+
+        JournalStorageManager storage = createStorage(100);
+        storage.saveAthleteList(athletes(ALICE, BENSON));
+        assertEquals(1, countJournalRecords());
+
+        JournalStorageManager reopened = createStorage(100);
+        assertEquals(List.of(ALICE, BENSON), reopened.readAthleteList().get().getAthleteList());
+        assertEquals(List.of(ALICE_NIKE), reopened.readContractList().get().getContractList());
+    }
+
+    @Test
+    public void read_incompleteLastRecord_skipsRecord() throws Exception {
+        JournalStorageManager storage = createStorage(100);
+        storage.saveAthleteList(athletes(ALICE));
+        Files.writeString(journalFile, "{\"operation\":\"ADD\",\"athl", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        JournalStorageManager reopened = createStorage(100);
+        assertEquals(List.of(ALICE), reopened.readAthleteList().get().getAthleteList());
+
+        // the next save starts a clean journal rather than appending to the incomplete record
+        reopened.saveAthleteList(athletes(ALICE, BENSON));
+        assertTrue(Files.exists(snapshotFile));
+        assertEquals(List.of(ALICE, BENSON), createStorage(100).readAthleteList().get().getAthleteList());
+    }
+
+    @Test
+    public void read_invalidRecordBeforeLast_throwsDataLoadingException() throws Exception {
+        JournalStorageManager storage = createStorage(100);
+        storage.saveAthleteList(athletes(ALICE));
+        List<String> records = Files.readAllLines(journalFile);
+        Files.write(journalFile, List.of("not a record", records.get(0)));
+
+        assertThrows(DataLoadingException.class, () -> createStorage(100).readAthleteList());
+    }
+
+    @Test
+    public void save_contractBeforeItsOrganization_holdsContractBack() throws Exception {
+        JournalStorageManager storage = createStorage(100);
+        storage.saveAthleteList(athletes(ALICE));
+        storage.saveContractList(contracts(ALICE_NIKE));
+        assertEquals(1, countJournalRecords());
+        assertTrue(createStorage(100).readContractList().get().getContractList().isEmpty());
+
+        storage.saveOrganizationList(organizations(NIKE));
+        assertEquals(3, countJournalRecords());
+        assertEquals(List.of(ALICE_NIKE), createStorage(100).readContractList().get().getContractList());
+    }
+
+    @Test
+    public void save_organizationBeforeItsContracts_holdsDeleteBack() throws Exception {
+        JournalStorageManager storage = createStorage(100);
+        storage.saveAthleteList(athletes(ALICE));
+        storage.saveOrganizationList(organizations(NIKE));
+        storage.saveContractList(contracts(ALICE_NIKE));
+
+        storage.saveOrganizationList(organizations());
+        assertEquals(List.of(NIKE), createStorage(100).readOrganizationList().get().getOrganizationList());
+
+        storage.saveContractList(contracts());
+        assertTrue(createStorage(100).readOrganizationList().get().getOrganizationList().isEmpty());
+        assertTrue(createStorage(100).readContractList().get().getContractList().isEmpty());
+    }
+
+    @Test
+    public void read_journalTruncatedAfterContractSave_loadsEveryPrefix() throws Exception {
+        JournalStorageManager storage = createStorage(100);
+        storage.saveAthleteList(athletes(ALICE));
+        // A new organization and a contract with it are saved in the order the lists are saved after a command
+        storage.saveContractList(contracts(ALICE_NIKE));
+        storage.saveOrganizationList(organizations(NIKE));
+        List<String> records = Files.readAllLines(journalFile);
+
+        for (int length = 0; length <= records.size(); length++) {
+            Files.write(journalFile, records.subList(0, length));
+            JournalStorageManager reopened = createStorage(100);
+            List<Organization> organizations = reopened.readOrganizationList().get().getOrganizationList();
+            for (Contract contract : reopened.readContractList().get().getContractList()) {
+                assertTrue(organizations.contains(contract.getOrganization()));
+            }
+        }
+        assertEquals(List.of(ALICE_NIKE), createStorage(100).readContractList().get().getContractList());
+    }
+
+    @Test
+    public void read_journalTruncatedAfterOrganizationEdit_loadsEveryPrefix() throws Exception {
+        JournalStorageManager storage = createStorage(100);
+        storage.saveAthleteList(athletes(ALICE));
+        storage.saveOrganizationList(organizations(NIKE));
+        storage.saveContractList(contracts(ALICE_NIKE));
+        int recordsBeforeEdit = Files.readAllLines(journalFile).size();
+
+        // Editing an organization replaces it and its contracts, with the contracts saved first
+        Organization editedNike = new OrganizationBuilder(NIKE).withPhone("61234567").build();
+        Contract editedContract = new ContractBuilder(ALICE_NIKE).withOrganization(editedNike).build();
+        storage.saveContractList(contracts(editedContract));
+        storage.saveOrganizationList(organizations(editedNike));
+        List<String> records = Files.readAllLines(journalFile);
+
+        for (int length = recordsBeforeEdit; length <= records.size(); length++) {
+            Files.write(journalFile, records.subList(0, length));
+            JournalStorageManager reopened = createStorage(100);
+            List<Organization> organizations = reopened.readOrganizationList().get().getOrganizationList();
+            assertTrue(organizations.size() <= 1);
+            for (Contract contract : reopened.readContractList().get().getContractList()) {
+                assertTrue(organizations.contains(contract.getOrganization()));
+            }
+        }
+        assertEquals(List.of(editedContract), createStorage(100).readContractList().get().getContractList());
+    }
+
+    @Test
+    public void read_contractWithoutOrganizationRecord_dropsContract() throws Exception {
+        JournalStorageManager storage = createStorage(100);
+        storage.saveAthleteList(athletes(ALICE, BENSON));
+        storage.saveOrganizationList(organizations(NIKE));
+        storage.saveContractList(contracts(ALICE_NIKE));
+        List<String> records = Files.readAllLines(journalFile);
+        Files.write(journalFile, List.of(records.get(0), records.get(1), records.get(3)));
+
+        JournalStorageManager reopened = createStorage(100);
+        assertEquals(List.of(ALICE, BENSON), reopened.readAthleteList().get().getAthleteList());
+        assertTrue(reopened.readContractList().get().getContractList().isEmpty());
+    }
+
+    @Test
+    public void save_afterFailedRead_keepsStoredData() throws Exception {
+        Files.writeString(snapshotFile, "not a snapshot");
+        Files.writeString(journalFile, "not a journal\n");
+        JournalStorageManager storage = createStorage(1);
+        assertThrows(DataLoadingException.class, storage::readAthleteList);
+
+        assertThrows(IOException.class, () -> storage.saveAthleteList(athletes(BENSON)));
+        assertEquals("not a snapshot", Files.readString(snapshotFile));
+        assertEquals("not a journal\n", Files.readString(journalFile));
+    }
+
+    private long countJournalRecords() throws Exception {
+        return Files.readAllLines(journalFile).stream().filter(line -> !line.isBlank()).count();
+    }
+
+    private static AthleteList athletes(Athlete... athletes) {
+        AthleteList list = new AthleteList();
+        list.setAthletes(List.of(athletes));
+        return list;
+    }
+
+    private static OrganizationList organizations(Organization... organizations) {
+        OrganizationList list = new OrganizationList();
+        list.setOrganizations(List.of(organizations));
+        return list;
+    }
+
+    private static ContractList contracts(Contract... contracts) {
+        ContractList list = new ContractList();
+        list.setContracts(List.of(contracts));
+        return list;
+    }
+}
@@ -1,16 +1,22 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.storage.JsonAdaptedContract.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.contract.TypicalContracts.MESSI_MIAMI;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.athlete.Athlete;
 import seedu.address.model.athlete.Sport;
 import seedu.address.model.contract.Amount;
+import seedu.address.model.contract.Contract;
 import seedu.address.model.contract.Date8;
+import seedu.address.testutil.athlete.AthleteBuilder;
 
 /**
  * Tests for {@link JsonAdaptedContract}.
@@ -134,4 +140,37 @@ public class JsonAdaptedContractTest {
                 VALID_ATHLETE, VALID_SPORT, invalidOrganization, VALID_START_DATE, VALID_END_DATE, VALID_AMOUNT);
         assertThrows(IllegalValueException.class, contract::toModelType);
     }
+
+    @Test
+    public void toModelType_normalizedContractWithParties_returnsContract() throws Exception {
+        JsonAdaptedContract contract = JsonAdaptedContract.normalized(MESSI_MIAMI);
+        ContractPartyIndex parties = new ContractPartyIndex(List.of(MESSI_MIAMI.getAthlete()),
+                List.of(MESSI_MIAMI.getOrganization()));
+        Contract modelContract = contract.toModelType(parties);
+        assertEquals(MESSI_MIAMI, modelContract);
+        assertSame(MESSI_MIAMI.getAthlete(), modelContract.getAthlete());
+        assertSame(MESSI_MIAMI.getOrganization(), modelContract.getOrganization());
+    }
+
+    @Test
+    public void toModelType_normalizedContractWithoutParties_throwsIllegalValueException() {
+        JsonAdaptedContract contract = JsonAdaptedContract.normalized(MESSI_MIAMI);
+        assertThrows(IllegalValueException.class, String.format(MISSING_FIELD_MESSAGE_FORMAT, "Athlete"),
+                contract::toModelType);
+
+        ContractPartyIndex noAthletes = new ContractPartyIndex(List.of(), List.of(MESSI_MIAMI.getOrganization()));
+        assertThrows(IllegalValueException.class, () -> contract.toModelType(noAthletes));
+
+        ContractPartyIndex noOrganizations = new ContractPartyIndex(List.of(MESSI_MIAMI.getAthlete()), List.of());
+        assertThrows(IllegalValueException.class, () -> contract.toModelType(noOrganizations));
+    }
+
+    @Test
+    public void toModelType_embeddedAthleteDiffersFromStored_throwsIllegalValueException() {
+        JsonAdaptedContract contract = new JsonAdaptedContract(MESSI_MIAMI);
+        Athlete storedAthlete = new AthleteBuilder(MESSI_MIAMI.getAthlete()).withPhone("99999999").build();
+        ContractPartyIndex parties = new ContractPartyIndex(List.of(storedAthlete),
+                List.of(MESSI_MIAMI.getOrganization()));
+        assertThrows(IllegalValueException.class, () -> contract.toModelType(parties));
+    }
 }
@@ -7,6 +7,7 @@ import static seedu.address.testutil.athlete.TypicalAthletes.ALICE;
 import static seedu.address.testutil.athlete.TypicalAthletes.getTypicalAthletes;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Optional;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.athlete.Athlete;
 import seedu.address.model.athlete.AthleteList;
 import seedu.address.model.athlete.ReadOnlyAthleteList;
@@ -93,6 +95,48 @@ public class JsonAthleteListStorageTest {
         assertEquals(original.getAthleteList(), readBack.getAthleteList());
     }
 
+    @Test
+    public void saveAthleteList_existingFile_keepsBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAthleteList.json");
+        JsonAthleteListStorage jsonAthleteListStorage = new JsonAthleteListStorage(filePath);
+        AthleteList original = new AthleteList();
+        original.setAthletes(getTypicalAthletes());
+        jsonAthleteListStorage.saveAthleteList(original);
+        assertFalse(Files.exists(FileUtil.getBackupPath(filePath)));
+
+        AthleteList edited = new AthleteList(original);
+        edited.removeAthlete(ALICE);
+        jsonAthleteListStorage.saveAthleteList(edited);
+        assertEquals(original.getAthleteList(),
+                jsonAthleteListStorage.readAthleteList(FileUtil.getBackupPath(filePath)).get().getAthleteList());
+    }
+
+    @Test
+    public void readAthleteList_corruptOrMissingFile_readsBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAthleteList.json");
+        JsonAthleteListStorage jsonAthleteListStorage = new JsonAthleteListStorage(filePath);
+        AthleteList original = new AthleteList();
+        original.setAthletes(getTypicalAthletes());
+        jsonAthleteListStorage.saveAthleteList(original);
+        jsonAthleteListStorage.saveAthleteList(new AthleteList());
+
+        // a save cut short leaves an incomplete file
+        Files.writeString(filePath, "{ \"athletes\" : [ {");
+        assertEquals(original.getAthleteList(), jsonAthleteListStorage.readAthleteList().get().getAthleteList());
+
+        // a crash between replacing the backup and moving in the new file leaves only the backup
+        Files.delete(filePath);
+        assertEquals(original.getAthleteList(), jsonAthleteListStorage.readAthleteList().get().getAthleteList());
+    }
+
+    @Test
+    public void readAthleteList_corruptFileAndBackup_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAthleteList.json");
+        Files.writeString(filePath, "not json");
+        Files.writeString(FileUtil.getBackupPath(filePath), "not json either");
+        assertThrows(DataLoadingException.class, () -> new JsonAthleteListStorage(filePath).readAthleteList());
+    }
+
     @Test
     public void saveAthleteList_nullAthleteList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAthleteList(null, "SomeFile.json"));
@@ -1,25 +1,42 @@
 package seedu.address.storage;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalOrganizations.NIKE;
+import static seedu.address.testutil.athlete.TypicalAthletes.ALICE;
+import static seedu.address.testutil.athlete.TypicalAthletes.BENSON;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.athlete.AthleteList;
+import seedu.address.model.contract.Contract;
 import seedu.address.model.contract.ContractList;
 import seedu.address.model.contract.ReadOnlyContractList;
+import seedu.address.model.organization.OrganizationList;
+import seedu.address.testutil.contract.ContractBuilder;
 
 public class JsonContractListStorageTest {
 
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data",
             "JsonContractListStorageTest");
 
+    private static final Contract ALICE_NIKE = new ContractBuilder().withAthlete(ALICE).withOrganization(NIKE).build();
+
     @TempDir
     public Path testFolder;
 
@@ -92,4 +109,85 @@ public class JsonContractListStorageTest {
         assertThrows(NullPointerException.class, () -> saveContractList(new ContractList(),
             null, "SomeFile.json", "SomeFile.json"));
     }
+
+    @Test
+    public void readAndSaveContractList_normalizedFormat_success() throws Exception {
+        JsonContractListStorage storage = createStorageWithParties();
+        ContractList original = new ContractList();
+        original.addContract(ALICE_NIKE);
+
+        storage.saveContractList(original);
+        String savedContracts = Files.readString(storage.getContractListFilePath());
+        assertFalse(savedContracts.contains(ALICE.getEmail().value));
+        assertFalse(savedContracts.contains(NIKE.getEmail().value));
+
+        ReadOnlyContractList readBack = storage.readContractList().get();
+        assertEquals(original.getContractList(), readBack.getContractList());
+    }
+
+    @Test
+    public void readContractList_embeddedFormat_migratesFile() throws Exception {
+        JsonContractListStorage storage = createStorageWithParties();
+        JsonUtil.saveJsonFile(new JsonSerializableContractList(List.of(new JsonAdaptedContract(ALICE_NIKE))),
+                storage.getContractListFilePath());
+
+        assertEquals(List.of(ALICE_NIKE), storage.readContractList().get().getContractList());
+        JsonSerializableContractList migrated = JsonUtil.readJsonFile(storage.getContractListFilePath(),
+                JsonSerializableContractList.class).get();
+        assertFalse(migrated.hasEmbeddedParties());
+        assertEquals(List.of(ALICE_NIKE), storage.readContractList().get().getContractList());
+    }
+
+    @Test
+    public void readContractList_unknownAthlete_throwsDataLoadingException() throws Exception {
+        JsonContractListStorage storage = createStorageWithParties();
+        ContractList contracts = new ContractList();
+        contracts.addContract(new ContractBuilder(ALICE_NIKE).withAthlete(BENSON).build());
+        storage.saveContractList(contracts);
+
+        assertThrows(DataLoadingException.class, storage::readContractList);
+    }
+
+    @Test
+    public void readContractList_partiesReadLater_success() throws Exception {
+        JsonContractListStorage storage = createStorageWithParties();
+        ContractList original = new ContractList();
+        original.addContract(ALICE_NIKE);
+        storage.saveContractList(original);
+
+        CompletableFuture<ContractPartyIndex> parties = new CompletableFuture<>();
+        parties.completeAsync(() -> new ContractPartyIndex(List.of(ALICE), List.of(NIKE)),
+                CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS));
+        ReadOnlyContractList readBack = storage.readContractList(parties).get();
+        assertEquals(original.getContractList(), readBack.getContractList());
+        assertSame(ALICE, readBack.getContractList().get(0).getAthlete());
+        assertSame(NIKE, readBack.getContractList().get(0).getOrganization());
+    }
+
+    @Test
+    public void readContractList_partiesFailedToLoad_throwsDataLoadingException() throws Exception {
+        JsonContractListStorage storage = createStorageWithParties();
+        ContractList original = new ContractList();
+        original.addContract(ALICE_NIKE);
+        storage.saveContractList(original);
+
+        CompletableFuture<ContractPartyIndex> parties = CompletableFuture.failedFuture(
+                new CompletionException(new DataLoadingException(new IOException("athlete list error"))));
+        assertThrows(DataLoadingException.class, () -> storage.readContractList(parties));
+    }
+
+    /**
+     * Returns a storage in the temporary folder whose athlete and organization files hold ALICE and NIKE.
+     */
+    private JsonContractListStorage createStorageWithParties() throws IOException {
+        Path athletesFile = testFolder.resolve("athletes.json");
+        Path organizationsFile = testFolder.resolve("organizations.json");
+        AthleteList athletes = new AthleteList();
+        athletes.addAthlete(ALICE);
+        new JsonAthleteListStorage(athletesFile).saveAthleteList(athletes);
+        OrganizationList organizations = new OrganizationList();
+        organizations.addOrganization(NIKE);
+        new JsonOrganizationListStorage(organizationsFile).saveOrganizationList(organizations);
+        return new JsonContractListStorage(testFolder.resolve("contracts.json"), athletesFile, organizationsFile);
+    }
 }
@@ -1,14 +1,19 @@
 package seedu.address.storage;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.athlete.TypicalAthletes.getTypicalAthletes;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.athlete.AthleteList;
 
 public class JsonSerializableAthleteListTest {
 
@@ -18,6 +23,9 @@ public class JsonSerializableAthleteListTest {
     private static final Path INVALID_ATHLETE_FILE = TEST_DATA_FOLDER.resolve("invalidAthleteAthleteList.json");
     private static final Path DUPLICATE_ATHLETE_FILE = TEST_DATA_FOLDER.resolve("duplicateAthleteAthleteList.json");
 
+    @TempDir
+    public Path testFolder;
+
     // Commented out for now - data mismatch issue to be resolved later
     // @Test
     // public void toModelType_typicalAthletesFile_success() throws Exception {
@@ -44,4 +52,16 @@ public class JsonSerializableAthleteListTest {
                 dataFromFile::toModelType);
     }
 
+
+    @Test
+    public void saveModelType_typicalAthletes_sameAsSavedJsonFile() throws Exception {
+        AthleteList athletes = new AthleteList();
+        athletes.setAthletes(getTypicalAthletes());
+        Path streamedFile = testFolder.resolve("streamed.json");
+        Path serializedFile = testFolder.resolve("serialized.json");
+
+        JsonSerializableAthleteList.saveModelType(athletes, streamedFile);
+        JsonUtil.saveJsonFile(new JsonSerializableAthleteList(athletes), serializedFile);
+        assertArrayEquals(Files.readAllBytes(serializedFile), Files.readAllBytes(streamedFile));
+    }
 }
@@ -1,14 +1,19 @@
 package seedu.address.storage;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.contract.TypicalContracts.getTypicalContracts;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.contract.ContractList;
 
 public class JsonSerializableContractListTest {
 
@@ -21,6 +26,9 @@ public class JsonSerializableContractListTest {
     private static final Path DUPLICATE_CONTRACT_FILE =
         TEST_DATA_FOLDER.resolve("duplicateContractContractList.json");
 
+    @TempDir
+    public Path testFolder;
+
     // Commented out for now - data mismatch issue to be resolved later
     // @Test
     // public void toModelType_typicalContractsFile_success() throws Exception {
@@ -43,8 +51,21 @@ public class JsonSerializableContractListTest {
     public void toModelType_duplicateContracts_throwsIllegalValueException() throws Exception {
         JsonSerializableContractList dataFromFile = JsonUtil.readJsonFile(DUPLICATE_CONTRACT_FILE,
                 JsonSerializableContractList.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableContractList.MESSAGE_DUPLICATE_CONTRACT,
-                dataFromFile::toModelType);
+        String expectedMessage = String.format(JsonSerializableContractList.MESSAGE_DUPLICATE_CONTRACT,
+                "Lionel Messi", "Football", "Inter Miami CF", "Football", "01012024", "31122024", "5000000");
+        assertThrows(IllegalValueException.class, expectedMessage, dataFromFile::toModelType);
     }
 
+
+    @Test
+    public void saveModelType_typicalContracts_sameAsSavedJsonFile() throws Exception {
+        ContractList contracts = new ContractList();
+        contracts.setContracts(getTypicalContracts());
+        Path streamedFile = testFolder.resolve("streamed.json");
+        Path serializedFile = testFolder.resolve("serialized.json");
+
+        JsonSerializableContractList.saveModelType(contracts, streamedFile);
+        JsonUtil.saveJsonFile(new JsonSerializableContractList(contracts), serializedFile);
+        assertArrayEquals(Files.readAllBytes(serializedFile), Files.readAllBytes(streamedFile));
+    }
 }
@@ -1,14 +1,19 @@
 package seedu.address.storage;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalOrganizations.getTypicalOrganizations;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.organization.OrganizationList;
 
 public class JsonSerializableOrganizationListTest {
 
@@ -20,6 +25,11 @@ public class JsonSerializableOrganizationListTest {
         TEST_DATA_FOLDER.resolve("invalidOrganizationOrganizationList.json");
     private static final Path DUPLICATE_ORGANIZATION_FILE =
         TEST_DATA_FOLDER.resolve("duplicateOrganizationOrganizationList.json");
+    private static final Path COLLIDING_ORGANIZATION_FILE =
+        TEST_DATA_FOLDER.resolve("collidingOrganizationOrganizationList.json");
+
+    @TempDir
+    public Path testFolder;
 
     // Commented out for now - data mismatch issue to be resolved later
     // @Test
@@ -48,4 +58,28 @@ public class JsonSerializableOrganizationListTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_organizationsWithSameName_throwsIllegalValueException() throws Exception {
+        JsonSerializableOrganizationList dataFromFile = JsonUtil.readJsonFile(COLLIDING_ORGANIZATION_FILE,
+                JsonSerializableOrganizationList.class).get();
+        assertThrows(IllegalValueException.class,
+                JsonSerializableOrganizationList.MESSAGE_DUPLICATE_ORGANIZATION,
+                dataFromFile::toModelType);
+        assertThrows(IllegalValueException.class,
+                JsonSerializableOrganizationList.MESSAGE_DUPLICATE_ORGANIZATION, ()
+                -> JsonSerializableOrganizationList.readModelType(COLLIDING_ORGANIZATION_FILE));
+    }
+
+
+    @Test
+    public void saveModelType_typicalOrganizations_sameAsSavedJsonFile() throws Exception {
+        OrganizationList organizations = new OrganizationList();
+        organizations.setOrganizations(getTypicalOrganizations());
+        Path streamedFile = testFolder.resolve("streamed.json");
+        Path serializedFile = testFolder.resolve("serialized.json");
+
+        JsonSerializableOrganizationList.saveModelType(organizations, streamedFile);
+        JsonUtil.saveJsonFile(new JsonSerializableOrganizationList(organizations), serializedFile);
+        assertArrayEquals(Files.readAllBytes(serializedFile), Files.readAllBytes(streamedFile));
+    }
 }
@@ -1,22 +1,33 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalOrganizations.NIKE;
 import static seedu.address.testutil.TypicalOrganizations.getTypicalOrganizations;
+import static seedu.address.testutil.athlete.TypicalAthletes.ALICE;
 import static seedu.address.testutil.athlete.TypicalAthletes.getTypicalAthletes;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.athlete.AthleteList;
 import seedu.address.model.athlete.ReadOnlyAthleteList;
+import seedu.address.model.contract.Contract;
+import seedu.address.model.contract.ContractList;
 import seedu.address.model.organization.OrganizationList;
 import seedu.address.model.organization.ReadOnlyOrganizationList;
+import seedu.address.testutil.contract.ContractBuilder;
 
 public class StorageManagerTest {
 
@@ -105,4 +116,46 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getOrganizationListFilePath());
     }
 
+    @Test
+    public void readDataFiles_allFilesSaved_contractsShareListedParties() throws Exception {
+        AthleteList athletes = new AthleteList();
+        athletes.setAthletes(getTypicalAthletes());
+        storageManager.saveAthleteList(athletes);
+        OrganizationList organizations = new OrganizationList();
+        organizations.setOrganizations(getTypicalOrganizations());
+        storageManager.saveOrganizationList(organizations);
+        ContractList contracts = new ContractList();
+        contracts.addContract(new ContractBuilder().withAthlete(ALICE).withOrganization(NIKE).build());
+        storageManager.saveContractList(contracts);
+
+        StoredData storedData = storageManager.readDataFiles();
+        List<Contract> readContracts = storedData.getContractList().get().getContractList();
+        assertEquals(contracts.getContractList(), readContracts);
+        assertEquals(athletes.getAthleteList(), storedData.getAthleteList().get().getAthleteList());
+        assertEquals(organizations.getOrganizationList(),
+                storedData.getOrganizationList().get().getOrganizationList());
+
+        // Each file is parsed once, so the contract refers to the athlete and organization in the lists
+        int aliceIndex = getTypicalAthletes().indexOf(ALICE);
+        int nikeIndex = getTypicalOrganizations().indexOf(NIKE);
+        assertSame(storedData.getAthleteList().get().getAthleteList().get(aliceIndex),
+                readContracts.get(0).getAthlete());
+        assertSame(storedData.getOrganizationList().get().getOrganizationList().get(nikeIndex),
+                readContracts.get(0).getOrganization());
+    }
+
+    @Test
+    public void readDataFiles_missingFiles_emptyResult() throws Exception {
+        StoredData storedData = storageManager.readDataFiles();
+        assertFalse(storedData.getAthleteList().isPresent());
+        assertFalse(storedData.getOrganizationList().isPresent());
+        assertFalse(storedData.getContractList().isPresent());
+    }
+
+    @Test
+    public void readDataFiles_invalidAthleteFile_throwsDataLoadingException() throws Exception {
+        Files.writeString(getTempFilePath("athletes"), "not json");
+        assertThrows(DataLoadingException.class, storageManager::readDataFiles);
+    }
+
 }